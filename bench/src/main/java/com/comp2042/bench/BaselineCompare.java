@@ -0,0 +1,153 @@
+package com.comp2042.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares two JMH result files written with {@code -rf csv} and reports how
+ * each benchmark moved.
+ * <p>
+ * Throughput scores are better when higher; per-operation scores
+ * ({@code us/op}, {@code B/op}) and garbage collector metrics are better when
+ * lower. Any result that got worse by more than the threshold is flagged, and
+ * the exit status is 1 if there was at least one, so the tool can gate a CI job.
+ * </p>
+ * Usage:
+ * <pre>
+ *     java -cp bench/target/benchmarks.jar com.comp2042.bench.BaselineCompare baseline.csv results.csv [thresholdPercent]
+ * </pre>
+ */
+public final class BaselineCompare {
+
+    /** Default regression threshold, in percent. */
+    private static final double DEFAULT_THRESHOLD = 10.0;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private BaselineCompare() {
+    }
+
+    /**
+     * Runs the comparison.
+     *
+     * @param args the baseline file, the new results file, and an optional threshold in percent
+     * @throws IOException if a file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCompare baseline.csv results.csv [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-70s %14s %14.3f %9s  %s%n",
+                        entry.getKey(), "-", now.score, "new", now.unit);
+                continue;
+            }
+            double change = before.score == 0 ? 0 : (now.score - before.score) / before.score * 100;
+            double worse = now.lowerIsBetter() ? change : -change;
+            boolean regressed = worse > threshold;
+            if (regressed) regressions++;
+            System.out.printf(Locale.ROOT, "%-70s %14.3f %14.3f %+8.1f%%  %s%s%n",
+                    entry.getKey(), before.score, now.score, change, now.unit, regressed ? "  REGRESSION" : "");
+        }
+        System.out.printf(Locale.ROOT, "%d regression(s) beyond %.1f%%%n", regressions, threshold);
+        if (regressions > 0) System.exit(1);
+    }
+
+    /**
+     * One row of a JMH CSV result file.
+     *
+     * @param benchmark the benchmark or secondary metric name
+     * @param score     the measured score
+     * @param unit      the score unit
+     */
+    private record Result(String benchmark, double score, String unit) {
+
+        /**
+         * Tells whether a smaller score is an improvement.
+         *
+         * @return {@code true} for per-operation and garbage collector metrics
+         */
+        boolean lowerIsBetter() {
+            return unit.endsWith("/op") || benchmark.contains("gc.");
+        }
+    }
+
+    /**
+     * Reads a JMH CSV result file, keyed by benchmark name and parameters.
+     *
+     * @param file the file to read
+     * @return results in file order
+     * @throws IOException if the file cannot be read
+     */
+    private static Map<String, Result> read(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file);
+        Map<String, Result> results = new LinkedHashMap<>();
+        if (lines.isEmpty()) return results;
+
+        List<String> header = splitCsv(lines.get(0));
+        int nameCol = header.indexOf("Benchmark");
+        int scoreCol = header.indexOf("Score");
+        int unitCol = header.indexOf("Unit");
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) continue;
+            List<String> cells = splitCsv(line);
+            String name = cells.get(nameCol).replaceFirst("^com\\.comp2042\\.bench\\.", "");
+            StringBuilder key = new StringBuilder(name);
+            for (int c = 0; c < header.size(); c++) {
+                if (header.get(c).startsWith("Param: ") && !cells.get(c).isEmpty()) {
+                    key.append(' ').append(header.get(c).substring(7)).append('=').append(cells.get(c));
+                }
+            }
+            double score = Double.parseDouble(cells.get(scoreCol).replace(',', '.'));
+            results.put(key.toString(), new Result(name, score, cells.get(unitCol)));
+        }
+        return results;
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted fields.
+     *
+     * @param line the line to split
+     * @return the unquoted fields
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (ch == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (ch == ',' && !quoted) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(ch);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.core.BoardGrid;
+import com.comp2042.logic.core.GameSession;
+
+/**
+ * Fixed, repeatable boards that the benchmarks run against.
+ * Every fixture is built from the same deterministic pattern of garbage rows,
+ * each with one or two holes so that none of them is full; only the number of
+ * rows differs. The boards use the game's default size, and games played on
+ * them deal pieces from a generator seeded with {@link #FIXED_SEED}.
+ */
+public enum BoardFixture {
+
+    /** No locked cells. */
+    EMPTY(0),
+
+    /** Roughly half of the visible rows filled. */
+    HALF(16),
+
+    /** Stack a few rows below the spawn area. */
+    NEAR_TOP(28);
+
+    /** Board width used by every fixture. */
+    public static final int WIDTH = GameSession.BOARD_WIDTH;
+
+    /** Board height used by every fixture. */
+    public static final int HEIGHT = GameSession.BOARD_HEIGHT;
+
+    /** Seed of the piece sequence dealt on every fixture. */
+    public static final long FIXED_SEED = 2042L;
+
+    /** The garbage rows, top to bottom. */
+    private final int[][] rows;
+
+    /**
+     * Creates a fixture with the given number of garbage rows.
+     *
+     * @param filledRows number of rows pushed in from the bottom
+     */
+    BoardFixture(int filledRows) {
+        rows = new int[filledRows][WIDTH];
+        for (int i = 0; i < filledRows; i++) {
+            for (int c = 0; c < WIDTH; c++) rows[i][c] = 1 + (i + c) % 7;
+            rows[i][(i * 7) % WIDTH] = 0;
+            rows[i][(i * 3 + 5) % WIDTH] = 0;
+        }
+    }
+
+    /**
+     * Returns the number of garbage rows in this fixture.
+     *
+     * @return filled row count
+     */
+    public int getFilledRows() { return rows.length; }
+
+    /**
+     * Builds a new grid holding this fixture.
+     *
+     * @return a new board grid
+     */
+    public BoardGrid newGrid() {
+        BoardGrid grid = new BoardGrid(WIDTH, HEIGHT);
+        grid.pushRows(rows);
+        return grid;
+    }
+
+    /**
+     * Pushes this fixture's rows into an existing, empty grid without allocating.
+     *
+     * @param grid the grid to fill
+     */
+    public void fill(BoardGrid grid) {
+        grid.pushRows(rows);
+    }
+}
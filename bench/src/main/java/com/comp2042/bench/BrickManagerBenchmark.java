@@ -0,0 +1,110 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.bricks.BrickManager;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import com.comp2042.logic.core.TetrisBoard;
+import com.comp2042.logic.core.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the falling-piece operations a player triggers on every key
+ * press: sideways moves, rotation, spawning, and reading the view data.
+ * The state is rebuilt before every iteration so that the falling brick
+ * starts from the spawn position on the chosen fixture, and the pieces come
+ * from a seeded generator so every run and iteration works on the same ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickManagerBenchmark {
+
+    /** The board the falling brick moves over. */
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixture fixture;
+
+    /** Brick manager on its own copy of the fixture. */
+    private BrickManager manager;
+
+    /** Full board on its own copy of the fixture. */
+    private TetrisBoard board;
+
+    /**
+     * Builds fresh boards for the next iteration.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        manager = new BrickManager(fixture.newGrid(), new SevenBagGenerator(BoardFixture.FIXED_SEED),
+                BrickManager.DEFAULT_PREVIEW_COUNT);
+        manager.spawnNewBrick();
+        board = new TetrisBoard(fixture.newGrid(), new SevenBagGenerator(BoardFixture.FIXED_SEED));
+    }
+
+    /**
+     * Moves the brick one column right and back again.
+     *
+     * @return whether the move back succeeded
+     */
+    @Benchmark
+    public boolean moveSideways() {
+        manager.moveRight();
+        return manager.moveLeft();
+    }
+
+    /**
+     * Rotates the brick, cycling through its rotation states.
+     *
+     * @return whether the rotation succeeded
+     */
+    @Benchmark
+    public boolean rotate() {
+        return manager.rotate();
+    }
+
+    /**
+     * Spawns the next brick at the top of the board.
+     *
+     * @return whether the spawn succeeded
+     */
+    @Benchmark
+    public boolean spawnNewBrick() {
+        return manager.spawnNewBrick();
+    }
+
+    /**
+     * Reads the view data of an unchanged brick.
+     *
+     * @return the view data
+     */
+    @Benchmark
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Moves the brick and reads the view data, as one key press does.
+     *
+     * @return the view data
+     */
+    @Benchmark
+    public ViewData moveAndGetViewData() {
+        board.moveBrickRight();
+        board.moveBrickLeft();
+        return board.getViewData();
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.bench;
+
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.ai.PlacementEnumerator;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.TetrominoType;
+import com.comp2042.logic.core.BoardGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the heuristic evaluator: scoring one candidate placement, which
+ * is what a bot does thousands of times per piece, and loading a whole board.
+ * The candidates are every reachable placement of every tetromino on the
+ * fixture, cycled through in turn, so lines-clearing placements are included
+ * in their natural proportion.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeuristicEvaluatorBenchmark {
+
+    /** The board the placements are scored on. */
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixture fixture;
+
+    /** Grid built from the fixture. */
+    private BoardGrid grid;
+
+    /** Evaluator under test, loaded with the grid. */
+    private HeuristicEvaluator evaluator;
+
+    /** Shapes of the candidate placements. */
+    private PieceShape[] shapes;
+
+    /** Columns of the candidate placements. */
+    private int[] xs;
+
+    /** Rows of the candidate placements. */
+    private int[] ys;
+
+    /** Index of the next candidate. */
+    private int next;
+
+    /**
+     * Builds the grid, loads the evaluator and collects the candidates.
+     */
+    @Setup
+    public void setUp() {
+        grid = fixture.newGrid();
+        evaluator = new HeuristicEvaluator();
+        evaluator.setBoard(grid);
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+        List<int[]> found = new ArrayList<>();
+        List<PieceShape> foundShapes = new ArrayList<>();
+        for (TetrominoType type : TetrominoType.values()) {
+            int count = enumerator.enumerate(grid, type, 0, 0, 1);
+            for (int i = 0; i < count; i++) {
+                foundShapes.add(enumerator.getShape(i));
+                found.add(new int[]{enumerator.getX(i), enumerator.getY(i)});
+            }
+        }
+        shapes = foundShapes.toArray(new PieceShape[0]);
+        xs = new int[shapes.length];
+        ys = new int[shapes.length];
+        for (int i = 0; i < shapes.length; i++) {
+            xs[i] = found.get(i)[0];
+            ys[i] = found.get(i)[1];
+        }
+    }
+
+    /**
+     * Scores the next candidate placement against the loaded board.
+     *
+     * @return the score
+     */
+    @Benchmark
+    public double evaluatePlacement() {
+        int i = next;
+        next = i + 1 == shapes.length ? 0 : i + 1;
+        return evaluator.evaluatePlacement(shapes[i], xs[i], ys[i]);
+    }
+
+    /**
+     * Loads the whole board into the evaluator and scores it.
+     *
+     * @return the score
+     */
+    @Benchmark
+    public double evaluateBoard() {
+        return evaluator.evaluate(grid);
+    }
+}
@@ -0,0 +1,147 @@
+package com.comp2042.bench;
+
+import com.comp2042.ai.HeuristicEvaluator;
+import com.comp2042.ai.Move;
+import com.comp2042.ai.PlacementEnumerator;
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import com.comp2042.logic.core.BoardGrid;
+import com.comp2042.logic.core.ClearRow;
+import com.comp2042.logic.core.GameSession;
+import com.comp2042.logic.core.TetrisBoard;
+import com.comp2042.logic.core.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a full piece cycle: position, hard drop, lock, clear and spawn.
+ * <p>
+ * The pieces come from a seven-bag generator with a fixed seed, and each one
+ * is walked to a place chosen ahead of time: in setup, a scratch game on the
+ * same fixture is played by a {@link HeuristicEvaluator} that picks the best
+ * reachable placement of every piece, and the moves to each placement are
+ * kept. The measured game replays those moves, so it stacks and clears lines
+ * the way real play does, the same on every run. When the plan runs out, or
+ * the stack tops out, the game is restarted with a fresh generator and the
+ * fixture pushed back in place; that restore is part of the measurement and
+ * allocates only the new generator and its queue, once every
+ * {@value #PLAN_PIECES} pieces at most.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockCycleBenchmark {
+
+    /** Most pieces planned before the game is restarted. */
+    static final int PLAN_PIECES = 1024;
+
+    /** The board the game starts from. */
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixture fixture;
+
+    /** Grid shared with the session, refilled on restart. */
+    private BoardGrid grid;
+
+    /** The game being played. */
+    private GameSession session;
+
+    /** Moves of every planned piece, back to back. */
+    private Move[] moves;
+
+    /** End of each planned piece's moves in {@link #moves}. */
+    private int[] pieceEnds;
+
+    /** Index of the next planned piece. */
+    private int piece;
+
+    /**
+     * Plans the placements and starts a game on the fixture.
+     */
+    @Setup
+    public void setUp() {
+        plan();
+        grid = fixture.newGrid();
+        session = new GameSession(new TetrisBoard(grid, new SevenBagGenerator(BoardFixture.FIXED_SEED)));
+        piece = 0;
+    }
+
+    /**
+     * Places one brick and locks it.
+     *
+     * @return the rows cleared by the lock
+     */
+    @Benchmark
+    public ClearRow lockClearSpawn() {
+        if (piece == pieceEnds.length || session.isGameOver()) {
+            session.newGame(new SevenBagGenerator(BoardFixture.FIXED_SEED));
+            fixture.fill(grid);
+            piece = 0;
+        }
+        int start = piece == 0 ? 0 : pieceEnds[piece - 1];
+        int end = pieceEnds[piece++];
+        for (int i = start; i < end; i++) moves[i].apply(session);
+        return session.hardDrop();
+    }
+
+    /**
+     * Plays a scratch game on the fixture with the benchmark's piece sequence,
+     * placing every piece where the evaluator scores best, and records the
+     * moves to each placement. Moves down at the end of a path are dropped,
+     * since the hard drop covers them.
+     */
+    private void plan() {
+        GameSession scratch = new GameSession(
+                new TetrisBoard(fixture.newGrid(), new SevenBagGenerator(BoardFixture.FIXED_SEED)));
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+        HeuristicEvaluator evaluator = new HeuristicEvaluator();
+        List<Move> planned = new ArrayList<>();
+        int[] ends = new int[PLAN_PIECES];
+        int count = 0;
+        while (count < PLAN_PIECES && !scratch.isGameOver()) {
+            ViewData view = scratch.getViewData();
+            int placements = enumerator.enumerate(scratch.getBoardView(), view.getBrickShape(),
+                    view.getxPosition(), view.getyPosition());
+            evaluator.setBoard(scratch.getBoardView());
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < placements; i++) {
+                double score = evaluator.evaluatePlacement(enumerator.getShape(i), enumerator.getX(i),
+                        enumerator.getY(i));
+                if (score > bestScore) {
+                    best = i;
+                    bestScore = score;
+                }
+            }
+            if (best >= 0) {
+                List<Move> path = enumerator.getPath(best);
+                int last = path.size();
+                while (last > 0 && path.get(last - 1) == Move.DOWN) last--;
+                for (Move move : path.subList(0, last)) {
+                    move.apply(scratch);
+                    planned.add(move);
+                }
+            }
+            scratch.hardDrop();
+            ends[count++] = planned.size();
+        }
+        moves = planned.toArray(new Move[0]);
+        pieceEnds = Arrays.copyOf(ends, count);
+    }
+}
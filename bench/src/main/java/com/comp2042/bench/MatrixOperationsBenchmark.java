@@ -0,0 +1,169 @@
+package com.comp2042.bench;
+
+import com.comp2042.logic.bricks.MatrixOperations;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.TetrominoType;
+import com.comp2042.logic.core.BoardGrid;
+import com.comp2042.logic.core.ClearRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the bitboard primitives: collision tests, merging piece masks,
+ * and locking a line followed by a row clear.
+ * <p>
+ * Each invocation tests one position; a cursor walks through every rotation of
+ * every tetromino at every column and row, so the results average over hits,
+ * misses and out-of-bounds rejections.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    /** The board the operations run against. */
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixture fixture;
+
+    /** Row masks copied from the fixture, stored with base 0. */
+    private long[] rows;
+
+    /** Scratch masks that merges are ORed into. */
+    private long[] scratch;
+
+    /** Grid used by the clear benchmark. */
+    private BoardGrid grid;
+
+    /** A single full-width row, locked and then cleared. */
+    private PieceShape line;
+
+    /** Row just above the fixture's stack, where the line is locked. */
+    private int lineRow;
+
+    /** Every rotation of every tetromino. */
+    private PieceShape[] shapes;
+
+    /** Positions swept by {@link #intersect()}: shape index, x and y. */
+    private int[] testShape, testX, testY;
+
+    /** In-bounds positions swept by {@link #merge()}. */
+    private int[] mergeShape, mergeX, mergeY;
+
+    /** Next entry of the intersect sweep. */
+    private int testCursor;
+
+    /** Next entry of the merge sweep. */
+    private int mergeCursor;
+
+    /**
+     * Builds the fixture and the position tables.
+     */
+    @Setup
+    public void setUp() {
+        grid = fixture.newGrid();
+        rows = new long[BoardFixture.HEIGHT];
+        for (int r = 0; r < rows.length; r++) rows[r] = grid.getRowMask(r);
+        scratch = rows.clone();
+
+        int[][] full = new int[1][BoardFixture.WIDTH];
+        Arrays.fill(full[0], 1);
+        line = new PieceShape(full);
+        lineRow = BoardFixture.HEIGHT - fixture.getFilledRows() - 1;
+
+        List<PieceShape> all = new ArrayList<>();
+        for (TetrominoType type : TetrominoType.values()) {
+            for (int i = 0; i < type.rotationCount(); i++) all.add(type.getShape(i));
+        }
+        shapes = all.toArray(new PieceShape[0]);
+
+        List<int[]> tests = new ArrayList<>();
+        List<int[]> merges = new ArrayList<>();
+        for (int s = 0; s < shapes.length; s++) {
+            for (int x = -2; x < BoardFixture.WIDTH; x++) {
+                for (int y = 0; y < BoardFixture.HEIGHT; y++) {
+                    tests.add(new int[]{s, x, y});
+                    boolean inBounds = x + shapes[s].getMinCol() >= 0
+                            && x + shapes[s].getMaxCol() < BoardFixture.WIDTH
+                            && y + shapes[s].getMaxRow() < BoardFixture.HEIGHT;
+                    if (inBounds) merges.add(new int[]{s, x, y});
+                }
+            }
+        }
+        testShape = column(tests, 0);
+        testX = column(tests, 1);
+        testY = column(tests, 2);
+        mergeShape = column(merges, 0);
+        mergeX = column(merges, 1);
+        mergeY = column(merges, 2);
+    }
+
+    /**
+     * Extracts one field of a list of position triples.
+     *
+     * @param entries the positions
+     * @param index   0 for the shape, 1 for x, 2 for y
+     * @return the extracted values
+     */
+    private static int[] column(List<int[]> entries, int index) {
+        int[] values = new int[entries.size()];
+        for (int i = 0; i < values.length; i++) values[i] = entries.get(i)[index];
+        return values;
+    }
+
+    /**
+     * Tests one piece position against the bitboard.
+     *
+     * @return whether the position collides
+     */
+    @Benchmark
+    public boolean intersect() {
+        int i = testCursor;
+        testCursor = i + 1 == testShape.length ? 0 : i + 1;
+        return MatrixOperations.intersect(rows, 0, BoardFixture.WIDTH, shapes[testShape[i]], testX[i], testY[i]);
+    }
+
+    /**
+     * ORs one piece's masks into the bitboard.
+     *
+     * @return the updated masks
+     */
+    @Benchmark
+    public long[] merge() {
+        int i = mergeCursor;
+        mergeCursor = i + 1 == mergeShape.length ? 0 : i + 1;
+        MatrixOperations.merge(scratch, 0, shapes[mergeShape[i]], mergeX[i], mergeY[i]);
+        return scratch;
+    }
+
+    /**
+     * Locks a full row on top of the stack and clears it, which leaves the
+     * board exactly as it was. Row clearing used to live in
+     * {@code MatrixOperations.checkRemoving}; it is now part of
+     * {@link BoardGrid#clearRows()}.
+     *
+     * @return the clear result
+     */
+    @Benchmark
+    public ClearRow clearRows() {
+        grid.merge(line, 0, lineRow);
+        return grid.clearRows();
+    }
+}
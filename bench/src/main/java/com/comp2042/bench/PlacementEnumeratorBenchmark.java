@@ -0,0 +1,69 @@
+package com.comp2042.bench;
+
+import com.comp2042.ai.PlacementEnumerator;
+import com.comp2042.logic.bricks.TetrominoType;
+import com.comp2042.logic.core.BoardGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the placement search that bots run for every piece: listing all
+ * reachable resting places of a freshly spawned piece. Each invocation uses
+ * the next tetromino type in turn, so the score is an average over all seven.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementEnumeratorBenchmark {
+
+    /** Tetromino types, cycled through by the benchmark. */
+    private static final TetrominoType[] TYPES = TetrominoType.values();
+
+    /** The board the pieces are placed on. */
+    @Param({"EMPTY", "HALF", "NEAR_TOP"})
+    public BoardFixture fixture;
+
+    /** Grid built from the fixture. */
+    private BoardGrid grid;
+
+    /** Enumerator under test, reused across invocations. */
+    private PlacementEnumerator enumerator;
+
+    /** Index of the next type to enumerate. */
+    private int next;
+
+    /**
+     * Builds the grid and the enumerator.
+     */
+    @Setup
+    public void setUp() {
+        grid = fixture.newGrid();
+        enumerator = new PlacementEnumerator();
+    }
+
+    /**
+     * Enumerates every placement of the next piece from the spawn position.
+     *
+     * @return the number of placements
+     */
+    @Benchmark
+    public int enumerate() {
+        TetrominoType type = TYPES[next];
+        next = next + 1 == TYPES.length ? 0 : next + 1;
+        return enumerator.enumerate(grid, type, 0, 0, 1);
+    }
+}
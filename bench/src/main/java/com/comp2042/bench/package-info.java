@@ -0,0 +1,3 @@
+/**contains the JMH benchmarks for the core engine and the tool that compares their results with a baseline*/
+
+package com.comp2042.bench;
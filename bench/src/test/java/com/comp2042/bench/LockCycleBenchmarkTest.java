@@ -0,0 +1,22 @@
+package com.comp2042.bench;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockCycleBenchmarkTest {
+
+    @Test
+    void testEveryFixtureClearsLines() {
+        for (BoardFixture fixture : BoardFixture.values()) {
+            LockCycleBenchmark benchmark = new LockCycleBenchmark();
+            benchmark.fixture = fixture;
+            benchmark.setUp();
+            int lines = 0;
+            for (int i = 0; i < 2 * LockCycleBenchmark.PLAN_PIECES; i++) {
+                lines += benchmark.lockClearSpawn().getLinesRemoved();
+            }
+            assertTrue(lines > 0, fixture + " cleared no lines");
+        }
+    }
+}
@@ -0,0 +1,568 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.BrickManager;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.TetrominoType;
+import com.comp2042.logic.core.BoardGrid;
+import com.comp2042.logic.core.GameSession;
+import com.comp2042.logic.core.ViewData;
+import com.comp2042.logic.core.Zobrist;
+import com.comp2042.sim.Policy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Autoplayer that looks several pieces ahead with a beam search.
+ * <p>
+ * The search starts from the live game: the board, the falling piece, the
+ * held piece and the preview queue. Each level places one more piece, either
+ * the next one in the sequence or, with hold, the held (or following) piece
+ * instead. Every reachable placement of every node in the beam is listed by a
+ * {@link PlacementEnumerator} and scored by a {@link HeuristicEvaluator}; only
+ * the best {@code beamWidth} candidates survive to the next level, and only
+ * those get a board of their own. The move played is the first move of the
+ * best line on the deepest level completed.
+ * </p>
+ * <p>
+ * With a {@link ForkJoinPool} the nodes of each level are split across the
+ * pool's threads, each with its own enumerator and evaluator; ties are broken
+ * by a fixed order, so the result does not depend on the thread count. With
+ * no pool the search runs on the caller's thread, which suits batch
+ * simulation where the games themselves run in parallel. A per-move time
+ * budget stops the search early; the best move of the last completed level
+ * is then returned.
+ * </p>
+ * <p>
+ * The same node is often reached more than once: through hold swaps within
+ * one search, and above all from one move to the next, since most of the
+ * positions searched for the next move were already searched for this one.
+ * The scored placements of each node are therefore kept in a
+ * {@link TranspositionTable} shared by all threads, keyed by the board's
+ * Zobrist hash and the pieces in play, and a node seen before costs a single
+ * lookup.
+ * </p>
+ * <p>
+ * A bot instance is meant to drive one game at a time.
+ * </p>
+ */
+public class BeamSearchBot implements Policy {
+
+    /** Beam width used by the no-argument constructor. */
+    public static final int DEFAULT_BEAM_WIDTH = 32;
+
+    /** Number of pieces searched by the no-argument constructor. */
+    public static final int DEFAULT_DEPTH = 3;
+
+    /** Number of expanded nodes cached when no capacity is given. */
+    public static final int DEFAULT_TABLE_CAPACITY = 4096;
+
+    /** Offset added to coordinates before packing them into a placement code. */
+    private static final int COORD_BIAS = 8;
+
+    /** Best candidates first; ties go to the candidate found first. */
+    private static final Comparator<Candidate> BEST_FIRST =
+            Comparator.comparingDouble((Candidate c) -> -c.value).thenComparingLong(c -> c.order);
+
+    /** Worst candidates first, for the bounded heaps. */
+    private static final Comparator<Candidate> WORST_FIRST = BEST_FIRST.reversed();
+
+    /** Weights used to score positions. */
+    private final EvaluatorWeights weights;
+
+    /** Number of candidates kept per level. */
+    private final int beamWidth;
+
+    /** Number of pieces placed along each line, including the falling one. */
+    private final int depth;
+
+    /** Time allowed per move, in nanoseconds, or 0 for no limit. */
+    private final long budgetNanos;
+
+    /** Pool the levels are expanded on, or {@code null} for the caller's thread. */
+    private final ForkJoinPool pool;
+
+    /** Scored placements of the nodes searched so far, or {@code null} for no caching. */
+    private final TranspositionTable<Expansion> table;
+
+    /** One set of search buffers per parallel task. */
+    private final Worker[] workers;
+
+    /** Enumerator used to find the path of the chosen move on the live game. */
+    private final PlacementEnumerator pathFinder = new PlacementEnumerator();
+
+    /** Number of searches cut short by the time budget. */
+    private int timeouts;
+
+    /**
+     * Creates a single-threaded bot with default weights, beam width and depth
+     * and no time budget.
+     */
+    public BeamSearchBot() {
+        this(EvaluatorWeights.DEFAULT, DEFAULT_BEAM_WIDTH, DEFAULT_DEPTH, 0, null);
+    }
+
+    /**
+     * Creates a bot.
+     *
+     * @param weights     weights used to score positions
+     * @param beamWidth   number of candidates kept per level (at least 1)
+     * @param depth       number of pieces to place along each line (at least 1);
+     *                    lines stop early when the preview runs out
+     * @param budgetNanos time allowed per move in nanoseconds, or 0 for no limit
+     * @param pool        pool to expand levels on, or {@code null} to search on
+     *                    the calling thread
+     * @throws IllegalArgumentException if the beam width or depth is below 1
+     */
+    public BeamSearchBot(EvaluatorWeights weights, int beamWidth, int depth, long budgetNanos, ForkJoinPool pool) {
+        this(weights, beamWidth, depth, budgetNanos, pool, DEFAULT_TABLE_CAPACITY);
+    }
+
+    /**
+     * Creates a bot with a transposition table of the given size.
+     *
+     * @param weights       weights used to score positions
+     * @param beamWidth     number of candidates kept per level (at least 1)
+     * @param depth         number of pieces to place along each line (at least 1)
+     * @param budgetNanos   time allowed per move in nanoseconds, or 0 for no limit
+     * @param pool          pool to expand levels on, or {@code null} to search on
+     *                      the calling thread
+     * @param tableCapacity number of expanded nodes to cache, or 0 for none
+     * @throws IllegalArgumentException if the beam width or depth is below 1
+     *                                  or the capacity is negative
+     */
+    public BeamSearchBot(EvaluatorWeights weights, int beamWidth, int depth, long budgetNanos, ForkJoinPool pool,
+                         int tableCapacity) {
+        if (beamWidth < 1 || depth < 1) {
+            throw new IllegalArgumentException("Beam width and depth must be at least 1");
+        }
+        if (tableCapacity < 0) throw new IllegalArgumentException("Table capacity must not be negative");
+        this.table = tableCapacity == 0 ? null : new TranspositionTable<>(tableCapacity);
+        this.weights = weights;
+        this.beamWidth = beamWidth;
+        this.depth = depth;
+        this.budgetNanos = budgetNanos;
+        this.pool = pool;
+        this.workers = new Worker[pool == null ? 1 : pool.getParallelism()];
+        for (int i = 0; i < workers.length; i++) workers[i] = new Worker();
+    }
+
+    /**
+     * Searches for the best move and plays it: holds if the move says so,
+     * walks the piece to its place and hard drops it.
+     *
+     * @param session the game to play one piece in
+     */
+    @Override
+    public void playPiece(GameSession session) {
+        Decision decision = decide(session);
+        if (decision != null) {
+            if (decision.isHold()) session.hold();
+            ViewData view = session.getViewData();
+            int count = pathFinder.enumerate(session.getBoardView(), view.getBrickShape(),
+                    view.getxPosition(), view.getyPosition());
+            for (int i = 0; i < count; i++) {
+                if (pathFinder.getRotation(i) == decision.getRotation()
+                        && pathFinder.getX(i) == decision.getX() && pathFinder.getY(i) == decision.getY()) {
+                    for (Move move : pathFinder.getPath(i)) move.apply(session);
+                    break;
+                }
+            }
+        }
+        session.hardDrop();
+    }
+
+    /**
+     * Searches for the best move in the current position.
+     *
+     * @param session the game to search; it is not modified
+     * @return the best move, or {@code null} if the falling piece has nowhere to go
+     */
+    public Decision decide(GameSession session) {
+        long deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        ViewData view = session.getViewData();
+        PieceShape shape = view.getBrickShape();
+        PieceShape heldShape = session.getHeldBrickShape();
+        TetrominoType[] queue = new TetrominoType[session.getPreviewCount()];
+        for (int i = 0; i < queue.length; i++) queue[i] = TetrominoType.forShape(session.getPreviewShape(i));
+
+        TetrominoType current = TetrominoType.forShape(shape);
+        Node root = new Node(new BoardGrid(session.getBoardView()), current,
+                heldShape == null ? null : TetrominoType.forShape(heldShape), 0, session.canHold(), 0, null);
+        root.startRotation = current.rotationOf(shape);
+        root.startX = view.getxPosition();
+        root.startY = view.getyPosition();
+
+        Worker first = workers[0];
+        first.begin(deadline);
+        first.expand(root, queue);
+        List<Candidate> beam = select(1);
+        if (beam.isEmpty()) return null;
+
+        Candidate best = beam.get(0);
+        for (int level = 2; level <= depth; level++) {
+            if (System.nanoTime() >= deadline || !expandLevel(beam, queue, deadline)) {
+                timeouts++;
+                break;
+            }
+            List<Candidate> next = select(workers.length);
+            if (next.isEmpty()) break;
+            beam = next;
+            best = beam.get(0);
+        }
+        Decision line = best.parent.first;
+        return line == null
+                ? new Decision(best.hold, best.rotation, best.x, best.y, best.value)
+                : new Decision(line.isHold(), line.getRotation(), line.getX(), line.getY(), best.value);
+    }
+
+    /**
+     * Returns how many searches the time budget has cut short.
+     *
+     * @return the number of timed-out searches
+     */
+    public int getTimeouts() { return timeouts; }
+
+    /**
+     * Returns the table caching expanded nodes, for example to read its hit
+     * rate.
+     *
+     * @return the table, or {@code null} if caching is off
+     */
+    public TranspositionTable<?> getTable() { return table; }
+
+    /**
+     * Builds and expands the nodes of the next level, in parallel when a pool
+     * is set.
+     *
+     * @param beam     the candidates surviving the previous level
+     * @param queue    the upcoming pieces
+     * @param deadline time at which to give up
+     * @return {@code true} if the level was completed before the deadline
+     */
+    private boolean expandLevel(List<Candidate> beam, TetrominoType[] queue, long deadline) {
+        int tasks = Math.min(workers.length, beam.size());
+        for (int t = 0; t < tasks; t++) workers[t].begin(deadline);
+        if (tasks == 1) {
+            workers[0].expandAll(beam, 0, 1, queue);
+        } else {
+            ForkJoinTask<?>[] jobs = new ForkJoinTask<?>[tasks];
+            for (int t = 0; t < tasks; t++) {
+                int from = t;
+                jobs[t] = ForkJoinTask.adapt(() -> workers[from].expandAll(beam, from, tasks, queue));
+            }
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(jobs)));
+        }
+        for (int t = 0; t < tasks; t++) {
+            if (workers[t].timedOut) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gathers the best candidates of the first {@code tasks} workers.
+     *
+     * @param tasks number of workers that took part in the level
+     * @return up to {@code beamWidth} candidates, best first
+     */
+    private List<Candidate> select(int tasks) {
+        List<Candidate> all = new ArrayList<>();
+        for (int t = 0; t < tasks; t++) all.addAll(workers[t].heap);
+        all.sort(BEST_FIRST);
+        return all.size() > beamWidth ? new ArrayList<>(all.subList(0, beamWidth)) : all;
+    }
+
+    /**
+     * A position in the search: a board with the piece about to be placed.
+     */
+    private static final class Node {
+        /** Locked cells. */
+        final BoardGrid board;
+        /** Piece to place next, or {@code null} if it is beyond the preview. */
+        final TetrominoType current;
+        /** Held piece, or {@code null}. */
+        final TetrominoType held;
+        /** Index in the preview queue of the piece after {@code current}. */
+        final int queueIndex;
+        /** Whether hold may be used for {@code current}. */
+        final boolean canHold;
+        /** Weighted line-clear reward collected along the way. */
+        final double linesReward;
+        /** First move of the line leading here, or {@code null} for the root. */
+        final Decision first;
+        /** Rotation {@code current} starts in. */
+        int startRotation;
+        /** Column {@code current} starts at. */
+        int startX = BrickManager.SPAWN_X;
+        /** Row {@code current} starts at. */
+        int startY = BrickManager.SPAWN_Y;
+
+        /**
+         * Creates a node.
+         *
+         * @param board       locked cells
+         * @param current     piece to place next
+         * @param held        held piece
+         * @param queueIndex  preview index of the following piece
+         * @param canHold     whether hold is available
+         * @param linesReward line-clear reward so far
+         * @param first       first move of the line
+         */
+        Node(BoardGrid board, TetrominoType current, TetrominoType held, int queueIndex,
+             boolean canHold, double linesReward, Decision first) {
+            this.board = board;
+            this.current = current;
+            this.held = held;
+            this.queueIndex = queueIndex;
+            this.canHold = canHold;
+            this.linesReward = linesReward;
+            this.first = first;
+        }
+    }
+
+    /**
+     * A scored placement of a node's piece, not yet applied to a board.
+     */
+    private static final class Candidate {
+        /** Node the placement is made from. */
+        final Node parent;
+        /** Whether hold is used before placing. */
+        final boolean hold;
+        /** The piece placed. */
+        final TetrominoType piece;
+        /** Rotation at rest. */
+        final int rotation;
+        /** Column at rest. */
+        final int x;
+        /** Row at rest. */
+        final int y;
+        /** Score of the resulting position. */
+        final double value;
+        /** Tie-break key: parent rank, hold flag and placement index. */
+        final long order;
+
+        /**
+         * Creates a candidate.
+         *
+         * @param parent   node placed from
+         * @param hold     whether hold is used
+         * @param piece    piece placed
+         * @param rotation rotation at rest
+         * @param x        column at rest
+         * @param y        row at rest
+         * @param value    score
+         * @param order    tie-break key
+         */
+        Candidate(Node parent, boolean hold, TetrominoType piece, int rotation, int x, int y,
+                  double value, long order) {
+            this.parent = parent;
+            this.hold = hold;
+            this.piece = piece;
+            this.rotation = rotation;
+            this.x = x;
+            this.y = y;
+            this.value = value;
+            this.order = order;
+        }
+    }
+
+    /**
+     * The scored placements of a node, as cached in the transposition table.
+     * Each placement is packed into a code: the low 21 bits are its
+     * tie-break key (hold flag and index in the enumeration), followed by
+     * the rotation (2 bits) and the biased column (8 bits) and row (16 bits).
+     */
+    private static final class Expansion {
+        /** Hold flag of a placement code. */
+        static final long HOLD = 1L << 20;
+        /** Placement codes, in enumeration order. */
+        final long[] codes;
+        /** Score of each placement, without the node's line-clear reward. */
+        final double[] scores;
+
+        /**
+         * Creates an expansion.
+         *
+         * @param codes  placement codes
+         * @param scores placement scores
+         */
+        Expansion(long[] codes, double[] scores) {
+            this.codes = codes;
+            this.scores = scores;
+        }
+    }
+
+    /**
+     * Search buffers for one thread: an enumerator, an evaluator and a bounded
+     * heap of the best candidates it has seen on the current level.
+     */
+    private final class Worker {
+        /** Lists placements. */
+        final PlacementEnumerator enumerator = new PlacementEnumerator();
+        /** Scores placements. */
+        final HeuristicEvaluator evaluator = new HeuristicEvaluator(weights);
+        /** Best candidates so far, worst on top. */
+        final PriorityQueue<Candidate> heap = new PriorityQueue<>(WORST_FIRST);
+        /** Time at which to give up. */
+        long deadline;
+        /** Set when the deadline passed before all nodes were expanded. */
+        boolean timedOut;
+        /** Placement codes of the node being expanded. */
+        long[] codes = new long[64];
+        /** Scores of the node being expanded, without its line-clear reward. */
+        double[] scores = new double[64];
+        /** Number of placements in the scratch buffers. */
+        int size;
+
+        /**
+         * Clears the worker for a new level.
+         *
+         * @param deadline time at which to give up
+         */
+        void begin(long deadline) {
+            this.deadline = deadline;
+            this.timedOut = false;
+            heap.clear();
+        }
+
+        /**
+         * Applies and expands every {@code stride}-th candidate of the beam,
+         * starting at {@code from}.
+         *
+         * @param beam   the previous level's candidates, best first
+         * @param from   first index
+         * @param stride step between indices
+         * @param queue  the upcoming pieces
+         */
+        void expandAll(List<Candidate> beam, int from, int stride, TetrominoType[] queue) {
+            for (int i = from; i < beam.size(); i += stride) {
+                if (System.nanoTime() >= deadline) {
+                    timedOut = true;
+                    return;
+                }
+                Node node = apply(beam.get(i), queue);
+                if (node != null && node.current != null) expand(node, queue, i);
+            }
+        }
+
+        /**
+         * Lists and scores the placements of a node's piece, with and
+         * without hold.
+         *
+         * @param node  the node
+         * @param queue the upcoming pieces
+         */
+        void expand(Node node, TetrominoType[] queue) {
+            expand(node, queue, 0);
+        }
+
+        /**
+         * Offers every placement of a node's piece, with and without hold,
+         * to the heap. The placements come from the table if the node was
+         * expanded before, and are listed, scored and cached otherwise.
+         *
+         * @param node  the node
+         * @param queue the upcoming pieces
+         * @param rank  the node's position in its beam, for tie-breaking
+         */
+        void expand(Node node, TetrominoType[] queue, int rank) {
+            TetrominoType swapIn = node.held != null ? node.held
+                    : node.queueIndex < queue.length ? queue[node.queueIndex] : null;
+            if (!node.canHold || node.held == node.current) swapIn = null;
+
+            Expansion expansion = null;
+            long key = 0L;
+            if (table != null) {
+                long state = node.current.ordinal()
+                        | (swapIn == null ? 0L : swapIn.ordinal() + 1L) << 3
+                        | (long) node.startRotation << 7
+                        | (long) (node.startX + COORD_BIAS) << 9
+                        | (long) (node.startY + COORD_BIAS) << 17;
+                key = node.board.getZobristHash() ^ Zobrist.mix(state);
+                expansion = table.get(key);
+            }
+            if (expansion == null) {
+                size = 0;
+                evaluator.setBoard(node.board);
+                list(node.board, false, node.current, node.startRotation, node.startX, node.startY);
+                if (swapIn != null) list(node.board, true, swapIn, 0, BrickManager.SPAWN_X, BrickManager.SPAWN_Y);
+                expansion = new Expansion(Arrays.copyOf(codes, size), Arrays.copyOf(scores, size));
+                if (table != null) table.put(key, expansion);
+            }
+
+            for (int i = 0; i < expansion.codes.length; i++) {
+                double value = node.linesReward + expansion.scores[i];
+                if (heap.size() == beamWidth && value <= heap.peek().value) continue;
+                long code = expansion.codes[i];
+                boolean hold = (code & Expansion.HOLD) != 0;
+                Candidate candidate = new Candidate(node, hold, hold ? swapIn : node.current,
+                        (int) (code >>> 21) & 0x3, (int) (code >>> 23 & 0xFF) - COORD_BIAS,
+                        (int) (code >>> 31 & 0xFFFF) - COORD_BIAS, value, (long) rank << 21 | code & 0x1FFFFF);
+                heap.add(candidate);
+                if (heap.size() > beamWidth) heap.poll();
+            }
+        }
+
+        /**
+         * Lists and scores every placement of a piece into the scratch
+         * buffers.
+         *
+         * @param board    the board placed on
+         * @param hold     whether hold is used
+         * @param piece    the piece placed
+         * @param rotation starting rotation
+         * @param x        starting column
+         * @param y        starting row
+         */
+        void list(BoardGrid board, boolean hold, TetrominoType piece, int rotation, int x, int y) {
+            int count = enumerator.enumerate(board, piece, rotation, x, y);
+            if (size + count > codes.length) {
+                codes = Arrays.copyOf(codes, 2 * (size + count));
+                scores = Arrays.copyOf(scores, codes.length);
+            }
+            for (int i = 0; i < count; i++) {
+                int px = enumerator.getX(i);
+                int py = enumerator.getY(i);
+                codes[size] = (hold ? Expansion.HOLD : 0L) | i
+                        | (long) enumerator.getRotation(i) << 21
+                        | (long) (px + COORD_BIAS) << 23
+                        | (long) (py + COORD_BIAS) << 31;
+                scores[size++] = evaluator.evaluatePlacement(enumerator.getShape(i), px, py);
+            }
+        }
+
+        /**
+         * Locks a candidate's piece on a copy of its parent's board.
+         *
+         * @param candidate the placement
+         * @param queue     the upcoming pieces
+         * @return the resulting node, or {@code null} if the next piece cannot spawn
+         */
+        Node apply(Candidate candidate, TetrominoType[] queue) {
+            Node parent = candidate.parent;
+            BoardGrid board = new BoardGrid(parent.board);
+            board.merge(candidate.piece.getShape(candidate.rotation), candidate.x, candidate.y);
+            int lines = board.clearRows().getLinesRemoved();
+
+            TetrominoType held = parent.held;
+            int queueIndex = parent.queueIndex;
+            if (candidate.hold) {
+                held = parent.current;
+                if (parent.held == null) queueIndex++;
+            }
+            TetrominoType next = queueIndex < queue.length ? queue[queueIndex] : null;
+            if (next != null && board.intersects(next.getShape(0), BrickManager.SPAWN_X, BrickManager.SPAWN_Y)) {
+                return null;
+            }
+            Decision first = parent.first != null ? parent.first
+                    : new Decision(candidate.hold, candidate.rotation, candidate.x, candidate.y, candidate.value);
+            return new Node(board, next, held, queueIndex + 1, true,
+                    parent.linesReward + weights.getLinesCleared() * lines, first);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.ai;
+
+/**
+ * Where a bot wants the current piece to go: whether to use hold first, and
+ * the rotation and position the piece (or the piece that comes out of hold)
+ * should be locked at.
+ */
+public final class Decision {
+
+    /** Whether to press hold before moving the piece. */
+    private final boolean hold;
+
+    /** Rotation index of the piece at rest. */
+    private final int rotation;
+
+    /** Column of the piece at rest. */
+    private final int x;
+
+    /** Row of the piece at rest. */
+    private final int y;
+
+    /** Score the search gave the line this move starts. */
+    private final double score;
+
+    /**
+     * Creates a decision.
+     *
+     * @param hold     {@code true} to hold before moving
+     * @param rotation rotation index at rest
+     * @param x        column at rest
+     * @param y        row at rest
+     * @param score    the search score behind the decision
+     */
+    public Decision(boolean hold, int rotation, int x, int y, double score) {
+        this.hold = hold;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.score = score;
+    }
+
+    /**
+     * Checks whether hold should be used first.
+     *
+     * @return {@code true} to hold before moving
+     */
+    public boolean isHold() { return hold; }
+
+    /**
+     * Returns the rotation index of the piece at rest.
+     *
+     * @return rotation index
+     */
+    public int getRotation() { return rotation; }
+
+    /**
+     * Returns the column of the piece at rest.
+     *
+     * @return x position
+     */
+    public int getX() { return x; }
+
+    /**
+     * Returns the row of the piece at rest.
+     *
+     * @return y position
+     */
+    public int getY() { return y; }
+
+    /**
+     * Returns the score the search gave the best line starting with this move.
+     *
+     * @return the score
+     */
+    public double getScore() { return score; }
+
+    /**
+     * Returns a short description of the decision.
+     *
+     * @return the description
+     */
+    @Override
+    public String toString() {
+        return (hold ? "hold, " : "") + "rotation " + rotation + " at (" + x + ", " + y + ")";
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.ai;
+
+/**
+ * Weights of the board features scored by {@link HeuristicEvaluator}.
+ * A position's score is the weighted sum of its features, so features that
+ * make a board worse take negative weights. Instances are immutable and can
+ * be shared between threads.
+ */
+public final class EvaluatorWeights {
+
+    /**
+     * Default weights, in the spirit of the classic hand-tuned Tetris bots:
+     * keep the stack low, flat and free of holes, and reward clearing lines.
+     */
+    public static final EvaluatorWeights DEFAULT =
+            new EvaluatorWeights(-0.51, -3.6, -0.18, -0.32, -0.93, -0.34, 0.76);
+
+    /** Weight of the sum of all column heights. */
+    private final double aggregateHeight;
+
+    /** Weight of the number of holes. */
+    private final double holes;
+
+    /** Weight of the sum of height differences between neighbouring columns. */
+    private final double bumpiness;
+
+    /** Weight of the number of filled/empty changes along rows. */
+    private final double rowTransitions;
+
+    /** Weight of the number of filled/empty changes down columns. */
+    private final double columnTransitions;
+
+    /** Weight of the summed depth of wells. */
+    private final double wells;
+
+    /** Weight of the number of lines the placement clears. */
+    private final double linesCleared;
+
+    /**
+     * Creates a set of weights.
+     *
+     * @param aggregateHeight   weight of the sum of column heights
+     * @param holes             weight of the hole count
+     * @param bumpiness         weight of the bumpiness
+     * @param rowTransitions    weight of the row transitions
+     * @param columnTransitions weight of the column transitions
+     * @param wells             weight of the summed well depth
+     * @param linesCleared      weight of the lines cleared
+     */
+    public EvaluatorWeights(double aggregateHeight, double holes, double bumpiness, double rowTransitions,
+                            double columnTransitions, double wells, double linesCleared) {
+        this.aggregateHeight = aggregateHeight;
+        this.holes = holes;
+        this.bumpiness = bumpiness;
+        this.rowTransitions = rowTransitions;
+        this.columnTransitions = columnTransitions;
+        this.wells = wells;
+        this.linesCleared = linesCleared;
+    }
+
+    /**
+     * Returns the weight of the sum of column heights.
+     *
+     * @return the weight
+     */
+    public double getAggregateHeight() { return aggregateHeight; }
+
+    /**
+     * Returns the weight of the hole count.
+     *
+     * @return the weight
+     */
+    public double getHoles() { return holes; }
+
+    /**
+     * Returns the weight of the bumpiness.
+     *
+     * @return the weight
+     */
+    public double getBumpiness() { return bumpiness; }
+
+    /**
+     * Returns the weight of the row transitions.
+     *
+     * @return the weight
+     */
+    public double getRowTransitions() { return rowTransitions; }
+
+    /**
+     * Returns the weight of the column transitions.
+     *
+     * @return the weight
+     */
+    public double getColumnTransitions() { return columnTransitions; }
+
+    /**
+     * Returns the weight of the summed well depth.
+     *
+     * @return the weight
+     */
+    public double getWells() { return wells; }
+
+    /**
+     * Returns the weight of the lines cleared.
+     *
+     * @return the weight
+     */
+    public double getLinesCleared() { return linesCleared; }
+}
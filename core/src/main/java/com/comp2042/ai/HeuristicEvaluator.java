@@ -0,0 +1,317 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.MatrixOperations;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.core.BoardView;
+
+import java.util.Arrays;
+
+/**
+ * Scores board positions as a weighted sum of features:
+ * <ul>
+ *     <li>aggregate height: the sum of all column heights,</li>
+ *     <li>holes: empty cells below the top of their column,</li>
+ *     <li>bumpiness: the summed height difference of neighbouring columns,</li>
+ *     <li>row and column transitions, as counted by {@link BoardView},</li>
+ *     <li>wells: for each column, how far it sits below the lower of its
+ *     neighbours, the walls counting as full height,</li>
+ *     <li>lines cleared by the placement being scored.</li>
+ * </ul>
+ * <p>
+ * {@link #setBoard(BoardView)} loads a position from the features the board
+ * already tracks incrementally, which costs O(width + height).
+ * {@link #evaluatePlacement(PieceShape, int, int)} then scores "this position
+ * plus one piece" from the difference the piece makes: only the rows and
+ * columns it touches (and their neighbours) are looked at, so a candidate
+ * costs O(piece size) however big the board is. Placements that complete a
+ * row change every row above them, and are scored by recounting the
+ * features of the cleared board instead.
+ * </p>
+ * <p>
+ * The evaluator keeps its buffers between calls and allocates nothing after
+ * the first board of a given size. It is not thread-safe; give each thread
+ * its own instance.
+ * </p>
+ */
+public class HeuristicEvaluator {
+
+    /** Largest number of rows or columns a tetromino spans. */
+    private static final int PIECE_SIZE = 4;
+
+    /** Weights applied to the features. */
+    private final EvaluatorWeights weights;
+
+    /** Board width of the current buffers. */
+    private int width = -1;
+
+    /** Board height of the current buffers. */
+    private int height = -1;
+
+    /** Mask of a full row. */
+    private long fullRow;
+
+    /** Row masks of the loaded position, top row first. */
+    private long[] rows;
+
+    /** Column heights of the loaded position. */
+    private int[] heights;
+
+    /** Scratch rows for placements that clear lines. */
+    private long[] clearedRows;
+
+    /** Scratch column heights for placements that clear lines. */
+    private int[] clearedHeights;
+
+    /** Saved row masks of the rows a piece touches. */
+    private final long[] savedRows = new long[PIECE_SIZE];
+
+    /** Saved heights of the columns a piece touches. */
+    private final int[] savedHeights = new int[PIECE_SIZE];
+
+    /** Aggregate height of the loaded position. */
+    private int aggregateHeight;
+
+    /** Hole count of the loaded position. */
+    private int holes;
+
+    /** Bumpiness of the loaded position. */
+    private int bumpiness;
+
+    /** Summed well depth of the loaded position. */
+    private int wells;
+
+    /** Row transitions of the loaded position. */
+    private int rowTransitions;
+
+    /** Column transitions of the loaded position. */
+    private int columnTransitions;
+
+    /**
+     * Creates an evaluator with the default weights.
+     */
+    public HeuristicEvaluator() {
+        this(EvaluatorWeights.DEFAULT);
+    }
+
+    /**
+     * Creates an evaluator with the given weights.
+     *
+     * @param weights the feature weights
+     */
+    public HeuristicEvaluator(EvaluatorWeights weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Returns the weights this evaluator applies.
+     *
+     * @return the weights
+     */
+    public EvaluatorWeights getWeights() { return weights; }
+
+    /**
+     * Loads a position and returns its score.
+     *
+     * @param board the position to score
+     * @return the weighted sum of its features
+     */
+    public double evaluate(BoardView board) {
+        setBoard(board);
+        return score(aggregateHeight, holes, bumpiness, rowTransitions, columnTransitions, wells, 0);
+    }
+
+    /**
+     * Loads a position for scoring placements on it. Column heights, holes and
+     * transitions come straight from the board; bumpiness and wells are
+     * derived from the column heights.
+     *
+     * @param board the position placements will be scored on
+     */
+    public void setBoard(BoardView board) {
+        if (board.getWidth() != width || board.getHeight() != height) {
+            width = board.getWidth();
+            height = board.getHeight();
+            fullRow = MatrixOperations.fullRowMask(width);
+            rows = new long[height];
+            heights = new int[width];
+            clearedRows = new long[height];
+            clearedHeights = new int[width];
+        }
+        for (int r = 0; r < height; r++) rows[r] = board.getRowMask(r);
+        aggregateHeight = 0;
+        for (int c = 0; c < width; c++) {
+            heights[c] = board.getColumnHeight(c);
+            aggregateHeight += heights[c];
+        }
+        holes = board.getTotalHoles();
+        rowTransitions = board.getRowTransitions();
+        columnTransitions = board.getColumnTransitions();
+        bumpiness = bumpiness(heights, 0, width - 1);
+        wells = wells(heights, 0, width - 1);
+    }
+
+    /**
+     * Scores the loaded position with a piece locked at the given place. The
+     * piece must fit there; it does not have to be resting.
+     *
+     * @param shape the piece's rotation
+     * @param x     the piece's column
+     * @param y     the piece's row
+     * @return the weighted sum of the resulting position's features
+     */
+    public double evaluatePlacement(PieceShape shape, int x, int y) {
+        int top = y + shape.getMinRow();
+        int bottom = y + shape.getMaxRow();
+        int left = x + shape.getMinCol();
+        int right = x + shape.getMaxCol();
+        int pairTop = Math.max(0, top - 1);
+
+        int rowDelta = 0;
+        int columnDelta = 0;
+        int lines = 0;
+        for (int r = top; r <= bottom; r++) {
+            rowDelta -= MatrixOperations.rowTransitions(rows[r], width);
+        }
+        for (int r = pairTop; r <= bottom; r++) columnDelta -= transitionsBelow(rows, r);
+        for (int r = top; r <= bottom; r++) {
+            savedRows[r - top] = rows[r];
+            long cells = shape.getRowMask(r - y);
+            rows[r] |= x >= 0 ? cells << x : cells >>> -x;
+            if (rows[r] == fullRow) lines++;
+        }
+
+        double result;
+        if (lines > 0) {
+            result = scoreCleared(lines);
+        } else {
+            for (int r = top; r <= bottom; r++) {
+                rowDelta += MatrixOperations.rowTransitions(rows[r], width);
+            }
+            for (int r = pairTop; r <= bottom; r++) columnDelta += transitionsBelow(rows, r);
+
+            int near = Math.max(0, left - 1);
+            int far = Math.min(width - 1, right + 1);
+            int bumpDelta = -bumpiness(heights, near, far);
+            int wellDelta = -wells(heights, near, far);
+            int heightDelta = 0;
+            for (int c = left; c <= right; c++) savedHeights[c - left] = heights[c];
+            for (int i = 0; i < shape.getCellCount(); i++) {
+                int c = x + shape.getCellCol(i);
+                heights[c] = Math.max(heights[c], height - (y + shape.getCellRow(i)));
+            }
+            for (int c = left; c <= right; c++) heightDelta += heights[c] - savedHeights[c - left];
+            bumpDelta += bumpiness(heights, near, far);
+            wellDelta += wells(heights, near, far);
+            for (int c = left; c <= right; c++) heights[c] = savedHeights[c - left];
+
+            int holeDelta = heightDelta - shape.getCellCount();
+            result = score(aggregateHeight + heightDelta, holes + holeDelta, bumpiness + bumpDelta,
+                    rowTransitions + rowDelta, columnTransitions + columnDelta, wells + wellDelta, 0);
+        }
+
+        for (int r = top; r <= bottom; r++) rows[r] = savedRows[r - top];
+        return result;
+    }
+
+    /**
+     * Scores the current rows after removing the full ones, recounting every
+     * feature on the scratch buffers.
+     *
+     * @param lines number of full rows
+     * @return the weighted sum of the cleared position's features
+     */
+    private double scoreCleared(int lines) {
+        int dst = height - 1;
+        for (int r = height - 1; r >= 0; r--) {
+            if (rows[r] != fullRow) clearedRows[dst--] = rows[r];
+        }
+        for (; dst >= 0; dst--) clearedRows[dst] = 0L;
+
+        Arrays.fill(clearedHeights, 0);
+        long seen = 0L;
+        int cells = 0;
+        int rowCount = 0;
+        int columnCount = 0;
+        for (int r = 0; r < height; r++) {
+            long mask = clearedRows[r];
+            for (long fresh = mask & ~seen; fresh != 0; fresh &= fresh - 1) {
+                clearedHeights[Long.numberOfTrailingZeros(fresh)] = height - r;
+            }
+            seen |= mask;
+            cells += Long.bitCount(mask);
+            rowCount += MatrixOperations.rowTransitions(mask, width);
+            columnCount += transitionsBelow(clearedRows, r);
+        }
+        int aggregate = 0;
+        for (int h : clearedHeights) aggregate += h;
+        return score(aggregate, aggregate - cells, bumpiness(clearedHeights, 0, width - 1),
+                rowCount, columnCount, wells(clearedHeights, 0, width - 1), lines);
+    }
+
+    /**
+     * Applies the weights to a set of feature values.
+     *
+     * @param aggregate   aggregate height
+     * @param holeCount   holes
+     * @param bumps       bumpiness
+     * @param rowCount    row transitions
+     * @param columnCount column transitions
+     * @param wellDepth   summed well depth
+     * @param lines       lines cleared
+     * @return the weighted sum
+     */
+    private double score(int aggregate, int holeCount, int bumps, int rowCount, int columnCount,
+                         int wellDepth, int lines) {
+        return weights.getAggregateHeight() * aggregate
+                + weights.getHoles() * holeCount
+                + weights.getBumpiness() * bumps
+                + weights.getRowTransitions() * rowCount
+                + weights.getColumnTransitions() * columnCount
+                + weights.getWells() * wellDepth
+                + weights.getLinesCleared() * lines;
+    }
+
+    /**
+     * Counts the column transitions between a row and the one below it, or
+     * the floor for the bottom row.
+     *
+     * @param masks row masks, top row first
+     * @param row   the upper row
+     * @return the number of transitions
+     */
+    private int transitionsBelow(long[] masks, int row) {
+        return MatrixOperations.columnTransitions(masks[row], row == height - 1 ? fullRow : masks[row + 1]);
+    }
+
+    /**
+     * Sums the height differences of neighbouring columns within a range.
+     *
+     * @param h    column heights
+     * @param from first column, inclusive
+     * @param to   last column, inclusive
+     * @return the bumpiness of the pairs inside the range
+     */
+    private static int bumpiness(int[] h, int from, int to) {
+        int sum = 0;
+        for (int c = from; c < to; c++) sum += Math.abs(h[c] - h[c + 1]);
+        return sum;
+    }
+
+    /**
+     * Sums the well depth of the columns within a range.
+     *
+     * @param h    column heights
+     * @param from first column, inclusive
+     * @param to   last column, inclusive
+     * @return the summed depth of the wells inside the range
+     */
+    private int wells(int[] h, int from, int to) {
+        int sum = 0;
+        for (int c = from; c <= to; c++) {
+            int leftWall = c == 0 ? height : h[c - 1];
+            int rightWall = c == width - 1 ? height : h[c + 1];
+            sum += Math.max(0, Math.min(leftWall, rightWall) - h[c]);
+        }
+        return sum;
+    }
+}
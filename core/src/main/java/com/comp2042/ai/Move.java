@@ -0,0 +1,34 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.core.GameSession;
+
+/**
+ * One of the player operations that move the falling brick. These are exactly
+ * the operations a {@link GameSession} exposes, so a path of moves found by a
+ * search can be replayed on a real game.
+ */
+public enum Move {
+    /** Shift one column to the left. */
+    LEFT,
+    /** Shift one column to the right. */
+    RIGHT,
+    /** Rotate to the next rotation state. */
+    ROTATE,
+    /** Fall one row. */
+    DOWN;
+
+    /**
+     * Performs this move on a game.
+     *
+     * @param session the game whose falling brick should move
+     * @return {@code true} if the move succeeded
+     */
+    public boolean apply(GameSession session) {
+        return switch (this) {
+            case LEFT -> session.moveLeft();
+            case RIGHT -> session.moveRight();
+            case ROTATE -> session.rotate();
+            case DOWN -> session.moveDown();
+        };
+    }
+}
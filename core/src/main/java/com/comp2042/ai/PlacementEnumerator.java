@@ -0,0 +1,375 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.MatrixOperations;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.TetrominoType;
+import com.comp2042.logic.core.BoardView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lists every distinct resting place a piece can reach from its current
+ * position using the game's own moves: {@link Move#LEFT}, {@link Move#RIGHT},
+ * {@link Move#ROTATE} and {@link Move#DOWN}.
+ * <p>
+ * The search is a breadth-first walk over piece states {@code (rotation, x, y)}.
+ * Each state has a fixed index, so the visited set is a bitset and the queue
+ * and parent links are flat arrays. A state is a resting place when
+ * {@link Move#DOWN} is blocked. Two resting places that cover the same cells
+ * (different rotations of a symmetric piece) count once, and the first one
+ * found, which has the shortest path, is kept.
+ * </p>
+ * <p>
+ * Most of the board is usually empty rows above the stack, and every
+ * rotation and column reachable there is reachable at the spawn height too.
+ * So the search explores the spawn height, jumps straight down to the lowest
+ * row at which no rotation of the piece can touch the stack, and only then
+ * steps down one row at a time. The result is the same as a plain search but
+ * visits a few hundred states instead of thousands.
+ * </p>
+ * <p>
+ * The enumerator keeps its buffers between calls and allocates nothing after
+ * the first search on a board of a given size. It is not thread-safe; give
+ * each thread its own instance.
+ * </p>
+ */
+public class PlacementEnumerator {
+
+    /** Largest offset of a filled cell inside a shape matrix; x and y may go this far negative. */
+    private static final int PAD = 3;
+
+    /** Maximum number of rotation states of any tetromino. */
+    private static final int ROTATIONS = 4;
+
+    /** Parent link of the start state. */
+    private static final int NO_PARENT = -1;
+
+    /** Per type and rotation, the lowest rotation that covers the same cells. */
+    private static final int[][] CANONICAL_ROTATION = new int[TetrominoType.values().length][];
+
+    /** Per type, the lowest filled row of any rotation. */
+    private static final int[] MAX_ROW = new int[TetrominoType.values().length];
+
+    /** Move values, indexed by ordinal. */
+    private static final Move[] MOVES = Move.values();
+
+    static {
+        for (TetrominoType type : TetrominoType.values()) {
+            int[] canonical = new int[type.rotationCount()];
+            for (int r = 0; r < canonical.length; r++) {
+                canonical[r] = r;
+                for (int earlier = 0; earlier < r; earlier++) {
+                    if (sameCells(type.getShape(earlier), type.getShape(r))) {
+                        canonical[r] = earlier;
+                        break;
+                    }
+                }
+                MAX_ROW[type.ordinal()] = Math.max(MAX_ROW[type.ordinal()], type.getShape(r).getMaxRow());
+            }
+            CANONICAL_ROTATION[type.ordinal()] = canonical;
+        }
+    }
+
+    /** Board width of the current buffers. */
+    private int width = -1;
+
+    /** Board height of the current buffers. */
+    private int height = -1;
+
+    /** Number of x positions per row of the state space. */
+    private int xs;
+
+    /** Number of states per rotation. */
+    private int layer;
+
+    /** Copy of the board's row masks, top row first. */
+    private long[] rows;
+
+    /** Bitset of states already reached. */
+    private long[] visited;
+
+    /** Bitset of cell footprints already reported. */
+    private long[] placed;
+
+    /** Breadth-first queue of state indices. */
+    private int[] queue;
+
+    /** Predecessor of each reached state. */
+    private int[] parent;
+
+    /** Ordinal of the move that reached each state from its predecessor. */
+    private byte[] parentMove;
+
+    /** States of the placements found by the last search. */
+    private int[] results;
+
+    /** Number of placements found by the last search. */
+    private int count;
+
+    /** Piece type of the last search. */
+    private TetrominoType type;
+
+    /**
+     * Enumerates the placements of a piece given by its current shape, as
+     * found in {@link com.comp2042.logic.core.ViewData}.
+     *
+     * @param board the locked cells
+     * @param shape the piece's current rotation; must be one of the shared
+     *              {@link TetrominoType} shapes
+     * @param x     the piece's column
+     * @param y     the piece's row
+     * @return the number of distinct placements
+     * @throws IllegalArgumentException if {@code shape} is not a tetromino shape
+     */
+    public int enumerate(BoardView board, PieceShape shape, int x, int y) {
+        TetrominoType owner = TetrominoType.forShape(shape);
+        return enumerate(board, owner, owner.rotationOf(shape), x, y);
+    }
+
+    /**
+     * Enumerates the placements of a piece.
+     *
+     * @param board    the locked cells
+     * @param type     the piece type
+     * @param rotation the piece's rotation state
+     * @param x        the piece's column
+     * @param y        the piece's row
+     * @return the number of distinct placements; 0 if the start position collides
+     */
+    public int enumerate(BoardView board, TetrominoType type, int rotation, int x, int y) {
+        int emptyRows = prepare(board);
+        this.type = type;
+        this.count = 0;
+        if (collides(type.getShape(rotation), x, y)) return 0;
+
+        int rotations = type.rotationCount();
+        int[] canonical = CANONICAL_ROTATION[type.ordinal()];
+        int airFloor = emptyRows - 1 - MAX_ROW[type.ordinal()];
+        int head = 0;
+        int tail = 0;
+        int start = state(rotation, x, y);
+        setBit(visited, start);
+        parent[start] = NO_PARENT;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int s = queue[head++];
+            int sx = s % xs - PAD;
+            int sy = (s % layer) / xs - PAD;
+            int sr = s / layer;
+            PieceShape shape = type.getShape(sr);
+
+            if (sy < airFloor) {
+                tail = visit(state(sr, sx, airFloor), s, Move.DOWN, tail);
+            } else if (collides(shape, sx, sy + 1)) {
+                int footprint = (canonical[sr] * height + sy + shape.getMinRow()) * width + sx + shape.getMinCol();
+                if (!getBit(placed, footprint)) {
+                    setBit(placed, footprint);
+                    results[count++] = s;
+                }
+            } else {
+                tail = visit(state(sr, sx, sy + 1), s, Move.DOWN, tail);
+            }
+            if (!collides(shape, sx - 1, sy)) tail = visit(state(sr, sx - 1, sy), s, Move.LEFT, tail);
+            if (!collides(shape, sx + 1, sy)) tail = visit(state(sr, sx + 1, sy), s, Move.RIGHT, tail);
+            if (rotations > 1) {
+                int next = sr + 1 == rotations ? 0 : sr + 1;
+                if (!collides(type.getShape(next), sx, sy)) tail = visit(state(next, sx, sy), s, Move.ROTATE, tail);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of placements found by the last search.
+     *
+     * @return placement count
+     */
+    public int getCount() { return count; }
+
+    /**
+     * Returns the piece type of the last search.
+     *
+     * @return the piece type
+     */
+    public TetrominoType getType() { return type; }
+
+    /**
+     * Returns the column of a placement.
+     *
+     * @param index placement index, below {@link #getCount()}
+     * @return the piece's x at rest
+     */
+    public int getX(int index) { return results[checked(index)] % xs - PAD; }
+
+    /**
+     * Returns the row of a placement.
+     *
+     * @param index placement index, below {@link #getCount()}
+     * @return the piece's y at rest
+     */
+    public int getY(int index) { return (results[checked(index)] % layer) / xs - PAD; }
+
+    /**
+     * Returns the rotation state of a placement.
+     *
+     * @param index placement index, below {@link #getCount()}
+     * @return the rotation index
+     */
+    public int getRotation(int index) { return results[checked(index)] / layer; }
+
+    /**
+     * Returns the shape of a placement.
+     *
+     * @param index placement index, below {@link #getCount()}
+     * @return the piece's shape at rest
+     */
+    public PieceShape getShape(int index) { return type.getShape(getRotation(index)); }
+
+    /**
+     * Rebuilds a shortest sequence of moves from the start position to a
+     * placement. After the moves the piece rests there and can be locked.
+     *
+     * @param index placement index, below {@link #getCount()}
+     * @return the moves, in order
+     */
+    public List<Move> getPath(int index) {
+        List<Move> path = new ArrayList<>();
+        for (int s = results[checked(index)]; parent[s] != NO_PARENT; s = parent[s]) {
+            Move move = MOVES[parentMove[s]];
+            int steps = move == Move.DOWN ? (s % layer) / xs - (parent[s] % layer) / xs : 1;
+            for (int i = 0; i < steps; i++) path.add(move);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Sizes the buffers for the board, clears them and copies its rows.
+     *
+     * @param board the board to search
+     * @return the number of empty rows at the top of the board
+     */
+    private int prepare(BoardView board) {
+        if (board.getWidth() != width || board.getHeight() != height) {
+            width = board.getWidth();
+            height = board.getHeight();
+            xs = width + PAD;
+            layer = xs * (height + PAD);
+            int states = ROTATIONS * layer;
+            rows = new long[height];
+            visited = new long[(states + 63) >>> 6];
+            placed = new long[(ROTATIONS * width * height + 63) >>> 6];
+            queue = new int[states];
+            parent = new int[states];
+            parentMove = new byte[states];
+            results = new int[states];
+        }
+        Arrays.fill(visited, 0);
+        Arrays.fill(placed, 0);
+        int emptyRows = height;
+        for (int r = height - 1; r >= 0; r--) {
+            rows[r] = board.getRowMask(r);
+            if (rows[r] != 0) emptyRows = r;
+        }
+        return emptyRows;
+    }
+
+    /**
+     * Marks a state reached and queues it, unless it was reached before.
+     *
+     * @param s    the state
+     * @param from the state it was reached from
+     * @param move the move that reached it
+     * @param tail the queue tail
+     * @return the new queue tail
+     */
+    private int visit(int s, int from, Move move, int tail) {
+        if (getBit(visited, s)) return tail;
+        setBit(visited, s);
+        parent[s] = from;
+        parentMove[s] = (byte) move.ordinal();
+        queue[tail] = s;
+        return tail + 1;
+    }
+
+    /**
+     * Checks a piece position against the walls, floor and locked cells.
+     *
+     * @param shape the piece's rotation
+     * @param x     the piece's column
+     * @param y     the piece's row
+     * @return {@code true} if the position is blocked
+     */
+    private boolean collides(PieceShape shape, int x, int y) {
+        return MatrixOperations.intersect(rows, 0, width, shape, x, y);
+    }
+
+    /**
+     * Returns the index of a state.
+     *
+     * @param rotation rotation index
+     * @param x        column, at least {@code -PAD}
+     * @param y        row, at least {@code -PAD}
+     * @return the state index
+     */
+    private int state(int rotation, int x, int y) {
+        return rotation * layer + (y + PAD) * xs + x + PAD;
+    }
+
+    /**
+     * Validates a placement index.
+     *
+     * @param index the index
+     * @return the index
+     * @throws IndexOutOfBoundsException if it is not below {@link #getCount()}
+     */
+    private int checked(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Placement " + index + " of " + count);
+        }
+        return index;
+    }
+
+    /**
+     * Reads a bit.
+     *
+     * @param bits the bitset
+     * @param i    bit index
+     * @return whether the bit is set
+     */
+    private static boolean getBit(long[] bits, int i) {
+        return (bits[i >>> 6] & 1L << i) != 0;
+    }
+
+    /**
+     * Sets a bit.
+     *
+     * @param bits the bitset
+     * @param i    bit index
+     */
+    private static void setBit(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    /**
+     * Checks whether two shapes cover the same cells up to translation.
+     *
+     * @param a first shape
+     * @param b second shape
+     * @return {@code true} if one is a translated copy of the other
+     */
+    private static boolean sameCells(PieceShape a, PieceShape b) {
+        int rowsA = a.getMaxRow() - a.getMinRow();
+        if (rowsA != b.getMaxRow() - b.getMinRow()) return false;
+        for (int r = 0; r <= rowsA; r++) {
+            if (a.getRowMask(a.getMinRow() + r) >>> a.getMinCol() != b.getRowMask(b.getMinRow() + r) >>> b.getMinCol()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
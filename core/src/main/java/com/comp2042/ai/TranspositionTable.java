@@ -0,0 +1,206 @@
+package com.comp2042.ai;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache of search results keyed by 64-bit position
+ * hashes, such as a board's {@link com.comp2042.logic.core.BoardView#getZobristHash()
+ * Zobrist hash} combined with the state of the pieces.
+ * <p>
+ * The table is set-associative: a key can only live in the four slots of the
+ * bucket its hash selects. When all four are taken, the least recently used
+ * one is evicted, so the table never grows past its capacity and keeps the
+ * positions the search is currently working on. Buckets are guarded by a
+ * fixed set of locks, bucket {@code b} by lock {@code b % stripes}, so
+ * threads only wait for each other when they touch buckets on the same
+ * stripe, and then only for a few array reads.
+ * </p>
+ * <p>
+ * Two positions with the same 64-bit key are treated as the same position.
+ * With Zobrist keys the chance of that happening by accident is negligible.
+ * </p>
+ *
+ * @param <V> the type of cached values
+ */
+public final class TranspositionTable<V> {
+
+    /** Slots per bucket. */
+    private static final int WAYS = 4;
+
+    /** Keys of the slots. */
+    private final long[] keys;
+
+    /** Values of the slots, {@code null} for an empty slot. */
+    private final Object[] values;
+
+    /** Time of each slot's last use, on its stripe's clock. */
+    private final long[] lastUsed;
+
+    /** One lock per stripe. */
+    private final Object[] locks;
+
+    /** Per-stripe clock, advanced on every access under the stripe's lock. */
+    private final long[] clocks;
+
+    /** Mask selecting a bucket from a hash. */
+    private final int bucketMask;
+
+    /** Lookups that found their key. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Lookups that did not. */
+    private final LongAdder misses = new LongAdder();
+
+    /** Entries pushed out to make room. */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a table with sixteen lock stripes per available processor.
+     *
+     * @param capacity maximum number of entries; rounded up to a power of two,
+     *                 at least {@value #WAYS}
+     */
+    public TranspositionTable(int capacity) {
+        this(capacity, 16 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a table.
+     *
+     * @param capacity maximum number of entries; rounded up to a power of two,
+     *                 at least {@value #WAYS}
+     * @param stripes  number of locks; rounded up to a power of two and capped
+     *                 at the number of buckets
+     * @throws IllegalArgumentException if either argument is below 1
+     */
+    public TranspositionTable(int capacity, int stripes) {
+        if (capacity < 1 || stripes < 1) {
+            throw new IllegalArgumentException("Capacity and stripes must be at least 1");
+        }
+        int slots = Math.max(WAYS, ceilPowerOfTwo(capacity));
+        int buckets = slots / WAYS;
+        this.keys = new long[slots];
+        this.values = new Object[slots];
+        this.lastUsed = new long[slots];
+        this.bucketMask = buckets - 1;
+        int lockCount = Math.min(buckets, ceilPowerOfTwo(stripes));
+        this.locks = new Object[lockCount];
+        for (int i = 0; i < lockCount; i++) locks[i] = new Object();
+        this.clocks = new long[lockCount];
+    }
+
+    /**
+     * Looks up a key.
+     *
+     * @param key the position key
+     * @return the cached value, or {@code null} if the key is not in the table
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int bucket = bucketOf(key);
+        int stripe = bucket & (locks.length - 1);
+        int first = bucket * WAYS;
+        synchronized (locks[stripe]) {
+            for (int i = first; i < first + WAYS; i++) {
+                if (values[i] != null && keys[i] == key) {
+                    lastUsed[i] = ++clocks[stripe];
+                    hits.increment();
+                    return (V) values[i];
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores a value, replacing any value already stored under the key. If the
+     * key's bucket is full, its least recently used entry is evicted.
+     *
+     * @param key   the position key
+     * @param value the value to cache
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public void put(long key, V value) {
+        if (value == null) throw new NullPointerException("value");
+        int bucket = bucketOf(key);
+        int stripe = bucket & (locks.length - 1);
+        int first = bucket * WAYS;
+        synchronized (locks[stripe]) {
+            int victim = first;
+            for (int i = first; i < first + WAYS; i++) {
+                if (values[i] == null || keys[i] == key) {
+                    victim = i;
+                    break;
+                }
+                if (lastUsed[i] < lastUsed[victim]) victim = i;
+            }
+            if (values[victim] != null && keys[victim] != key) evictions.increment();
+            keys[victim] = key;
+            values[victim] = value;
+            lastUsed[victim] = ++clocks[stripe];
+        }
+    }
+
+    /**
+     * Removes every entry. The statistics are kept.
+     */
+    public void clear() {
+        for (int stripe = 0; stripe < locks.length; stripe++) {
+            synchronized (locks[stripe]) {
+                for (int bucket = stripe; bucket <= bucketMask; bucket += locks.length) {
+                    for (int i = bucket * WAYS; i < (bucket + 1) * WAYS; i++) values[i] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() { return keys.length; }
+
+    /**
+     * Returns the number of lookups that found their key.
+     *
+     * @return the hit count
+     */
+    public long getHits() { return hits.sum(); }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     *
+     * @return the miss count
+     */
+    public long getMisses() { return misses.sum(); }
+
+    /**
+     * Returns the number of entries evicted to make room for others.
+     *
+     * @return the eviction count
+     */
+    public long getEvictions() { return evictions.sum(); }
+
+    /**
+     * Picks the bucket of a key. Zobrist keys are already uniform, but the
+     * high bits are folded in so that other kinds of key work as well.
+     *
+     * @param key the key
+     * @return the bucket index
+     */
+    private int bucketOf(long key) {
+        return (int) (key ^ key >>> 32) & bucketMask;
+    }
+
+    /**
+     * Rounds up to a power of two.
+     *
+     * @param n a positive number
+     * @return the smallest power of two not below {@code n}
+     */
+    private static int ceilPowerOfTwo(int n) {
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+}
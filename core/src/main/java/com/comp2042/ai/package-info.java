@@ -0,0 +1,3 @@
+/**contains the search primitives and bots that analyse boards and choose where pieces go*/
+
+package com.comp2042.ai;
@@ -0,0 +1,125 @@
+package com.comp2042.cli;
+
+import com.comp2042.ai.BeamSearchBot;
+import com.comp2042.ai.EvaluatorWeights;
+import com.comp2042.logic.bricks.GeneratorType;
+import com.comp2042.logic.core.GameSession;
+import com.comp2042.sim.BatchReport;
+import com.comp2042.sim.BatchSimulator;
+import com.comp2042.sim.Policy;
+import com.comp2042.sim.RandomPolicy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * Command-line entry point that plays games without JavaFX.
+ * <p>
+ * Each game is driven by a {@link RandomPolicy}, where every brick gets a
+ * random number of rotations and a random sideways shift and is then hard
+ * dropped, or with {@code --bot beam} by a {@link BeamSearchBot}. Each bot
+ * searches on its own game's thread, since the games already fill the cores.
+ * Games run in parallel on a {@link BatchSimulator}. The run reports the
+ * result of every game (or only the aggregates with {@code --quiet}) and the
+ * overall throughput, which makes it a quick smoke test and a rough engine
+ * benchmark. Game {@code g} is seeded with {@code seed + g} for both its
+ * pieces and its policy, so a run with a fixed seed is fully reproducible.
+ * </p>
+ * Usage:
+ * <pre>
+ *     java -jar core.jar [--games N] [--pieces N] [--seed N] [--generator bag|random] [--threads N]
+ *                        [--bot random|beam] [--beam N] [--depth N] [--budget-ms N] [--quiet]
+ * </pre>
+ */
+public final class HeadlessMain {
+
+    /** Usage line printed for unknown options. */
+    private static final String USAGE =
+            "Usage: [--games N] [--pieces N] [--seed N] [--generator bag|random] [--threads N]"
+                    + " [--bot random|beam] [--beam N] [--depth N] [--budget-ms N] [--quiet]";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private HeadlessMain() {
+    }
+
+    /**
+     * Runs the simulation.
+     *
+     * @param args {@code --games} (default 1), {@code --pieces} per game
+     *             (default 1000), {@code --seed} for the pieces and the
+     *             move policy, {@code --generator} ({@code bag} or
+     *             {@code random}, default {@code bag}), {@code --threads}
+     *             (default: all cores), {@code --bot} ({@code random} or
+     *             {@code beam}, default {@code random}), the beam search's
+     *             {@code --beam} width, {@code --depth} and per-move
+     *             {@code --budget-ms} (default: no limit), and
+     *             {@code --quiet} to print only the aggregates
+     */
+    public static void main(String[] args) {
+        int games = 1;
+        int maxPieces = 1000;
+        long seed = System.nanoTime();
+        GeneratorType generator = GeneratorType.SEVEN_BAG;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean beamBot = false;
+        int beamWidth = BeamSearchBot.DEFAULT_BEAM_WIDTH;
+        int depth = BeamSearchBot.DEFAULT_DEPTH;
+        long budgetMillis = 0;
+        boolean quiet = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--pieces" -> maxPieces = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--generator" -> generator = "random".equals(args[++i])
+                        ? GeneratorType.RANDOM : GeneratorType.SEVEN_BAG;
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--bot" -> beamBot = "beam".equals(args[++i]);
+                case "--beam" -> beamWidth = Integer.parseInt(args[++i]);
+                case "--depth" -> depth = Integer.parseInt(args[++i]);
+                case "--budget-ms" -> budgetMillis = Long.parseLong(args[++i]);
+                case "--quiet" -> quiet = true;
+                default -> {
+                    System.err.println("Unknown option: " + args[i]);
+                    System.err.println(USAGE);
+                    System.exit(2);
+                }
+            }
+        }
+
+        long[] seeds = new long[games];
+        for (int g = 0; g < games; g++) seeds[g] = seed + g;
+
+        GeneratorType pieces = generator;
+        int width = beamWidth;
+        int searchDepth = depth;
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        LongFunction<Policy> policies = beamBot
+                ? s -> new BeamSearchBot(EvaluatorWeights.DEFAULT, width, searchDepth, budgetNanos, null)
+                : RandomPolicy::new;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        BatchReport report;
+        try {
+            BatchSimulator simulator = new BatchSimulator(pool,
+                    s -> new GameSession(pieces.create(s)), policies, maxPieces);
+            report = simulator.run(seeds);
+        } finally {
+            pool.shutdown();
+        }
+
+        if (!quiet) {
+            for (int g = 0; g < report.getGameCount(); g++) {
+                System.out.printf("game %d: %s%n", g + 1, report.getResult(g));
+            }
+        }
+        System.out.println("score:  " + report.getScore());
+        System.out.println("lines:  " + report.getLines());
+        System.out.println("pieces: " + report.getPieces());
+        System.out.printf("%d games, %d pieces in %.3f s on %d threads (%.0f pieces/s)%n",
+                games, report.getPieces().getSum(), report.getWallNanos() / 1e9, threads,
+                report.getPiecesPerSecond());
+    }
+}
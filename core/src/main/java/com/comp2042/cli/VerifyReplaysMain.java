@@ -0,0 +1,133 @@
+package com.comp2042.cli;
+
+import com.comp2042.replay.ReplayVerifier;
+import com.comp2042.replay.Verification;
+import com.comp2042.replay.VerificationReport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Command-line entry point that re-simulates recorded games and checks that
+ * each reproduces the score, lines and board it claims.
+ * <p>
+ * Every {@code .replay} file under the given directories (and any files
+ * named directly) is verified in parallel on a {@link ReplayVerifier}. The
+ * run prints every failure (and, unless {@code --quiet}, every file), the
+ * count per outcome and the throughput. Replays of abandoned or interrupted
+ * games claim no result; they are replayed and counted but cannot fail.
+ * The exit status is 1 if any replay failed to match or could not be read,
+ * which makes a directory of recorded games a determinism regression check
+ * for engine changes.
+ * </p>
+ * Usage:
+ * <pre>
+ *     java -cp core.jar com.comp2042.cli.VerifyReplaysMain [--threads N] [--quiet] PATH...
+ * </pre>
+ */
+public final class VerifyReplaysMain {
+
+    /** Usage line printed for unknown options. */
+    private static final String USAGE = "Usage: [--threads N] [--quiet] PATH...";
+
+    /** File name suffix of replay files. */
+    private static final String SUFFIX = ".replay";
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private VerifyReplaysMain() {
+    }
+
+    /**
+     * Runs the verification.
+     *
+     * @param args {@code --threads} (default: all cores), {@code --quiet} to
+     *             print only failures and totals, and the replay files or
+     *             directories to verify (default: {@code replays})
+     */
+    public static void main(String[] args) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean quiet = false;
+        List<Path> roots = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--quiet" -> quiet = true;
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        System.err.println("Unknown option: " + args[i]);
+                        System.err.println(USAGE);
+                        System.exit(2);
+                    }
+                    roots.add(Path.of(args[i]));
+                }
+            }
+        }
+        if (roots.isEmpty()) roots.add(Path.of("replays"));
+
+        List<Path> files;
+        try {
+            files = collect(roots);
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Cannot list replays: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        VerificationReport report;
+        try {
+            report = new ReplayVerifier(pool).verify(files);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < report.getFileCount(); i++) {
+            Verification v = report.getVerification(i);
+            boolean failed = v.getStatus() == Verification.Status.MISMATCH
+                    || v.getStatus() == Verification.Status.UNREADABLE;
+            if (failed) {
+                System.err.println(v);
+            } else if (!quiet) {
+                System.out.println(v);
+            }
+        }
+        System.out.printf("%d match, %d mismatch, %d unclaimed, %d unreadable%n",
+                report.getCount(Verification.Status.MATCH), report.getCount(Verification.Status.MISMATCH),
+                report.getCount(Verification.Status.UNCLAIMED), report.getCount(Verification.Status.UNREADABLE));
+        System.out.printf("%d replays, %d inputs in %.3f s on %d threads (%.0f replays/s, %.0f inputs/s)%n",
+                report.getFileCount(), report.getInputs(), report.getWallNanos() / 1e9, threads,
+                report.getReplaysPerSecond(), report.getInputsPerSecond());
+        if (!report.isClean()) System.exit(1);
+    }
+
+    /**
+     * Lists the replay files to verify, in a stable order.
+     *
+     * @param roots files and directories named on the command line
+     * @return named files, plus every replay file under the named directories
+     * @throws IOException if a directory cannot be listed
+     */
+    private static List<Path> collect(List<Path> roots) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path root : roots) {
+            if (!Files.isDirectory(root)) {
+                files.add(root);
+                continue;
+            }
+            try (Stream<Path> tree = Files.walk(root)) {
+                tree.filter(p -> p.getFileName().toString().endsWith(SUFFIX) && Files.isRegularFile(p))
+                        .sorted()
+                        .forEach(files::add);
+            }
+        }
+        return files;
+    }
+}
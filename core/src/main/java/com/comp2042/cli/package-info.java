@@ -0,0 +1,3 @@
+/**contains the headless command-line entry points that run the engine without a UI*/
+
+package com.comp2042.cli;
@@ -26,7 +26,7 @@ public class Brick {
 
 
     /**
-     * Returns the shape matrix of the brick in its current rotation state.
+     * Returns a copy of the shape matrix of the brick in its current rotation state.
      * The returned 2D array contains integer values indicating whether each cell
      * is filled (typically 1) or empty (typically 0).
      *
@@ -36,6 +36,15 @@ public class Brick {
         return type.getRotation(rotation);
     }
 
+    /**
+     * Returns the shared descriptor of the brick in its current rotation state.
+     *
+     * @return the {@link PieceShape} for the current rotation
+     */
+    public PieceShape getPieceShape() {
+        return type.getShape(rotation);
+    }
+
     /**
      * Rotates the brick clockwise to the next rotation state.
      * If the brick has reached its last rotation state, this method wraps back to
@@ -71,5 +80,14 @@ public class Brick {
     public int[][] getShapeMatrix() {
         return type.getRotation(0);
     }
+
+    /**
+     * Returns the shared descriptor of the brick's default (unrotated) shape.
+     *
+     * @return the {@link PieceShape} for rotation index {@code 0}
+     */
+    public PieceShape getDefaultPieceShape() {
+        return type.getShape(0);
+    }
 }
 
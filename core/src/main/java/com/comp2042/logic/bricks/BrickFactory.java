@@ -0,0 +1,22 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Factory class responsible for creating {@link Brick} instances.
+ * This class provides utility methods for constructing bricks of specific
+ * {@link TetrominoType}s; which types are dealt, and in what order, is
+ * decided by a seeded {@link PieceGenerator}.
+ * It encapsulates object creation to keep brick construction consistent
+ * throughout the game logic.
+ */
+public class BrickFactory {
+
+    /**
+     * Creates a new {@link Brick} instance based on the specified tetromino type.
+     *
+     * @param type the {@link TetrominoType} representing the brick's shape and rotations
+     * @return a new {@code Brick} of the given type
+     */
+    public static Brick createBrick(TetrominoType type) {
+        return new Brick(type);
+    }
+}
@@ -0,0 +1,401 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.core.BoardGrid;
+import com.comp2042.logic.core.ViewData;
+
+import java.awt.Point;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Manages the lifecycle, movement, rotation, and holding of Tetris bricks.
+ * <p>
+ * The {@code BrickManager} tracks the current falling brick, the queue of upcoming bricks,
+ * and the optionally held brick. It also performs collision checks, movement,
+ * and integrates bricks into the {@link BoardGrid} once they can no longer move.
+ * </p>
+ * <p>
+ * Moving, rotating and reading the view data allocate nothing: the position is
+ * kept in primitive fields, shapes are shared {@link PieceShape} descriptors,
+ * and {@link #getViewData()} refreshes a single reusable {@link ViewData}.
+ * </p>
+ * <p>
+ * The view data carries version stamps for the falling piece, its ghost, the
+ * held piece and the preview queue. The hold and preview stamps are bumped
+ * when those change; the piece and ghost stamps are bumped by
+ * {@link #getViewData()} when the shape or position it publishes differs
+ * from the last one.
+ * </p>
+ */
+public class BrickManager {
+
+    /** The game board grid used for collision checks and merging bricks. */
+    private final BoardGrid boardGrid;
+
+    /** The currently active falling brick. */
+    private Brick current;
+    /** Upcoming pieces; the front entry spawns after the current brick locks. */
+    private PieceQueue queue;
+
+    /** The brick stored using the hold mechanic (may be null). */
+    private Brick heldBrick = null;
+    /** Tracks whether hold has been used during the current turn. */
+    private boolean holdUsedThisTurn = false;
+
+    /** Column at which every new brick spawns. */
+    public static final int SPAWN_X = 0;
+
+    /** Row at which every new brick spawns. */
+    public static final int SPAWN_Y = 1;
+
+    /** Number of upcoming pieces kept when no preview count is given. */
+    public static final int DEFAULT_PREVIEW_COUNT = 5;
+
+    /** The x-coordinate (column) of the current brick on the board grid. */
+    private int currentX = SPAWN_X;
+
+    /** The y-coordinate (row) of the current brick on the board grid. */
+    private int currentY = SPAWN_Y;
+
+    /** View of the falling brick, refreshed in place by {@link #getViewData()}. */
+    private final ViewData viewData = new ViewData();
+
+    /** Cached result of {@link #dropDistance()}, or {@code -1} if it must be recomputed. */
+    private int cachedDropDistance = -1;
+
+    /** Board version the cached drop distance was computed against. */
+    private long cachedDropVersion;
+
+    /** Version stamp of the falling brick, see {@link ViewData#getPieceVersion()}. */
+    private long pieceVersion;
+
+    /** Version stamp of the ghost, see {@link ViewData#getGhostVersion()}. */
+    private long ghostVersion;
+
+    /** Version stamp of the held brick, see {@link ViewData#getHoldVersion()}. */
+    private long holdVersion;
+
+    /** Version stamp of the preview queue, see {@link ViewData#getPreviewVersion()}. */
+    private long previewVersion;
+
+    /**
+     * Creates a new {@code BrickManager} for the given board grid, dealing
+     * uniformly random pieces from an unpredictable seed.
+     *
+     * @param boardGrid the board on which bricks are placed and merged
+     */
+    public BrickManager(BoardGrid boardGrid) {
+        this(boardGrid, new RandomPieceGenerator(ThreadLocalRandom.current().nextLong()), DEFAULT_PREVIEW_COUNT);
+    }
+
+    /**
+     * Creates a new {@code BrickManager} for the given board grid, dealing
+     * pieces from the given generator.
+     * <p>
+     * The preview queue is filled straight away; the first piece becomes the
+     * current brick on the first call to {@link #spawnNewBrick()}.
+     * </p>
+     *
+     * @param boardGrid    the board on which bricks are placed and merged
+     * @param generator    source of the piece sequence
+     * @param previewCount number of upcoming pieces to expose (at least 1)
+     */
+    public BrickManager(BoardGrid boardGrid, PieceGenerator generator, int previewCount) {
+        this.boardGrid = boardGrid;
+        this.queue = new PieceQueue(generator, previewCount);
+        current = BrickFactory.createBrick(queue.peek(0));
+    }
+
+
+    /**
+     * Replaces the source of upcoming pieces, keeping the preview size. The
+     * preview is refilled from the new generator straight away; the current
+     * brick is unchanged until the next {@link #spawnNewBrick()}.
+     *
+     * @param generator the new source of the piece sequence
+     */
+    public void setGenerator(PieceGenerator generator) {
+        queue = new PieceQueue(generator, queue.getPreviewCount());
+        previewVersion++;
+    }
+
+    /**
+     * Spawns the next brick, generates a new upcoming brick,
+     * resets rotation, and resets the "hold used" flag.
+     *
+     * @return {@code true} if spawning is possible (no collision),
+     *         {@code false} if the new brick immediately collides (game over)
+     */
+    public boolean spawnNewBrick() {
+        current = BrickFactory.createBrick(queue.poll());
+        previewVersion++;
+
+        holdUsedThisTurn = false;
+        current.resetRotation();
+        currentX = SPAWN_X;
+        currentY = SPAWN_Y;
+        cachedDropDistance = -1;
+
+        return !boardGrid.intersects(
+                current.getPieceShape(),
+                currentX,
+                currentY
+        );
+    }
+
+    /**
+     * Activates the hold mechanic. If a brick is already held,
+     * it swaps with the current brick. Otherwise, the current brick is held
+     * and a new brick is spawned.
+     * <p>
+     * This method cannot be used more than once per brick drop.
+     * </p>
+     *
+     * @return a detached copy of the {@link ViewData} after the hold action
+     */
+
+    public ViewData holdPiece() {
+        if (holdUsedThisTurn) return getViewData().copy();
+
+        Brick temp = heldBrick;
+        heldBrick = current;
+        holdUsedThisTurn = true;
+        holdVersion++;
+
+        if (temp == null) {
+            spawnNewBrick();
+        } else {
+            current = temp;
+            current.resetRotation();
+            currentX = SPAWN_X;
+            currentY = SPAWN_Y;
+            cachedDropDistance = -1;
+        }
+
+        return getViewData().copy();
+    }
+
+    /**
+     * Checks whether hold can still be used for the current brick.
+     *
+     * @return {@code true} if {@link #holdPiece()} would swap or store the brick
+     */
+    public boolean canHold() {
+        return !holdUsedThisTurn;
+    }
+
+    /**
+     * Returns the matrix representation of the held brick for preview UI.
+     *
+     * @return a 2D array for the held piece, or {@code null} if no brick is held
+     */
+    public int[][] getHeldBrickMatrix() {
+        if (heldBrick == null) return null;
+        return heldBrick.getShapeMatrix();
+    }
+
+    /**
+     * Returns the shape descriptor of the held brick for preview UI.
+     *
+     * @return the held piece's default {@link PieceShape}, or {@code null} if no brick is held
+     */
+    public PieceShape getHeldBrickShape() {
+        if (heldBrick == null) return null;
+        return heldBrick.getDefaultPieceShape();
+    }
+
+    /**
+     * Resets the hold system by clearing the held brick
+     * and re-enabling hold usage.
+     */
+    public void resetHold() {
+        heldBrick = null;
+        holdUsedThisTurn = false;
+        holdVersion++;
+    }
+
+    /**
+     * Returns the matrix representation of the next brick for preview UI.
+     *
+     * @return a 2D array representing the next piece
+     */
+    public int[][] getNextShapePreview() {
+        return queue.peek(0).getRotation(0);
+    }
+
+    /**
+     * Returns an upcoming piece type without removing it from the queue.
+     *
+     * @param index 0 for the next piece, up to {@code getPreviewCount() - 1}
+     * @return the upcoming piece type
+     * @throws IndexOutOfBoundsException if {@code index} is outside the queue
+     */
+    public TetrominoType getPreview(int index) {
+        return queue.peek(index);
+    }
+
+    /**
+     * Returns the number of upcoming pieces exposed by {@link #getPreview(int)}.
+     *
+     * @return preview count
+     */
+    public int getPreviewCount() {
+        return queue.getPreviewCount();
+    }
+
+
+    /**
+     * Packages the current game state into {@link ViewData} for rendering.
+     * Includes the current brick shape, its position, its landing row,
+     * and a preview of the next brick.
+     * <p>
+     * The same instance is refreshed and returned on every call, so callers
+     * must read it straight away; use {@link ViewData#copy()} to keep it.
+     * </p>
+     *
+     * @return the shared, up-to-date {@code ViewData}
+     */
+    public ViewData getViewData() {
+        PieceShape shape = current.getPieceShape();
+        int ghostY = currentY + dropDistance();
+        boolean moved = shape != viewData.getBrickShape() || currentX != viewData.getxPosition();
+        if (moved || currentY != viewData.getyPosition()) pieceVersion++;
+        if (moved || ghostY != viewData.getGhostYPosition()) ghostVersion++;
+        viewData.set(
+                shape,
+                currentX,
+                currentY,
+                ghostY,
+                queue.peek(0).getShape(0)
+        );
+        viewData.setVersions(pieceVersion, ghostVersion, holdVersion, previewVersion);
+        return viewData;
+    }
+
+    /**
+     * Returns how many rows the current brick can fall before it lands.
+     * The value is cached and only recomputed after the brick is spawned,
+     * held, rotated or moved sideways, or after the board changes; moving
+     * straight down just shortens the cached distance.
+     *
+     * @return the number of rows the current brick can drop
+     */
+    public int dropDistance() {
+        if (cachedDropDistance < 0 || cachedDropVersion != boardGrid.getVersion()) {
+            cachedDropDistance = boardGrid.dropDistance(current.getPieceShape(), currentX, currentY);
+            cachedDropVersion = boardGrid.getVersion();
+        }
+        return cachedDropDistance;
+    }
+
+    /**
+     * Moves the current brick down by up to the given number of rows, using
+     * the cached drop distance rather than testing each row.
+     *
+     * @param rows the most rows to fall
+     * @return the number of rows the brick fell, less than {@code rows} if it landed
+     */
+    public int drop(int rows) {
+        int distance = Math.min(rows, dropDistance());
+        currentY += distance;
+        cachedDropDistance -= distance;
+        return distance;
+    }
+
+    /**
+     * Moves the current brick straight to its landing row in a single step.
+     *
+     * @return the number of rows the brick fell
+     */
+    public int hardDrop() {
+        int distance = dropDistance();
+        currentY += distance;
+        cachedDropDistance = 0;
+        return distance;
+    }
+    /**
+     * Returns the current brick's offset on the board as a new point.
+     * Intended for tests and tooling; gameplay code should use
+     * {@link #getCurrentX()} and {@link #getCurrentY()}, which do not allocate.
+     *
+     * @return a copy of the current brick offset
+     */
+    public Point getCurrentOffset() {
+        return new Point(currentX, currentY);
+    }
+
+    /**
+     * Returns the column of the current brick.
+     *
+     * @return the x-coordinate of the brick's top-left corner
+     */
+    public int getCurrentX() { return currentX; }
+
+    /**
+     * Returns the row of the current brick.
+     *
+     * @return the y-coordinate of the brick's top-left corner
+     */
+    public int getCurrentY() { return currentY; }
+    /**
+     * Moves the current brick one cell downward.
+     *
+     * @return {@code true} if the move was successful, {@code false} if blocked
+     */
+    public boolean moveDown() { return move(0, 1); }
+    /**
+     * Moves the current brick one cell to the left.
+     *
+     * @return {@code true} if the move was successful, {@code false} if blocked
+     */
+    public boolean moveLeft() { return move(-1, 0); }
+    /**
+     * Moves the current brick one cell to the right.
+     *
+     * @return {@code true} if the move was successful, {@code false} if blocked
+     */
+    public boolean moveRight() { return move(1, 0); }
+    /**
+     * Attempts to move the current brick by the specified offset.
+     * Performs collision detection before applying the movement.
+     *
+     * @param dx movement along the x-axis
+     * @param dy movement along the y-axis
+     * @return {@code true} if movement was successful, {@code false} if blocked
+     */
+    public boolean move(int dx, int dy) {
+        int newX = currentX + dx;
+        int newY = currentY + dy;
+        if (boardGrid.intersects( current.getPieceShape(), newX, newY )) return false;
+        currentX = newX;
+        currentY = newY;
+        if (dx == 0 && dy > 0 && cachedDropDistance >= dy) cachedDropDistance -= dy;
+        else cachedDropDistance = -1;
+        return true; }
+
+    /**
+     * Attempts to rotate the current brick clockwise.
+     * If rotation results in a collision, it is reverted.
+     *
+     * @return {@code true} if rotation succeeded, {@code false} otherwise
+     */
+    public boolean rotate() {
+        current.rotate();
+        if (boardGrid.intersects( current.getPieceShape(), currentX, currentY ))
+        {
+            current.rotate();
+            current.rotate();
+            current.rotate();
+            return false; }
+        cachedDropDistance = -1;
+        return true; }
+
+    /**
+     * Merges the current brick's blocks permanently into the board grid.
+     * This should be called when the brick can no longer move downward.
+     */
+    public void mergeToBoard() {
+        boardGrid.merge( current.getPieceShape(), currentX, currentY );
+    }
+
+}
+
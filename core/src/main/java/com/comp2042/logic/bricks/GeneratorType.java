@@ -0,0 +1,23 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * The piece generators a game can be played with. Together with a seed, the
+ * type is all that is needed to reproduce a game's piece sequence, so it is
+ * what replays and command-line options refer to.
+ */
+public enum GeneratorType {
+    /** Uniformly random pieces, see {@link RandomPieceGenerator}. */
+    RANDOM,
+    /** Shuffled bags of all seven pieces, see {@link SevenBagGenerator}. */
+    SEVEN_BAG;
+
+    /**
+     * Creates a generator of this type.
+     *
+     * @param seed the seed; equal seeds give equal sequences
+     * @return a new generator
+     */
+    public PieceGenerator create(long seed) {
+        return this == SEVEN_BAG ? new SevenBagGenerator(seed) : new RandomPieceGenerator(seed);
+    }
+}
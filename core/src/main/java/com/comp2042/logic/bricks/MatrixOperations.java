@@ -0,0 +1,134 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Utility class providing various matrix operations used in Tetris gameplay,
+ * including collision checking and merging bricks into the board's bitboard
+ * rows. Line clearing lives in
+ * {@link com.comp2042.logic.core.BoardGrid}, which owns the row storage.
+ *
+ * This class is non-instantiable.
+ */
+
+public class MatrixOperations {
+
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private MatrixOperations(){
+
+    }
+
+    /**
+     * Checks whether the given piece intersects with a bitboard at the specified
+     * (x, y) position. Each board row is a single mask where bit {@code c} is set
+     * when column {@code c} is filled. Bounds are checked once against the
+     * piece's precomputed bounding box, and each occupied piece row then costs
+     * one shift-and-AND against the matching board row.
+     * <p>
+     * The row masks are stored circularly: board row {@code r} lives at index
+     * {@code (base + r) % rows.length}.
+     * </p>
+     *
+     * @param rows  the board's row masks, stored as a ring
+     * @param base  index in {@code rows} of the top board row
+     * @param width number of columns on the board
+     * @param shape the piece descriptor for the current rotation
+     * @param x     horizontal position of the piece's top-left corner on the board
+     * @param y     vertical position of the piece's top-left corner on the board
+     * @return {@code true} if an intersection or boundary issue occurs, otherwise {@code false}
+     */
+    public static boolean intersect(final long[] rows, final int base, final int width, final PieceShape shape, int x, int y) {
+        if (x + shape.getMinCol() < 0 || x + shape.getMaxCol() >= width
+                || y + shape.getMinRow() < 0 || y + shape.getMaxRow() >= rows.length) {
+            return true;
+        }
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            if ((rows[ringIndex(rows.length, base, y + r)] & shiftRow(shape.getRowMask(r), x)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Shifts a packed piece row to board column {@code x}. The caller must have
+     * checked that the shifted cells stay inside the board.
+     *
+     * @param cells the piece row mask (bit {@code c} = column {@code c} of the shape)
+     * @param x     the column the shape's first column is placed at
+     * @return the row mask in board coordinates
+     */
+    private static long shiftRow(long cells, int x) {
+        return x >= 0 ? cells << x : cells >>> -x;
+    }
+
+    /**
+     * Maps a board row to its index in circular row storage.
+     *
+     * @param length number of slots in the ring (the board height)
+     * @param base   slot holding the top board row
+     * @param row    the board row, between 0 and {@code length - 1}
+     * @return the slot holding that row
+     */
+    public static int ringIndex(int length, int base, int row) {
+        int slot = base + row;
+        return slot >= length ? slot - length : slot;
+    }
+
+    /**
+     * ORs the piece's row masks into the bitboard at the provided coordinates.
+     * The position must already have been validated with
+     * {@link #intersect(long[], int, int, PieceShape, int, int)}.
+     *
+     * @param rows  the board's row masks, stored as a ring and updated in place
+     * @param base  index in {@code rows} of the top board row
+     * @param shape the piece descriptor for the current rotation
+     * @param x     horizontal merge position
+     * @param y     vertical merge position
+     */
+    public static void merge(long[] rows, final int base, final PieceShape shape, int x, int y) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            rows[ringIndex(rows.length, base, y + r)] |= shiftRow(shape.getRowMask(r), x);
+        }
+    }
+
+    /**
+     * Returns the mask of a completely filled row for a board of the given width.
+     *
+     * @param width number of columns, between 1 and 63
+     * @return a mask with the lowest {@code width} bits set
+     */
+    public static long fullRowMask(int width) {
+        return (1L << width) - 1;
+    }
+
+    /**
+     * Counts the filled/empty changes along a row, treating the walls on both
+     * sides as filled. An empty row counts as 0 rather than 2, so only rows
+     * that hold cells contribute.
+     *
+     * @param mask  the row's occupancy mask
+     * @param width number of columns, between 1 and 63
+     * @return the number of transitions in the row
+     */
+    public static int rowTransitions(long mask, int width) {
+        if (mask == 0) return 0;
+        int inner = Long.bitCount((mask ^ (mask >>> 1)) & (fullRowMask(width) >>> 1));
+        int left = (int) (~mask & 1L);
+        int right = (int) (~mask >>> (width - 1) & 1L);
+        return inner + left + right;
+    }
+
+    /**
+     * Counts the columns that change between filled and empty from one row to
+     * the row below it.
+     *
+     * @param upper the upper row's occupancy mask
+     * @param lower the lower row's occupancy mask, or a full mask for the floor
+     * @return the number of column transitions between the two rows
+     */
+    public static int columnTransitions(long upper, long lower) {
+        return Long.bitCount(upper ^ lower);
+    }
+}
@@ -0,0 +1,17 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Source of the sequence of tetromino types that the player receives.
+ * Implementations are driven by a seeded {@link java.util.SplittableRandom},
+ * so two generators built with the same seed produce the same sequence, which
+ * is what makes benchmark workloads and replays reproducible.
+ */
+public interface PieceGenerator {
+
+    /**
+     * Returns the next tetromino type in the sequence.
+     *
+     * @return the next type, never {@code null}
+     */
+    TetrominoType next();
+}
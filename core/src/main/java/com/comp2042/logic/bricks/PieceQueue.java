@@ -0,0 +1,72 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Fixed-capacity queue of upcoming tetrominoes, kept full from a
+ * {@link PieceGenerator}.
+ * <p>
+ * The queue is a ring buffer: taking the front piece overwrites its slot with
+ * a freshly generated one and advances the head, so the queue always holds
+ * exactly {@link #getPreviewCount()} pieces and refilling never allocates.
+ * </p>
+ */
+public class PieceQueue {
+
+    /** Generator that refills the queue. */
+    private final PieceGenerator generator;
+
+    /** Ring of upcoming pieces. */
+    private final TetrominoType[] slots;
+
+    /** Slot holding the front of the queue. */
+    private int head;
+
+    /**
+     * Creates a queue and fills it from the generator.
+     *
+     * @param generator    source of new pieces
+     * @param previewCount number of upcoming pieces to keep (at least 1)
+     * @throws IllegalArgumentException if {@code previewCount} is less than 1
+     */
+    public PieceQueue(PieceGenerator generator, int previewCount) {
+        if (previewCount < 1) {
+            throw new IllegalArgumentException("Preview count must be at least 1");
+        }
+        this.generator = generator;
+        this.slots = new TetrominoType[previewCount];
+        for (int i = 0; i < previewCount; i++) slots[i] = generator.next();
+    }
+
+    /**
+     * Removes and returns the front piece, refilling its slot from the generator.
+     *
+     * @return the next piece to play
+     */
+    public TetrominoType poll() {
+        TetrominoType front = slots[head];
+        slots[head] = generator.next();
+        head = head + 1 == slots.length ? 0 : head + 1;
+        return front;
+    }
+
+    /**
+     * Returns an upcoming piece without removing it.
+     *
+     * @param index 0 for the next piece, up to {@code getPreviewCount() - 1}
+     * @return the upcoming piece at that position
+     * @throws IndexOutOfBoundsException if {@code index} is outside the queue
+     */
+    public TetrominoType peek(int index) {
+        if (index < 0 || index >= slots.length) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " out of range 0.." + (slots.length - 1));
+        }
+        int slot = head + index;
+        return slots[slot >= slots.length ? slot - slots.length : slot];
+    }
+
+    /**
+     * Returns the number of upcoming pieces the queue holds.
+     *
+     * @return preview count
+     */
+    public int getPreviewCount() { return slots.length; }
+}
@@ -0,0 +1,213 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, precomputed description of one rotation state of a tetromino.
+ * <p>
+ * Built once from a shape matrix, it stores everything the hot paths need so
+ * that none of them has to rescan the 3×3 or 4×4 grid:
+ * </p>
+ * <ul>
+ *     <li>a packed list of the filled cells (row and column offsets)</li>
+ *     <li>one occupancy mask per shape row, for bitboard collision tests</li>
+ *     <li>the bounding box of the filled cells</li>
+ *     <li>the lowest filled row in each column (the bottom profile)</li>
+ * </ul>
+ * All arrays are private and only exposed through index accessors, so a
+ * {@code PieceShape} can be shared freely between bricks, view data and renderers.
+ */
+public final class PieceShape {
+
+    /** Bits used for the column part of a packed cell offset. */
+    private static final int COL_BITS = 8;
+
+    /** Mask extracting the column part of a packed cell offset. */
+    private static final int COL_MASK = (1 << COL_BITS) - 1;
+
+    /** Number of rows in the matrix this shape was built from. */
+    private final int rowCount;
+
+    /** Number of columns in the matrix this shape was built from. */
+    private final int columnCount;
+
+    /** Colour ID of the filled cells (1–7 for the standard tetrominoes). */
+    private final int id;
+
+    /** Filled cells packed as {@code row << COL_BITS | col}, in row-major order. */
+    private final int[] cells;
+
+    /** Occupancy mask for each shape row, bit {@code c} set when column {@code c} is filled. */
+    private final long[] rowMasks;
+
+    /** Lowest filled row in each column, or {@code -1} if the column is empty. */
+    private final int[] columnBottoms;
+
+    /** Bounding box of the filled cells. */
+    private final int minRow, maxRow, minCol, maxCol;
+
+    /**
+     * Builds a descriptor from a shape matrix. The matrix is read once and
+     * not retained.
+     *
+     * @param matrix the shape matrix; non-zero entries are filled cells and
+     *               must all carry the same colour ID
+     * @throws IllegalArgumentException if the matrix has no filled cells
+     */
+    public PieceShape(int[][] matrix) {
+        int widest = 0;
+        for (int[] row : matrix) widest = Math.max(widest, row.length);
+        this.rowCount = matrix.length;
+        this.columnCount = widest;
+        this.rowMasks = new long[rowCount];
+        this.columnBottoms = new int[columnCount];
+        Arrays.fill(columnBottoms, -1);
+
+        int count = 0;
+        int colour = 0;
+        int top = rowCount, bottom = -1, left = columnCount, right = -1;
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] == 0) continue;
+                count++;
+                colour = matrix[r][c];
+                rowMasks[r] |= 1L << c;
+                columnBottoms[c] = r;
+                top = Math.min(top, r);
+                bottom = Math.max(bottom, r);
+                left = Math.min(left, c);
+                right = Math.max(right, c);
+            }
+        }
+        if (count == 0) {
+            throw new IllegalArgumentException("Shape has no filled cells");
+        }
+
+        this.cells = new int[count];
+        int n = 0;
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] != 0) cells[n++] = r << COL_BITS | c;
+            }
+        }
+        this.id = colour;
+        this.minRow = top;
+        this.maxRow = bottom;
+        this.minCol = left;
+        this.maxCol = right;
+    }
+
+    /**
+     * Returns the number of rows in the matrix this shape was built from.
+     *
+     * @return matrix height (3 or 4 for the standard tetrominoes)
+     */
+    public int getRowCount() { return rowCount; }
+
+    /**
+     * Returns the number of columns in the matrix this shape was built from.
+     *
+     * @return matrix width (3 or 4 for the standard tetrominoes)
+     */
+    public int getColumnCount() { return columnCount; }
+
+    /**
+     * Returns the colour ID of the shape's cells.
+     *
+     * @return the tetromino ID (1–7)
+     */
+    public int getId() { return id; }
+
+    /**
+     * Returns the number of filled cells.
+     *
+     * @return cell count (4 for every tetromino)
+     */
+    public int getCellCount() { return cells.length; }
+
+    /**
+     * Returns the row offset of a filled cell.
+     *
+     * @param index cell index (0 to getCellCount()-1)
+     * @return row offset within the shape matrix
+     */
+    public int getCellRow(int index) { return cells[index] >>> COL_BITS; }
+
+    /**
+     * Returns the column offset of a filled cell.
+     *
+     * @param index cell index (0 to getCellCount()-1)
+     * @return column offset within the shape matrix
+     */
+    public int getCellCol(int index) { return cells[index] & COL_MASK; }
+
+    /**
+     * Returns the occupancy mask of one shape row.
+     *
+     * @param row row offset within the shape matrix
+     * @return mask with bit {@code c} set when column {@code c} of the row is filled
+     */
+    public long getRowMask(int row) { return rowMasks[row]; }
+
+    /**
+     * Checks whether a cell of the shape matrix is filled.
+     *
+     * @param row row offset within the shape matrix
+     * @param col column offset within the shape matrix
+     * @return {@code true} if the cell is filled
+     */
+    public boolean isFilled(int row, int col) {
+        return row >= 0 && row < rowCount && col >= 0 && col < columnCount && (rowMasks[row] & (1L << col)) != 0;
+    }
+
+    /**
+     * Returns the lowest filled row in a column of the shape.
+     *
+     * @param col column offset within the shape matrix
+     * @return the row offset of the column's lowest cell, or {@code -1} if the column is empty
+     */
+    public int getColumnBottom(int col) { return columnBottoms[col]; }
+
+    /**
+     * Returns the topmost filled row.
+     *
+     * @return minimum row offset of any filled cell
+     */
+    public int getMinRow() { return minRow; }
+
+    /**
+     * Returns the bottommost filled row.
+     *
+     * @return maximum row offset of any filled cell
+     */
+    public int getMaxRow() { return maxRow; }
+
+    /**
+     * Returns the leftmost filled column.
+     *
+     * @return minimum column offset of any filled cell
+     */
+    public int getMinCol() { return minCol; }
+
+    /**
+     * Returns the rightmost filled column.
+     *
+     * @return maximum column offset of any filled cell
+     */
+    public int getMaxCol() { return maxCol; }
+
+    /**
+     * Builds a new shape matrix equivalent to the one this descriptor was
+     * created from. Intended for callers that need a detached matrix; hot paths
+     * should use the cell and mask accessors instead.
+     *
+     * @return a new {@code rowCount × columnCount} matrix of colour IDs
+     */
+    public int[][] toMatrix() {
+        int[][] matrix = new int[rowCount][columnCount];
+        for (int i = 0; i < cells.length; i++) {
+            matrix[getCellRow(i)][getCellCol(i)] = id;
+        }
+        return matrix;
+    }
+}
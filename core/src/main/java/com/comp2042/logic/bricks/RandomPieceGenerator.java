@@ -0,0 +1,36 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Piece generator that picks every tetromino independently and uniformly at
+ * random, as the game originally did. Unlike {@link SevenBagGenerator} it
+ * allows long droughts and repeats.
+ */
+public class RandomPieceGenerator implements PieceGenerator {
+
+    /** All tetromino types, in ID order. */
+    private static final TetrominoType[] TYPES = TetrominoType.values();
+
+    /** Source of randomness. */
+    private final SplittableRandom random;
+
+    /**
+     * Creates a generator with the given seed.
+     *
+     * @param seed the seed; equal seeds give equal sequences
+     */
+    public RandomPieceGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns a uniformly random tetromino type.
+     *
+     * @return the next type
+     */
+    @Override
+    public TetrominoType next() {
+        return TYPES[random.nextInt(TYPES.length)];
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.logic.bricks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Piece generator using the "7-bag" rule: the seven tetrominoes are dealt in
+ * a random order, and only once all seven have been dealt is a new bag
+ * shuffled. Droughts are limited to twelve pieces and every type appears
+ * equally often. The bag is shuffled in place, so generating pieces never
+ * allocates.
+ */
+public class SevenBagGenerator implements PieceGenerator {
+
+    /** The current bag; entries before {@code index} have been dealt. */
+    private final TetrominoType[] bag = TetrominoType.values();
+
+    /** Source of randomness for shuffling. */
+    private final SplittableRandom random;
+
+    /** Position of the next piece in the bag. */
+    private int index;
+
+    /**
+     * Creates a generator with the given seed.
+     *
+     * @param seed the seed; equal seeds give equal sequences
+     */
+    public SevenBagGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+        this.index = bag.length;
+    }
+
+    /**
+     * Returns the next tetromino, shuffling a new bag when the current one is empty.
+     *
+     * @return the next type
+     */
+    @Override
+    public TetrominoType next() {
+        if (index == bag.length) {
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                TetrominoType swap = bag[i];
+                bag[i] = bag[j];
+                bag[j] = swap;
+            }
+            index = 0;
+        }
+        return bag[index++];
+    }
+}
@@ -1,16 +1,16 @@
 package com.comp2042.logic.bricks;
 
-import javafx.scene.paint.Color;
 /**
  * Represents all Tetris tetromino types and their respective rotation states.
  * 
  * Each enum constant defines:
  * <ul>
  *     <li>A set of 2D matrices representing the shape in each rotation.</li>
- *     <li>A display color associated with the tetromino.</li>
  * </ul>
  * The matrices use integers to indicate filled cells. Each tetromino may have
- * between 1 and 4 rotation states depending on its geometry.
+ * between 1 and 4 rotation states depending on its geometry. Every rotation
+ * is turned into an immutable {@link PieceShape} when the enum is loaded, and
+ * those descriptors are what the rest of the game works with.
  *
  */
 public enum TetrominoType {
@@ -28,7 +28,7 @@ public enum TetrominoType {
                     {0,1,0,0},
                     {0,1,0,0}
             }
-    },Color.web("#A0F0FF")),
+    }),
     /** The O-shaped tetromino (square piece) with only 1 rotation state. */
     O(new int[][][]{
             {
@@ -37,7 +37,7 @@ public enum TetrominoType {
                     {0,2,2,0},
                     {0,0,0,0}
             }
-    },Color.web("#FFF4A3")),
+    }),
     /** The T-shaped tetromino with 4 rotation states. */
     T(new int[][][]{
             {
@@ -60,7 +60,7 @@ public enum TetrominoType {
                     {0,3,3},
                     {0,3,0}
             }
-    },Color.web("#D8B0FF")),
+    }),
     /** The L-shaped tetromino with 4 rotation states. */
     L(new int[][][]{
             {
@@ -83,7 +83,7 @@ public enum TetrominoType {
                     {0,4,0},
                     {4,4,0}
             }
-    },Color.web("#E3C8FF")),
+    }),
     /** The J-shaped tetromino with 4 rotation states. */
     J(new int[][][]{
             {   // 0 degrees
@@ -106,7 +106,7 @@ public enum TetrominoType {
                     {0,5,0},
                     {0,5,0}
             }
-    },Color.web("#FFD1A8")),
+    }),
     /** The S-shaped tetromino with 2 rotation states. */
     S(new int[][][]{
             {
@@ -119,7 +119,7 @@ public enum TetrominoType {
                     {0,6,6},
                     {0,0,6}
             }
-    },Color.web("#B7FFCC")),
+    }),
     /** The Z-shaped tetromino with 2 rotation states. */
     Z(new int[][][]{
             {
@@ -132,41 +132,45 @@ public enum TetrominoType {
                     {0,7,7},
                     {0,7,0}
             }
-    },Color.web("#FFB0B0"));
+    });
 
-    /** All rotation matrices for this tetromino type. */
-    private final int[][][] rotations;
+    /** All types, cached so lookups do not copy {@link #values()}. */
+    private static final TetrominoType[] TYPES = values();
 
-    /** The display color associated with this tetromino. */
-    private Color color;
+    /** Precomputed descriptor for each rotation state. */
+    private final PieceShape[] shapes;
 
     /**
-     * Creates a tetromino type with the given rotations and display color.
+     * Creates a tetromino type with the given rotations.
      *
      * @param rotations an array of shape matrices, one for each rotation state
-     * @param color the color used to render this tetromino
      */
-    TetrominoType(int[][][] rotations,Color color) {
-        this.rotations = rotations;
-        this.color = color;
+    TetrominoType(int[][][] rotations) {
+        this.shapes = new PieceShape[rotations.length];
+        for (int i = 0; i < rotations.length; i++) {
+            shapes[i] = new PieceShape(rotations[i]);
+        }
     }
 
     /**
-     * Returns the shape matrix for the specified rotation index.
+     * Returns a new copy of the shape matrix for the specified rotation index.
      *
      * @param index the rotation index (0 to rotationCount()-1)
      * @return a 2D integer array representing the tetromino shape
      */
     public int[][] getRotation(int index) {
-        return rotations[index];
+        return shapes[index].toMatrix();
     }
 
     /**
-     * Returns the display color of this tetromino.
+     * Returns the shared, immutable descriptor for the specified rotation index.
      *
-     * @return the {@link Color} used for rendering
+     * @param index the rotation index (0 to rotationCount()-1)
+     * @return the precomputed {@link PieceShape}
      */
-    public Color getColor() { return color; }
+    public PieceShape getShape(int index) {
+        return shapes[index];
+    }
 
     /**
      * Returns the number of rotation states this tetromino has.
@@ -174,6 +178,34 @@ public enum TetrominoType {
      * @return the number of rotation matrices
      */
     public int rotationCount() {
-        return rotations.length;
+        return shapes.length;
+    }
+
+    /**
+     * Returns the rotation index of one of this type's shared shapes.
+     *
+     * @param shape a shape descriptor
+     * @return its rotation index, or {@code -1} if it does not belong to this type
+     */
+    public int rotationOf(PieceShape shape) {
+        for (int i = 0; i < shapes.length; i++) {
+            if (shapes[i] == shape) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the tetromino type that owns a shared shape descriptor, for
+     * example the shape held in {@link com.comp2042.logic.core.ViewData}.
+     *
+     * @param shape a shape returned by {@link #getShape(int)}
+     * @return the type the shape belongs to
+     * @throws IllegalArgumentException if the shape is not a tetromino shape
+     */
+    public static TetrominoType forShape(PieceShape shape) {
+        for (TetrominoType type : TYPES) {
+            if (type.rotationOf(shape) >= 0) return type;
+        }
+        throw new IllegalArgumentException("Not a tetromino shape");
     }
 }
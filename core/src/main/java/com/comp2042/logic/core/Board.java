@@ -1,5 +1,8 @@
 package com.comp2042.logic.core;
 
+import com.comp2042.logic.bricks.PieceGenerator;
+import com.comp2042.logic.bricks.PieceShape;
+
 /**
  * Represents the game board operations and state retrieval
  * required for Tetris gameplay control and rendering.
@@ -13,6 +16,29 @@ public interface Board {
      */
     boolean moveBrickDown();
 
+    /**
+     * Returns how many rows the current falling brick can drop before landing.
+     *
+     * @return the drop distance, {@code 0} if the brick is resting
+     */
+    int dropDistance();
+
+    /**
+     * Moves the current falling brick down by up to the given number of rows
+     * with a single drop-distance lookup.
+     *
+     * @param rows the most rows to fall
+     * @return the number of rows the brick fell
+     */
+    int dropBrick(int rows);
+
+    /**
+     * Moves the current falling brick straight to its landing row.
+     *
+     * @return the number of rows the brick fell
+     */
+    int hardDropBrick();
+
     /**
      * Moves the current falling brick one column to the left.
      *
@@ -43,12 +69,20 @@ public interface Board {
     boolean createNewBrick();
 
     /**
-     * Retrieves the entire game board matrix including all locked blocks.
+     * Retrieves a snapshot of the entire game board matrix including all locked blocks.
+     * This copies the board; use {@link #getBoardView()} for read-only access.
      *
      * @return 2D array representing board state
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Retrieves a live, read-only view of the locked blocks without copying.
+     *
+     * @return the board view
+     */
+    BoardView getBoardView();
+
     /**
      * Retrieves the current view data representing the falling brick's position and shape.
      *
@@ -79,6 +113,14 @@ public interface Board {
      * Resets the board and score to start a new game session.
      */
     void newGame();
+
+    /**
+     * Resets the board and score and starts a new game that deals its pieces
+     * from the given generator.
+     *
+     * @param generator source of the new game's piece sequence
+     */
+    void newGame(PieceGenerator generator);
     /**
      * Holds the current falling brick and updates the hold slot.
      *
@@ -86,6 +128,13 @@ public interface Board {
      */
     ViewData holdBrick();
 
+    /**
+     * Checks whether the hold action is still available for the falling brick.
+     *
+     * @return true if hold has not been used since the brick spawned
+     */
+    boolean canHoldBrick();
+
     /**
      * Retrieves the matrix of the currently held Tetromino.
      *
@@ -93,4 +142,26 @@ public interface Board {
      */
     int[][] getHeldBrickMatrix();
 
+    /**
+     * Retrieves the shared shape descriptor of the currently held Tetromino.
+     *
+     * @return the held brick's shape, or null if none held
+     */
+    PieceShape getHeldBrickShape();
+
+    /**
+     * Retrieves the shape of an upcoming Tetromino in its spawn rotation.
+     *
+     * @param index 0 for the next piece, up to {@code getPreviewCount() - 1}
+     * @return the upcoming piece's shape
+     */
+    PieceShape getPreviewShape(int index);
+
+    /**
+     * Retrieves the number of upcoming Tetrominoes that can be previewed.
+     *
+     * @return preview count
+     */
+    int getPreviewCount();
+
 }
@@ -0,0 +1,761 @@
+package com.comp2042.logic.core;
+
+import com.comp2042.logic.bricks.MatrixOperations;
+import com.comp2042.logic.bricks.PieceShape;
+
+import java.util.Arrays;
+
+/**
+ * Represents the game board grid used in Tetris gameplay.
+ * The board stores occupancy as a bitboard (one mask per row, bit {@code c}
+ * set when column {@code c} is filled) and keeps a colour plane alongside it
+ * for rendering: one flat {@code byte[]} with a byte per cell, addressed with
+ * a row stride equal to the width. Collision tests run on the bitboard; the
+ * colour plane is only written when bricks merge or rows clear. A count
+ * of filled cells is kept per row, and only the rows touched by merges since
+ * the last clear are checked for completion, so locking a brick costs
+ * O(brick height) rather than O(board height). The board surface (the height
+ * of each column and the number of holes beneath it) and the row and column
+ * transition counts are maintained incrementally as well, so evaluating a
+ * position never needs a full rescan. So is a Zobrist hash of the occupancy
+ * (see {@link Zobrist}), which lets searches recognise positions they have
+ * already seen. Every row carries the {@link #getVersion() version} at which
+ * it last changed, so a renderer can repaint only the rows that changed
+ * since the version it last drew.
+ * <p>
+ * Rows are stored as a ring: board row {@code r} lives in slot
+ * {@code (base + r) % height} of the colour plane, mask and counter arrays. Clearing
+ * rows only moves the handful of surviving rows on the shorter side of the
+ * cleared block, and pushing rows in from the bottom just advances
+ * {@code base}, so neither costs O(height × width).
+ * </p>
+ * This class provides utilities for inspecting the grid, merging falling
+ * bricks into the board, clearing completed rows, and resetting the grid when
+ * needed. Readers should go through the {@link BoardView} methods, which
+ * expose the live state without copying.
+ */
+public class BoardGrid implements BoardView {
+
+    /** The width of the board in columns. */
+    private final int width;   // columns
+
+    /** The height of the board in rows. */
+    private final int height;  // rows
+
+    /** Colour ID of each cell, slot {@code s} occupying {@code [s * width, (s + 1) * width)}. */
+    private final byte[] cells;
+
+    /** Occupancy bitboard, one mask per row slot. */
+    private final long[] rows;
+
+    /** Number of filled cells in each row slot. */
+    private final int[] rowFill;
+
+    /** Slot holding the top board row. */
+    private int base;
+
+    /** Height of each column's highest filled cell above the floor, 0 if the column is empty. */
+    private final int[] columnHeights;
+
+    /** Number of filled cells in each column. */
+    private final int[] columnFill;
+
+    /** Filled/empty changes along all non-empty rows, walls counting as filled. */
+    private int rowTransitions;
+
+    /** Filled/empty changes down all columns, the floor counting as filled. */
+    private int columnTransitions;
+
+    /** Zobrist hash of the filled cells. */
+    private long zobristHash;
+
+    /** Topmost row touched by a merge since the last clear, or {@code height} if none. */
+    private int pendingTop;
+
+    /** Bottommost row touched by a merge since the last clear, or {@code -1} if none. */
+    private int pendingBottom = -1;
+
+    /** Incremented whenever the board's contents change. */
+    private long version;
+
+    /** Version at which each board row (not slot) last changed. */
+    private final long[] rowVersions;
+
+    /**
+     * Creates a new board grid with the specified width and height.
+     *
+     * @param width  number of columns in the board (1 to 63)
+     * @param height number of rows in the board
+     * @throws IllegalArgumentException if the width does not fit in a row mask
+     */
+    public BoardGrid(int width, int height) {
+        if (width < 1 || width >= Long.SIZE) {
+            throw new IllegalArgumentException("Board width must be between 1 and " + (Long.SIZE - 1));
+        }
+        this.width = width;    // 15
+        this.height = height;  // 33
+        this.cells = new byte[height * width];  // 33 rows, 15 cols
+        this.rows = new long[height];
+        this.rowFill = new int[height];
+        this.columnHeights = new int[width];
+        this.columnFill = new int[width];
+        this.rowVersions = new long[height];
+        this.pendingTop = height;
+        this.columnTransitions = width;
+    }
+
+
+    /**
+     * Creates a copy of another board, for example so a search can try out
+     * placements without touching the live game.
+     *
+     * @param source the board to copy
+     */
+    public BoardGrid(BoardView source) {
+        this(source.getWidth(), source.getHeight());
+        if (source instanceof BoardGrid grid) {
+            copyFrom(grid);
+            return;
+        }
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                int id = source.getCell(r, c);
+                if (id != 0) {
+                    fillCell(r, c, id);
+                    rows[r] |= 1L << c;
+                }
+            }
+        }
+        pendingTop = 0;
+        pendingBottom = height - 1;
+        recountRowTransitions();
+        recountColumnTransitions();
+    }
+
+    /**
+     * Overwrites this board with the contents of another board of the same
+     * size. Every array is copied as it is stored, ring offset included, so
+     * this costs a handful of array copies and no rescans.
+     *
+     * @param source the board to copy
+     * @throws IllegalArgumentException if the boards differ in size
+     */
+    public final void copyFrom(BoardGrid source) {
+        if (source.width != width || source.height != height) {
+            throw new IllegalArgumentException("Cannot copy a " + source.width + "x" + source.height
+                    + " board into a " + width + "x" + height + " board");
+        }
+        System.arraycopy(source.cells, 0, cells, 0, cells.length);
+        System.arraycopy(source.rows, 0, rows, 0, height);
+        System.arraycopy(source.rowFill, 0, rowFill, 0, height);
+        System.arraycopy(source.columnHeights, 0, columnHeights, 0, width);
+        System.arraycopy(source.columnFill, 0, columnFill, 0, width);
+        base = source.base;
+        rowTransitions = source.rowTransitions;
+        columnTransitions = source.columnTransitions;
+        zobristHash = source.zobristHash;
+        pendingTop = source.pendingTop;
+        pendingBottom = source.pendingBottom;
+        version++;
+        stampRows(0, height - 1);
+    }
+
+    /**
+     * Returns a deep copy of the board matrix.
+     * Prefer the {@link BoardView} accessors for reads; this is only needed
+     * when a caller has to keep the state after the board changes.
+     *
+     * @return a copied 2D array representing the current board state
+     */
+    public int[][] getMatrixCopy() {
+        int[][] copy = new int[height][width];
+        for (int r = 0; r < height; r++)
+            for (int c = 0, i = slot(r) * width; c < width; c++, i++) copy[r][c] = cells[i];
+        return copy;
+    }
+
+    /**
+     * Returns a compact, immutable copy of the board.
+     *
+     * @return a {@link PackedBoard} holding the current colour plane
+     */
+    @Override
+    public PackedBoard packedSnapshot() { return new PackedBoard(this); }
+
+    /**
+     * Returns a detached copy of the colour plane.
+     *
+     * @return a copied 2D array representing the current board state
+     */
+    @Override
+    public int[][] snapshot() { return getMatrixCopy(); }
+
+    /**
+     * Returns the number of columns on the board.
+     *
+     * @return board width
+     */
+    @Override
+    public int getWidth() { return width; }
+
+    /**
+     * Returns the number of rows on the board.
+     *
+     * @return board height
+     */
+    @Override
+    public int getHeight() { return height; }
+
+    /**
+     * Returns the colour ID stored at the given cell without copying the board.
+     *
+     * @param row the row index
+     * @param col the column index
+     * @return the tetromino ID in the cell, or {@code 0} if empty
+     */
+    @Override
+    public int getCell(int row, int col) { return cells[slot(row) * width + col]; }
+
+    /**
+     * Returns the occupancy mask of the given row.
+     *
+     * @param row the row index
+     * @return the row's bitboard mask
+     */
+    @Override
+    public long getRowMask(int row) { return rows[slot(row)]; }
+
+    /**
+     * Returns the number of filled cells in the given row.
+     *
+     * @param row the row index
+     * @return filled cell count, from 0 to the board width
+     */
+    @Override
+    public int getRowFill(int row) { return rowFill[slot(row)]; }
+
+    /**
+     * Returns the height of a column, measured from the floor to its highest
+     * filled cell.
+     *
+     * @param col the column index
+     * @return column height, {@code 0} if the column is empty
+     */
+    @Override
+    public int getColumnHeight(int col) { return columnHeights[col]; }
+
+    /**
+     * Returns the number of empty cells in a column that lie below its
+     * highest filled cell.
+     *
+     * @param col the column index
+     * @return hole count for the column
+     */
+    @Override
+    public int getColumnHoles(int col) { return columnHeights[col] - columnFill[col]; }
+
+    /**
+     * Returns the height of the tallest column.
+     *
+     * @return maximum column height
+     */
+    @Override
+    public int getMaxHeight() {
+        int max = 0;
+        for (int h : columnHeights) max = Math.max(max, h);
+        return max;
+    }
+
+    /**
+     * Returns the number of holes across all columns.
+     *
+     * @return total hole count
+     */
+    @Override
+    public int getTotalHoles() {
+        int holes = 0;
+        for (int c = 0; c < width; c++) holes += columnHeights[c] - columnFill[c];
+        return holes;
+    }
+
+    /**
+     * Returns the number of filled/empty changes along the non-empty rows,
+     * counting the walls as filled.
+     *
+     * @return total row transitions
+     */
+    @Override
+    public int getRowTransitions() { return rowTransitions; }
+
+    /**
+     * Returns the number of filled/empty changes down the columns, counting
+     * the floor as filled.
+     *
+     * @return total column transitions
+     */
+    @Override
+    public int getColumnTransitions() { return columnTransitions; }
+
+    /**
+     * Returns the version stamp, incremented on every merge, clear and reset.
+     *
+     * @return the current version
+     */
+    @Override
+    public long getVersion() { return version; }
+
+    /**
+     * Returns the version at which a row last changed.
+     *
+     * @param row the board row
+     * @return the version stamp of the row's last change, {@code 0} if it never changed
+     */
+    @Override
+    public long getRowVersion(int row) { return rowVersions[row]; }
+
+    /**
+     * Returns the Zobrist hash of the filled cells, kept up to date by every
+     * merge, clear and push.
+     *
+     * @return the occupancy hash
+     */
+    @Override
+    public long getZobristHash() { return zobristHash; }
+
+    /**
+     * Checks whether a piece collides with the board boundaries or any placed
+     * cell at the given position.
+     *
+     * @param shape the piece descriptor for the brick's current rotation
+     * @param x     the x-coordinate (column) of the brick's top-left corner
+     * @param y     the y-coordinate (row) of the brick's top-left corner
+     * @return {@code true} if the brick cannot occupy that position
+     */
+    public boolean intersects(PieceShape shape, int x, int y) {
+        return MatrixOperations.intersect(rows, base, width, shape, x, y);
+    }
+
+    /**
+     * Computes how many rows a piece can fall from the given position before it
+     * would collide. The answer normally comes straight from the column heights
+     * and the piece's bottom profile; only when the piece is already below the
+     * surface of one of its columns (tucked under an overhang) does it fall back
+     * to stepping down row by row on the bitboard.
+     *
+     * @param shape the piece descriptor for the brick's current rotation
+     * @param x     the x-coordinate (column) of the brick's top-left corner
+     * @param y     the y-coordinate (row) of the brick's top-left corner
+     * @return the number of rows the piece can drop, {@code 0} if it is resting
+     */
+    public int dropDistance(PieceShape shape, int x, int y) {
+        int distance = Integer.MAX_VALUE;
+        for (int c = shape.getMinCol(); c <= shape.getMaxCol(); c++) {
+            int bottom = shape.getColumnBottom(c);
+            if (bottom < 0) continue;
+            int surface = height - columnHeights[x + c];
+            int gap = surface - 1 - (y + bottom);
+            if (gap < 0) {
+                return scanDropDistance(shape, x, y);
+            }
+            distance = Math.min(distance, gap);
+        }
+        return distance;
+    }
+
+    /**
+     * Finds the drop distance by testing successive rows on the bitboard.
+     *
+     * @param shape the piece descriptor
+     * @param x     the piece's column
+     * @param y     the piece's row
+     * @return the number of rows the piece can drop
+     */
+    private int scanDropDistance(PieceShape shape, int x, int y) {
+        int distance = 0;
+        while (!intersects(shape, x, y + distance + 1)) distance++;
+        return distance;
+    }
+
+
+    /**
+     * Resets the board by clearing all filled cells in place.
+     */
+    public void reset() {
+        Arrays.fill(cells, (byte) 0);
+        Arrays.fill(rows, 0L);
+        Arrays.fill(rowFill, 0);
+        Arrays.fill(columnHeights, 0);
+        Arrays.fill(columnFill, 0);
+        base = 0;
+        rowTransitions = 0;
+        columnTransitions = width;
+        zobristHash = 0L;
+        pendingTop = height;
+        pendingBottom = -1;
+        version++;
+        stampRows(0, height - 1);
+    }
+    /**
+     * Checks for and clears any completed rows in the board.
+     * Only the rows touched by merges since the previous call are inspected,
+     * since no other row can have become full. Full rows are removed by
+     * {@link #removeRows(int[])}, which touches only the surviving rows on one
+     * side of the cleared block. Column heights are then lowered by the number
+     * of cleared rows, except for columns whose highest cell was itself
+     * cleared; only those are rescanned, and only from the cleared row downwards.
+     * The hash and the row versions are updated for the rows from the top of
+     * the stack down to the last cleared row, the only ones whose contents change.
+     * A score bonus is calculated based on the number of cleared rows.
+     *
+     * @return a {@link ClearRow} object containing information about the cleared rows
+     */
+    public ClearRow clearRows() {
+        if (pendingBottom < 0) return ClearRow.NONE;
+        int first = pendingTop;
+        int last = pendingBottom;
+        pendingTop = height;
+        pendingBottom = -1;
+
+        int count = 0;
+        for (int r = first; r <= last; r++) {
+            if (rowFill[slot(r)] == width) count++;
+        }
+        if (count == 0) return ClearRow.NONE;
+
+        int[] clearedRows = new int[count];
+        int n = 0;
+        for (int r = first; r <= last; r++) {
+            if (rowFill[slot(r)] == width) clearedRows[n++] = r;
+        }
+        int stackTop = height - getMaxHeight();
+        zobristHash ^= hashRows(stackTop, last);
+        removeRows(clearedRows);
+        zobristHash ^= hashRows(stackTop, last);
+        recountColumnTransitions();
+
+        ClearRow clearRow = new ClearRow(clearedRows, 50 * count * count);
+        updateSurfaceAfterClear(clearRow);
+        version++;
+        stampRows(stackTop, last);
+        return clearRow;
+    }
+
+    /**
+     * Removes the given rows, letting everything above them fall. Each moved
+     * row costs one {@code width}-byte copy, and the cheaper of two strategies
+     * is used:
+     * <ul>
+     *     <li>rows above the cleared block are shifted down, leaving {@code base}
+     *     alone, or</li>
+     *     <li>rows below the first cleared row are shifted up and {@code base}
+     *     steps back, so that the rows above fall without being moved.</li>
+     * </ul>
+     * Either way the dead rows end up in the top slots and are zeroed for reuse.
+     *
+     * @param clearedRows the rows to remove, in ascending order
+     */
+    private void removeRows(int[] clearedRows) {
+        int count = clearedRows.length;
+        int first = clearedRows[0];
+        int last = clearedRows[count - 1];
+
+        if (last <= height - 1 - first) {
+            int next = count - 1;
+            int dst = last;
+            for (int src = last; src >= 0; src--) {
+                if (next >= 0 && clearedRows[next] == src) {
+                    next--;
+                } else {
+                    moveRow(src, dst--);
+                }
+            }
+        } else {
+            int next = 0;
+            int dst = first;
+            for (int src = first; src < height; src++) {
+                if (next < count && clearedRows[next] == src) {
+                    next++;
+                } else {
+                    moveRow(src, dst++);
+                }
+            }
+            base = slot(height - count);
+        }
+
+        for (int r = 0; r < count; r++) {
+            int s = slot(r);
+            Arrays.fill(cells, s * width, (s + 1) * width, (byte) 0);
+            rows[s] = 0L;
+            rowFill[s] = 0;
+        }
+    }
+
+    /**
+     * Copies a row over another position. The source row is left as it was;
+     * it is either overwritten by a later move or zeroed afterwards.
+     *
+     * @param from the row to move
+     * @param to   the row to place it at
+     */
+    private void moveRow(int from, int to) {
+        if (from == to) return;
+        int src = slot(from);
+        int dst = slot(to);
+        System.arraycopy(cells, src * width, cells, dst * width, width);
+        rows[dst] = rows[src];
+        rowFill[dst] = rowFill[src];
+    }
+
+    /**
+     * Pushes rows in from the bottom of the board, raising everything already
+     * on it. Only {@code base} moves; the slots that fall off the top are
+     * overwritten with the new rows. Used for garbage lines and rising-floor
+     * modes.
+     *
+     * @param newRows colour IDs (0–15) of the rows to insert, top to bottom; each must
+     *                have {@link #getWidth()} entries, {@code 0} meaning empty
+     * @return {@code true} if filled cells were pushed off the top of the board
+     * @throws IllegalArgumentException if more rows are given than the board holds
+     */
+    public boolean pushRows(int[][] newRows) {
+        int count = newRows.length;
+        if (count > height) {
+            throw new IllegalArgumentException("Cannot push " + count + " rows into a board of height " + height);
+        }
+        if (count == 0) return false;
+
+        boolean toppedOut = false;
+        for (int r = 0; r < count; r++) {
+            long lost = rows[slot(r)];
+            if (lost == 0) continue;
+            toppedOut = true;
+            for (int c = 0; c < width; c++) {
+                if ((lost & (1L << c)) != 0) columnFill[c]--;
+            }
+        }
+
+        base = slot(count);
+        for (int i = 0; i < count; i++) {
+            int row = height - count + i;
+            int s = slot(row);
+            int offset = s * width;
+            long mask = 0L;
+            int fill = 0;
+            for (int c = 0; c < width; c++) {
+                cells[offset + c] = (byte) newRows[i][c];
+                if (newRows[i][c] != 0) {
+                    mask |= 1L << c;
+                    fill++;
+                    columnFill[c]++;
+                }
+            }
+            rows[s] = mask;
+            rowFill[s] = fill;
+        }
+
+        for (int c = 0; c < width; c++) {
+            columnHeights[c] = columnHeights[c] + count > height
+                    ? scanColumnHeight(c, 0)
+                    : columnHeights[c] > 0 ? columnHeights[c] + count : scanColumnHeight(c, height - count);
+        }
+
+        if (pendingBottom >= 0) pendingTop = Math.max(0, pendingTop - count);
+        pendingTop = Math.min(pendingTop, height - count);
+        pendingBottom = height - 1;
+        recountRowTransitions();
+        recountColumnTransitions();
+        zobristHash = hashRows(0, height - 1);
+        version++;
+        stampRows(0, height - 1);
+        return toppedOut;
+    }
+
+    /**
+     * Finds the height of a column by looking for its first filled cell,
+     * starting at the given row.
+     *
+     * @param col     the column to scan
+     * @param fromRow the row to start from; no cell above it may be filled
+     * @return the column height, {@code 0} if no filled cell was found
+     */
+    private int scanColumnHeight(int col, int fromRow) {
+        long bit = 1L << col;
+        int r = fromRow;
+        while (r < height && (rows[slot(r)] & bit) == 0) r++;
+        return height - r;
+    }
+
+    /**
+     * Adds or removes the transitions contributed by a band of rows: the row
+     * transitions of each row in the band and the column transitions between
+     * every pair of rows that includes one of them. Called with {@code -1}
+     * before the band changes and {@code +1} afterwards.
+     *
+     * @param top    first row of the band
+     * @param bottom last row of the band
+     * @param sign   {@code -1} to remove the band's contribution, {@code 1} to add it
+     */
+    private void adjustTransitions(int top, int bottom, int sign) {
+        for (int r = top; r <= bottom; r++) {
+            rowTransitions += sign * MatrixOperations.rowTransitions(rows[slot(r)], width);
+        }
+        for (int r = Math.max(0, top - 1); r <= bottom; r++) {
+            columnTransitions += sign * transitionsBelow(r);
+        }
+    }
+
+    /**
+     * Counts the column transitions between a row and the row below it, or the
+     * floor for the bottom row.
+     *
+     * @param row the upper row
+     * @return the number of columns that change between the two rows
+     */
+    private int transitionsBelow(int row) {
+        long lower = row == height - 1 ? MatrixOperations.fullRowMask(width) : rows[slot(row + 1)];
+        return MatrixOperations.columnTransitions(rows[slot(row)], lower);
+    }
+
+    /**
+     * Recounts the row transitions of the whole board.
+     */
+    private void recountRowTransitions() {
+        rowTransitions = 0;
+        for (int s = 0; s < height; s++) rowTransitions += MatrixOperations.rowTransitions(rows[s], width);
+    }
+
+    /**
+     * Recounts the column transitions of the whole board: one bit count per
+     * pair of rows. Clearing rows needs this, because rows that were apart
+     * become neighbours; cleared rows are full and the rows that replace them
+     * are empty, so row transitions are unaffected.
+     */
+    private void recountColumnTransitions() {
+        columnTransitions = 0;
+        for (int r = 0; r < height; r++) columnTransitions += transitionsBelow(r);
+    }
+
+    /**
+     * Hashes a band of rows.
+     *
+     * @param top    first row of the band
+     * @param bottom last row of the band
+     * @return the XOR of the keys of the filled cells in the band
+     */
+    private long hashRows(int top, int bottom) {
+        long hash = 0L;
+        for (int r = top; r <= bottom; r++) hash ^= Zobrist.rowHash(rows[slot(r)], r);
+        return hash;
+    }
+
+    /**
+     * Maps a board row to the slot that currently stores it.
+     *
+     * @param row the board row (0 is the top row)
+     * @return the index into the row arrays
+     */
+    private int slot(int row) {
+        return MatrixOperations.ringIndex(height, base, row);
+    }
+
+    /**
+     * Brings column heights and fill counts up to date after rows were removed.
+     * Every cleared row was full, so it held exactly one cell of each column and
+     * could not lie above any column's highest cell.
+     *
+     * @param clearRow the rows that were removed
+     */
+    private void updateSurfaceAfterClear(ClearRow clearRow) {
+        int cleared = clearRow.getLinesRemoved();
+        int firstCleared = clearRow.getClearedRow(0);
+        for (int c = 0; c < width; c++) {
+            columnFill[c] -= cleared;
+            if (columnHeights[c] > height - firstCleared) {
+                columnHeights[c] -= cleared;
+            } else {
+                columnHeights[c] = scanColumnHeight(c, firstCleared);
+            }
+        }
+    }
+
+    /**
+     * Writes one cell of a merged brick into the colour plane and updates the
+     * row and column counters and the hash. The bitboard is updated by the caller.
+     *
+     * @param row the board row
+     * @param col the board column
+     * @param id  the colour ID to store
+     */
+    private void fillCell(int row, int col, int id) {
+        int s = slot(row);
+        cells[s * width + col] = (byte) id;
+        rowFill[s]++;
+        columnFill[col]++;
+        columnHeights[col] = Math.max(columnHeights[col], height - row);
+        zobristHash ^= Zobrist.cellKey(row, col);
+    }
+
+
+    /**
+     * Merges a falling tetromino into the board at the given coordinates.
+     * This operation permanently embeds the piece into the board grid, writing
+     * its colour ID into the colour plane, setting the matching bits in the
+     * bitboard and updating the row and column counters it affects. Only the
+     * piece's filled cells are visited.
+     *
+     * @param shape the piece descriptor to merge into the board
+     * @param x     the x-coordinate (column) at which to place the shape
+     * @param y     the y-coordinate (row) at which to place the shape
+     */
+    public void merge(PieceShape shape, int x, int y) {
+        int top = y + shape.getMinRow();
+        int bottom = y + shape.getMaxRow();
+        adjustTransitions(top, bottom, -1);
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            fillCell(y + shape.getCellRow(i), x + shape.getCellCol(i), shape.getId());
+        }
+        MatrixOperations.merge(rows, base, shape, x, y);
+        adjustTransitions(top, bottom, 1);
+        pendingTop = Math.min(pendingTop, y + shape.getMinRow());
+        pendingBottom = Math.max(pendingBottom, y + shape.getMaxRow());
+        version++;
+        stampRows(top, bottom);
+    }
+
+    /**
+     * Merges an arbitrary shape matrix into the board at the given coordinates.
+     * Every non-zero entry is written with its own colour ID, which must be
+     * between 1 and 15 to survive {@link #packedSnapshot()}. Gameplay code
+     * should prefer {@link #merge(PieceShape, int, int)}.
+     *
+     * @param shape the shape matrix to merge into the board
+     * @param x     the x-coordinate (column) at which to place the shape
+     * @param y     the y-coordinate (row) at which to place the shape
+     */
+    public void merge(int[][] shape, int x, int y) {
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] != 0) {
+                    fillCell(y + r, x + c, shape[r][c]);
+                    rows[slot(y + r)] |= 1L << (x + c);
+                    pendingTop = Math.min(pendingTop, y + r);
+                    pendingBottom = Math.max(pendingBottom, y + r);
+                }
+            }
+        }
+        recountRowTransitions();
+        recountColumnTransitions();
+        version++;
+        stampRows(y, Math.min(height - 1, y + shape.length - 1));
+    }
+
+    /**
+     * Stamps a range of rows with the current version.
+     *
+     * @param top    first row, inclusive
+     * @param bottom last row, inclusive
+     */
+    private void stampRows(int top, int bottom) {
+        Arrays.fill(rowVersions, Math.max(0, top), bottom + 1, version);
+    }
+}
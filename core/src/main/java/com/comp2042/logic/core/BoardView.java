@@ -0,0 +1,141 @@
+package com.comp2042.logic.core;
+
+/**
+ * Read-only view of the locked cells on a Tetris board.
+ * Implementations expose their live state without copying, so callers must not
+ * hold on to values across board changes; compare {@link #getVersion()} to find
+ * out whether anything has changed, or call {@link #snapshot()} when a detached
+ * copy is really needed.
+ */
+public interface BoardView {
+
+    /**
+     * Returns the number of columns on the board.
+     *
+     * @return board width
+     */
+    int getWidth();
+
+    /**
+     * Returns the number of rows on the board, including the hidden spawn rows.
+     *
+     * @return board height
+     */
+    int getHeight();
+
+    /**
+     * Returns the colour ID stored in a cell.
+     *
+     * @param row the row index (0 is the top row)
+     * @param col the column index (0 is the leftmost column)
+     * @return the tetromino ID occupying the cell, or {@code 0} if empty
+     */
+    int getCell(int row, int col);
+
+    /**
+     * Returns the occupancy of a whole row as a bit mask, where bit {@code c}
+     * is set when column {@code c} is filled.
+     *
+     * @param row the row index (0 is the top row)
+     * @return the row's occupancy mask
+     */
+    long getRowMask(int row);
+
+    /**
+     * Returns the number of filled cells in a row.
+     *
+     * @param row the row index (0 is the top row)
+     * @return filled cell count, from 0 to {@link #getWidth()}
+     */
+    int getRowFill(int row);
+
+    /**
+     * Returns the height of a column, measured from the floor to its highest
+     * filled cell.
+     *
+     * @param col the column index (0 is the leftmost column)
+     * @return column height, {@code 0} if the column is empty
+     */
+    int getColumnHeight(int col);
+
+    /**
+     * Returns the number of empty cells in a column that have a filled cell
+     * somewhere above them.
+     *
+     * @param col the column index (0 is the leftmost column)
+     * @return hole count for the column
+     */
+    int getColumnHoles(int col);
+
+    /**
+     * Returns the height of the tallest column.
+     *
+     * @return maximum column height
+     */
+    int getMaxHeight();
+
+    /**
+     * Returns the number of holes across the whole board.
+     *
+     * @return total hole count
+     */
+    int getTotalHoles();
+
+    /**
+     * Returns the number of filled/empty changes along the non-empty rows,
+     * counting the walls as filled.
+     *
+     * @return total row transitions
+     */
+    int getRowTransitions();
+
+    /**
+     * Returns the number of filled/empty changes down the columns, counting
+     * the floor as filled.
+     *
+     * @return total column transitions
+     */
+    int getColumnTransitions();
+
+    /**
+     * Returns the Zobrist hash of the board's occupancy: the XOR of
+     * {@link Zobrist#cellKey(int, int)} over the filled cells. Boards with the
+     * same filled cells have the same hash, whatever their colours.
+     *
+     * @return the occupancy hash
+     */
+    long getZobristHash();
+
+    /**
+     * Returns a stamp that changes every time the board's contents change.
+     *
+     * @return the current version
+     */
+    long getVersion();
+
+    /**
+     * Returns the {@link #getVersion() version} at which a row's contents last
+     * changed. A reader that remembers the version it last looked at only has
+     * to revisit the rows stamped with a later one: usually the rows of the
+     * last merged piece, or the rows above a clear.
+     *
+     * @param row the board row
+     * @return the version stamp of the row's last change
+     */
+    long getRowVersion(int row);
+
+    /**
+     * Returns a detached copy of the colour plane.
+     *
+     * @return a new 2D array of colour IDs, indexed {@code [row][col]}
+     */
+    int[][] snapshot();
+
+    /**
+     * Returns a compact, immutable copy of the colour plane, using four bits
+     * per cell. Suited to keeping many boards in memory, e.g. for replays.
+     *
+     * @return a new packed snapshot
+     */
+    PackedBoard packedSnapshot();
+}
@@ -0,0 +1,59 @@
+package com.comp2042.logic.core;
+
+/**
+ * Represents the result of clearing rows from the Tetris board.
+ * Contains the indices of the rows that were removed and the score bonus
+ * earned from the cleared lines. The board itself is compacted in place,
+ * so no matrix is carried here.
+ */
+public final class ClearRow {
+
+    /** Shared result for a lock that cleared nothing. */
+    public static final ClearRow NONE = new ClearRow(new int[0], 0);
+
+    /** Indices (top to bottom, before compaction) of the rows that were cleared. */
+    private final int[] clearedRows;
+
+    /** Score bonus awarded for the cleared lines. */
+    private final int scoreBonus;
+
+    /**
+     * Constructs a ClearRow result object.
+     * The array is taken as-is and must not be modified afterwards.
+     *
+     * @param clearedRows indices of the cleared rows, in ascending order
+     * @param scoreBonus points awarded for the cleared lines
+     */
+    public ClearRow(int[] clearedRows, int scoreBonus) {
+        this.clearedRows = clearedRows;
+        this.scoreBonus = scoreBonus;
+    }
+
+    /**
+     * Gets the number of lines removed.
+     *
+     * @return number of cleared rows
+     */
+    public int getLinesRemoved() {
+        return clearedRows.length;
+    }
+
+    /**
+     * Returns the board index of one of the cleared rows.
+     *
+     * @param index position in the cleared set (0 to getLinesRemoved()-1)
+     * @return the row index as it was before the board was compacted
+     */
+    public int getClearedRow(int index) {
+        return clearedRows[index];
+    }
+
+    /**
+     * Gets the score bonus awarded for clearing rows.
+     *
+     * @return score bonus points
+     */
+    public int getScoreBonus() {
+        return scoreBonus;
+    }
+}
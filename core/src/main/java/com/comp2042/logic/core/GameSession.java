@@ -0,0 +1,271 @@
+package com.comp2042.logic.core;
+
+import com.comp2042.logic.bricks.PieceGenerator;
+import com.comp2042.logic.bricks.PieceShape;
+
+/**
+ * One game of Tetris, independent of any user interface.
+ * <p>
+ * The session owns the {@link Board} and applies the game rules on top of it:
+ * locking a brick, clearing rows, scoring, counting lines, levelling up and
+ * detecting game over. The JavaFX controller drives a session from keyboard
+ * and timer events; the headless CLI and bots drive it directly.
+ * </p>
+ */
+public class GameSession {
+
+    /** Default board width in columns. */
+    public static final int BOARD_WIDTH = 15;
+
+    /** Default board height in rows, including the two hidden spawn rows. */
+    public static final int BOARD_HEIGHT = 33;
+
+    /** Number of lines required to advance one level. */
+    public static final int LINES_PER_LEVEL = 5;
+
+    /** Underlying game board and brick logic. */
+    private final Board board;
+
+    /** Total number of cleared lines in this game. */
+    private int linesCleared;
+
+    /** The player's current level, starting at 1. */
+    private int level = 1;
+
+    /** Number of bricks locked into the board in this game. */
+    private int piecesLocked;
+
+    /** Set once a new brick cannot be spawned. */
+    private boolean gameOver;
+
+    /**
+     * Creates a session on a board of the default size.
+     */
+    public GameSession() {
+        this(new TetrisBoard(BOARD_WIDTH, BOARD_HEIGHT));
+    }
+
+    /**
+     * Creates a session on a board of the default size that deals pieces from
+     * the given generator. With a seeded generator the piece sequence, and so
+     * a game driven by deterministic inputs, is reproducible.
+     *
+     * @param generator source of the piece sequence
+     */
+    public GameSession(PieceGenerator generator) {
+        this(new TetrisBoard(new BoardGrid(BOARD_WIDTH, BOARD_HEIGHT), generator));
+    }
+
+    /**
+     * Creates a session on the given board. The board must already have a
+     * falling brick.
+     *
+     * @param board the board to play on
+     */
+    public GameSession(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Moves the falling brick one row down.
+     *
+     * @return {@code true} if it moved, {@code false} if it is resting and should be locked
+     */
+    public boolean moveDown() { return !gameOver && board.moveBrickDown(); }
+
+    /**
+     * Moves the falling brick down by up to the given number of rows in one
+     * step, stopping where it lands.
+     *
+     * @param rows the most rows to fall
+     * @return the number of rows it fell, {@code 0} if it is resting or the game is over
+     */
+    public int drop(int rows) { return gameOver ? 0 : board.dropBrick(rows); }
+
+    /**
+     * Returns how many rows the falling brick can fall before it lands.
+     *
+     * @return the drop distance, {@code 0} if it is resting
+     */
+    public int dropDistance() { return board.dropDistance(); }
+
+    /**
+     * Moves the falling brick one column to the left.
+     *
+     * @return {@code true} if it moved
+     */
+    public boolean moveLeft() { return !gameOver && board.moveBrickLeft(); }
+
+    /**
+     * Moves the falling brick one column to the right.
+     *
+     * @return {@code true} if it moved
+     */
+    public boolean moveRight() { return !gameOver && board.moveBrickRight(); }
+
+    /**
+     * Rotates the falling brick.
+     *
+     * @return {@code true} if the rotation succeeded
+     */
+    public boolean rotate() { return !gameOver && board.rotateLeftBrick(); }
+
+    /**
+     * Swaps the falling brick with the held one, or holds it and spawns the next.
+     * Does nothing once the game is over.
+     *
+     * @return view data of the falling brick after the hold
+     */
+    public ViewData hold() { return gameOver ? board.getViewData() : board.holdBrick(); }
+
+    /**
+     * Checks whether {@link #hold()} would do anything for the falling brick.
+     *
+     * @return {@code true} if the game is running and hold has not been used since the brick spawned
+     */
+    public boolean canHold() { return !gameOver && board.canHoldBrick(); }
+
+    /**
+     * Drops the falling brick to its landing row and locks it.
+     *
+     * @return the rows cleared by the lock
+     */
+    public ClearRow hardDrop() {
+        if (gameOver) return ClearRow.NONE;
+        board.hardDropBrick();
+        return lockBrick();
+    }
+
+    /**
+     * Locks the falling brick into the board, clears full rows, updates the
+     * score, line count and level, and spawns the next brick. If the new brick
+     * collides straight away the game is over.
+     *
+     * @return the rows cleared by the lock, {@link ClearRow#NONE} if none
+     */
+    public ClearRow lockBrick() {
+        if (gameOver) return ClearRow.NONE;
+        board.mergeBrickToBackground();
+        piecesLocked++;
+
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+            linesCleared += clearRow.getLinesRemoved();
+            if (linesCleared >= level * LINES_PER_LEVEL) {
+                level++;
+            }
+        }
+
+        gameOver = !board.createNewBrick();
+        return clearRow;
+    }
+
+    /**
+     * Starts a new game on the same board.
+     */
+    public void newGame() {
+        board.newGame();
+        resetStats();
+    }
+
+    /**
+     * Starts a new game on the same board, dealing pieces from the given
+     * generator. With a seeded generator the new game is reproducible from
+     * its seed alone.
+     *
+     * @param generator source of the new game's piece sequence
+     */
+    public void newGame(PieceGenerator generator) {
+        board.newGame(generator);
+        resetStats();
+    }
+
+    /**
+     * Clears the line count, level, piece count and game-over flag.
+     */
+    private void resetStats() {
+        linesCleared = 0;
+        level = 1;
+        piecesLocked = 0;
+        gameOver = false;
+    }
+
+    /**
+     * Returns the board this session plays on.
+     *
+     * @return the board
+     */
+    public Board getBoard() { return board; }
+
+    /**
+     * Returns a live, read-only view of the locked cells.
+     *
+     * @return the board view
+     */
+    public BoardView getBoardView() { return board.getBoardView(); }
+
+    /**
+     * Returns the falling brick's view data.
+     *
+     * @return the current view data
+     */
+    public ViewData getViewData() { return board.getViewData(); }
+
+    /**
+     * Returns the shape of the held brick.
+     *
+     * @return the held brick's shape, or {@code null} if none is held
+     */
+    public PieceShape getHeldBrickShape() { return board.getHeldBrickShape(); }
+
+    /**
+     * Returns the shape of an upcoming brick.
+     *
+     * @param index 0 for the next piece, up to {@code getPreviewCount() - 1}
+     * @return the upcoming brick's shape
+     */
+    public PieceShape getPreviewShape(int index) { return board.getPreviewShape(index); }
+
+    /**
+     * Returns the number of upcoming bricks that can be previewed.
+     *
+     * @return preview count
+     */
+    public int getPreviewCount() { return board.getPreviewCount(); }
+
+    /**
+     * Returns the current score.
+     *
+     * @return score points
+     */
+    public int getScore() { return board.getScore().getScore(); }
+
+    /**
+     * Returns the total number of cleared lines.
+     *
+     * @return lines cleared in this game
+     */
+    public int getLinesCleared() { return linesCleared; }
+
+    /**
+     * Returns the current level.
+     *
+     * @return level, starting at 1
+     */
+    public int getLevel() { return level; }
+
+    /**
+     * Returns the number of bricks locked so far.
+     *
+     * @return pieces locked in this game
+     */
+    public int getPiecesLocked() { return piecesLocked; }
+
+    /**
+     * Checks whether the game has ended.
+     *
+     * @return {@code true} once a brick could not be spawned
+     */
+    public boolean isGameOver() { return gameOver; }
+}
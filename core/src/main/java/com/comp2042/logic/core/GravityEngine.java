@@ -0,0 +1,197 @@
+package com.comp2042.logic.core;
+
+/**
+ * Frame-based gravity and lock-delay timing for a {@link GameSession}.
+ * <p>
+ * Gravity is measured in cells per frame: {@code 1/60} G drops a row a
+ * second at 60 frames per second, 1 G a row every frame, and 20 G (the
+ * maximum) twenty rows every frame, which takes a piece to the floor of a
+ * standard 20-row field the frame it spawns. It is kept in
+ * fixed point, {@value #SUBCELLS} subcells to the cell, so the frame on which
+ * each row falls is exact and the same on every run. However many rows are
+ * due in a frame, they are resolved with a single drop-distance lookup and
+ * one {@link GameSession#drop(int)}, so high gravity costs no more than low.
+ * </p>
+ * <p>
+ * A piece that has landed is not locked straight away: the lock delay counts
+ * the frames it spends resting, and the piece locks when the count reaches
+ * the delay. The count starts again if the piece is moved off the stack. A
+ * successful shift or rotation while resting also restarts it, up to a limit
+ * of resets per piece, which is renewed whenever the piece reaches a lower
+ * row than before. The engine only decides when a lock
+ * is due; the caller performs it, then calls {@link #reset()} for the next
+ * piece, as it does after a hold or a new game.
+ * </p>
+ */
+public class GravityEngine {
+
+    /** Subcells per cell of the fixed-point gravity. */
+    public static final int SUBCELLS = 1 << 16;
+
+    /** Highest gravity, in cells per frame. */
+    public static final double MAX_GRAVITY = 20.0;
+
+    /** Default lock delay, in frames: half a second at 60 frames per second. */
+    public static final int DEFAULT_LOCK_DELAY = 30;
+
+    /** Default number of lock-delay resets a piece may use. */
+    public static final int DEFAULT_LOCK_RESETS = 15;
+
+    /** Frames a piece may rest before it locks. */
+    private final int lockDelay;
+
+    /** Lock-delay resets allowed per piece. */
+    private final int maxLockResets;
+
+    /** Gravity in subcells per frame. */
+    private long gravity;
+
+    /** Progress towards the next row, in subcells. */
+    private long fall;
+
+    /** Frames the piece has spent resting since the last reset of the count. */
+    private int lockFrames;
+
+    /** Lock-delay resets used since the piece last reached a new lowest row. */
+    private int lockResets;
+
+    /** Lowest row the piece has reached, or {@code -1} for a new piece. */
+    private int lowestRow = -1;
+
+    /** Whether the piece was resting at the end of the last frame. */
+    private boolean resting;
+
+    /** Whether the lock delay has run out. */
+    private boolean lockDue;
+
+    /**
+     * Creates an engine.
+     *
+     * @param cellsPerFrame initial gravity, clamped to {@code [0, MAX_GRAVITY]}
+     * @param lockDelay     frames a piece may rest before it locks
+     * @param maxLockResets lock-delay resets allowed per piece
+     * @throws IllegalArgumentException if the delay or reset limit is negative
+     */
+    public GravityEngine(double cellsPerFrame, int lockDelay, int maxLockResets) {
+        if (lockDelay < 0 || maxLockResets < 0) {
+            throw new IllegalArgumentException("Lock delay and reset limit must not be negative");
+        }
+        this.lockDelay = lockDelay;
+        this.maxLockResets = maxLockResets;
+        this.gravity = toSubcells(cellsPerFrame);
+    }
+
+    /**
+     * Sets the gravity. Takes effect from the next frame; progress towards
+     * the next row is kept.
+     *
+     * @param cellsPerFrame cells per frame, clamped to {@code [0, MAX_GRAVITY]}
+     */
+    public void setGravity(double cellsPerFrame) {
+        gravity = toSubcells(cellsPerFrame);
+    }
+
+    /**
+     * Converts a gravity to fixed point.
+     *
+     * @param cellsPerFrame cells per frame, clamped to {@code [0, MAX_GRAVITY]}
+     * @return subcells per frame
+     */
+    private static long toSubcells(double cellsPerFrame) {
+        double clamped = Math.max(0.0, Math.min(MAX_GRAVITY, cellsPerFrame));
+        return Math.round(clamped * SUBCELLS);
+    }
+
+    /**
+     * Returns the gravity.
+     *
+     * @return cells per frame
+     */
+    public double getGravity() {
+        return (double) gravity / SUBCELLS;
+    }
+
+    /**
+     * Advances one frame: lets the falling piece fall the rows that are due
+     * and counts down the lock delay while it rests.
+     *
+     * @param session the game
+     * @return the number of rows the piece fell this frame
+     */
+    public int step(GameSession session) {
+        if (session.isGameOver()) return 0;
+        int distance = session.dropDistance();
+        int fell = 0;
+        if (distance > 0) {
+            fall += gravity;
+            long rows = fall / SUBCELLS;
+            if (rows > 0) {
+                fell = session.drop((int) Math.min(rows, distance));
+                fall -= rows * SUBCELLS;
+                distance -= fell;
+            }
+        }
+        if (distance > 0) {
+            resting = false;
+            lockFrames = 0;
+        } else {
+            fall = 0;
+            resting = true;
+            lockFrames++;
+        }
+        int row = session.getViewData().getyPosition();
+        if (row > lowestRow) {
+            lowestRow = row;
+            lockResets = 0;
+        }
+        if (resting && lockFrames >= lockDelay) lockDue = true;
+        return fell;
+    }
+
+    /**
+     * Tells the engine the falling piece was shifted or rotated. While the
+     * piece is resting this restarts the lock delay, unless the piece has
+     * used up its resets.
+     */
+    public void onMoved() {
+        if (!resting || lockDue || lockResets >= maxLockResets) return;
+        lockResets++;
+        lockFrames = 0;
+    }
+
+    /**
+     * Returns whether the lock delay has run out and the piece should be
+     * locked now.
+     *
+     * @return {@code true} if a lock is due
+     */
+    public boolean isLockDue() {
+        return lockDue;
+    }
+
+    /**
+     * Prepares for a new falling piece: clears the fall progress, the lock
+     * delay and the resets.
+     */
+    public void reset() {
+        fall = 0;
+        lockFrames = 0;
+        lockResets = 0;
+        lowestRow = -1;
+        resting = false;
+        lockDue = false;
+    }
+
+    /**
+     * Returns how far the falling piece has progressed towards its next row,
+     * for drawing it between rows.
+     *
+     * @param alpha fraction of a frame elapsed since the last step
+     * @return a fraction of a row in {@code [0, 1)}; {@code 0} while resting
+     */
+    public double getFallProgress(double alpha) {
+        if (resting) return 0.0;
+        double progress = (fall + alpha * gravity) / SUBCELLS;
+        return Math.max(0.0, Math.min(progress, Math.nextDown(1.0)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.comp2042.logic.core;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, compact copy of a board's colour plane.
+ * Cells are stored four bits apiece in one flat array, row after row, so a
+ * standard 15 × 33 board takes 248 bytes instead of the 33 separate
+ * {@code int[]} rows of a {@link BoardView#snapshot()}. Colour IDs therefore
+ * range from 0 to 15.
+ */
+public final class PackedBoard {
+
+    /** Number of cells stored in each byte. */
+    private static final int CELLS_PER_BYTE = 2;
+
+    /** Bits used by one cell. */
+    private static final int CELL_BITS = 4;
+
+    /** Mask extracting one cell. */
+    private static final int CELL_MASK = (1 << CELL_BITS) - 1;
+
+    /** The width of the board in columns. */
+    private final int width;
+
+    /** The height of the board in rows. */
+    private final int height;
+
+    /** Packed cells; cell {@code i = row * width + col} is in byte {@code i / 2}, low nibble first. */
+    private final byte[] packed;
+
+    /**
+     * Captures the current contents of a board.
+     *
+     * @param board the board to copy
+     * @throws IllegalArgumentException if a cell holds a colour ID above 15
+     */
+    public PackedBoard(BoardView board) {
+        this.width = board.getWidth();
+        this.height = board.getHeight();
+        this.packed = new byte[(width * height + CELLS_PER_BYTE - 1) / CELLS_PER_BYTE];
+        int i = 0;
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++, i++) {
+                int id = board.getCell(r, c);
+                if (id < 0 || id > CELL_MASK) {
+                    throw new IllegalArgumentException("Colour ID " + id + " does not fit in " + CELL_BITS + " bits");
+                }
+                packed[i >> 1] |= (byte) (id << ((i & 1) * CELL_BITS));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of columns on the board.
+     *
+     * @return board width
+     */
+    public int getWidth() { return width; }
+
+    /**
+     * Returns the number of rows on the board.
+     *
+     * @return board height
+     */
+    public int getHeight() { return height; }
+
+    /**
+     * Returns the colour ID stored in a cell.
+     *
+     * @param row the row index (0 is the top row)
+     * @param col the column index (0 is the leftmost column)
+     * @return the colour ID, or {@code 0} if empty
+     */
+    public int getCell(int row, int col) {
+        int i = row * width + col;
+        return (packed[i >> 1] >> ((i & 1) * CELL_BITS)) & CELL_MASK;
+    }
+
+    /**
+     * Expands the snapshot into a new matrix.
+     *
+     * @return a 2D array of colour IDs, indexed {@code [row][col]}
+     */
+    public int[][] toMatrix() {
+        int[][] matrix = new int[height][width];
+        for (int r = 0; r < height; r++) {
+            for (int c = 0; c < width; c++) matrix[r][c] = getCell(r, c);
+        }
+        return matrix;
+    }
+
+    /**
+     * Two snapshots are equal when they have the same size and cells.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if both snapshots hold the same board
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PackedBoard)) return false;
+        PackedBoard other = (PackedBoard) o;
+        return width == other.width && height == other.height && Arrays.equals(packed, other.packed);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * width + height) + Arrays.hashCode(packed);
+    }
+}
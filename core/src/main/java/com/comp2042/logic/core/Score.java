@@ -0,0 +1,34 @@
+package com.comp2042.logic.core;
+
+/**
+ * Represents the player's score in Tetris.
+ * A plain counter with no UI dependency; front ends read it with
+ * {@link #getScore()} after each update and mirror it into their own widgets.
+ */
+public class Score {
+
+    /** The current score. */
+    private int score;
+
+    /**
+     * Resets the score to zero.
+     */
+    public void reset() {
+        score = 0;
+    }
+
+    /**
+     * Adds a value to the current score.
+     *
+     * @param i the amount to add
+     */
+    public void add(int i){ score += i; }
+
+    /**
+     * Gets the current score as an integer.
+     *
+     * @return current score
+     */
+    public int getScore() { return score; }
+
+}
@@ -1,6 +1,8 @@
 package com.comp2042.logic.core;
 
 import com.comp2042.logic.bricks.BrickManager;
+import com.comp2042.logic.bricks.PieceGenerator;
+import com.comp2042.logic.bricks.PieceShape;
 
 /**
  * Implementation of the Board interface for Tetris gameplay.
@@ -23,12 +25,63 @@ public class TetrisBoard implements Board {
      * @param height number of rows on the board
      */
     public TetrisBoard(int width, int height) {
-        boardGrid = new BoardGrid(width, height);
-        brickManager = new BrickManager(boardGrid);
+        this(new BoardGrid(width, height));
+    }
+
+    /**
+     * Constructs a TetrisBoard on an existing grid, for example one prepared
+     * with garbage rows by a benchmark or a simulation.
+     * Initializes the score and spawns the first falling brick.
+     *
+     * @param boardGrid the grid to play on
+     */
+    public TetrisBoard(BoardGrid boardGrid) {
+        this(boardGrid, new BrickManager(boardGrid));
+    }
+
+    /**
+     * Constructs a TetrisBoard on an existing grid that deals pieces from the
+     * given generator, so a seeded generator makes the piece sequence repeatable.
+     *
+     * @param boardGrid the grid to play on
+     * @param generator source of the piece sequence
+     */
+    public TetrisBoard(BoardGrid boardGrid, PieceGenerator generator) {
+        this(boardGrid, generator, BrickManager.DEFAULT_PREVIEW_COUNT);
+    }
+
+    /**
+     * Constructs a TetrisBoard on an existing grid that deals pieces from the
+     * given generator and shows the given number of upcoming pieces.
+     *
+     * @param boardGrid    the grid to play on
+     * @param generator    source of the piece sequence
+     * @param previewCount number of upcoming pieces to expose (at least 1)
+     */
+    public TetrisBoard(BoardGrid boardGrid, PieceGenerator generator, int previewCount) {
+        this(boardGrid, new BrickManager(boardGrid, generator, previewCount));
+    }
+
+    /**
+     * Shared constructor: initializes the score and spawns the first falling brick.
+     *
+     * @param boardGrid    the grid to play on
+     * @param brickManager the brick manager bound to {@code boardGrid}
+     */
+    private TetrisBoard(BoardGrid boardGrid, BrickManager brickManager) {
+        this.boardGrid = boardGrid;
+        this.brickManager = brickManager;
         gameScore = new Score();
         brickManager.spawnNewBrick();
     }
 
+    /** Switches to the given generator, then starts a new game as {@link #newGame()} does. */
+    @Override
+    public void newGame(PieceGenerator generator) {
+        brickManager.setGenerator(generator);
+        newGame();
+    }
+
 
     /**
      * Attempts to move the current falling brick down by one row.
@@ -36,6 +89,28 @@ public class TetrisBoard implements Board {
      * @return {@code true} if the brick moved successfully, {@code false} if blocked
      */
     @Override public boolean moveBrickDown() { return brickManager.moveDown(); }
+
+    /**
+     * Returns how many rows the current falling brick can drop before landing.
+     *
+     * @return the cached drop distance
+     */
+    @Override public int dropDistance() { return brickManager.dropDistance(); }
+
+    /**
+     * Moves the current falling brick down by up to the given number of rows.
+     *
+     * @param rows the most rows to fall
+     * @return the number of rows the brick fell
+     */
+    @Override public int dropBrick(int rows) { return brickManager.drop(rows); }
+
+    /**
+     * Moves the current falling brick to its landing row in one step.
+     *
+     * @return the number of rows the brick fell
+     */
+    @Override public int hardDropBrick() { return brickManager.hardDrop(); }
     /**
      * Attempts to move the current falling brick left by one column.
      *
@@ -71,6 +146,13 @@ public class TetrisBoard implements Board {
      */
     @Override public int[][] getBoardMatrix() { return boardGrid.getMatrixCopy(); }
 
+    /**
+     * Returns the live, read-only view of the board grid.
+     *
+     * @return the {@link BoardView} backed by this board's grid
+     */
+    @Override public BoardView getBoardView() { return boardGrid; }
+
     /**
      * Merges the current falling brick into the board grid permanently.
      */
@@ -116,6 +198,16 @@ public class TetrisBoard implements Board {
         return brickManager.holdPiece();
     }
 
+    /**
+     * Checks whether the hold action is still available for the falling brick.
+     *
+     * @return {@code true} if hold has not been used since the brick spawned
+     */
+    @Override
+    public boolean canHoldBrick() {
+        return brickManager.canHold();
+    }
+
     /**
      * Returns the matrix of the currently held brick, or {@code null} if no brick is held.
      *
@@ -126,4 +218,35 @@ public class TetrisBoard implements Board {
         return brickManager.getHeldBrickMatrix();
     }
 
+    /**
+     * Returns the shape descriptor of the currently held brick, or {@code null} if no brick is held.
+     *
+     * @return the held brick's {@link PieceShape}
+     */
+    @Override
+    public PieceShape getHeldBrickShape() {
+        return brickManager.getHeldBrickShape();
+    }
+
+    /**
+     * Returns the spawn-rotation shape of an upcoming brick.
+     *
+     * @param index 0 for the next piece, up to {@code getPreviewCount() - 1}
+     * @return the upcoming brick's {@link PieceShape}
+     */
+    @Override
+    public PieceShape getPreviewShape(int index) {
+        return brickManager.getPreview(index).getShape(0);
+    }
+
+    /**
+     * Returns the number of upcoming bricks that can be previewed.
+     *
+     * @return preview count
+     */
+    @Override
+    public int getPreviewCount() {
+        return brickManager.getPreviewCount();
+    }
+
 }
@@ -0,0 +1,213 @@
+package com.comp2042.logic.core;
+
+import com.comp2042.logic.bricks.PieceShape;
+
+/**
+ * Holds the state of a falling Tetris brick for rendering.
+ * Includes the brick's shape, its position on the board, the row it would land
+ * on (for the ghost piece), and the next brick's shape.
+ * Shapes are shared, immutable {@link PieceShape} descriptors, so no defensive
+ * copies are needed. The brick manager refreshes one instance in place on
+ * every move, so a {@code ViewData} should be read immediately; call
+ * {@link #copy()} to keep a value that will not change.
+ * <p>
+ * It also carries a version stamp for each part of the display it describes:
+ * the falling piece, its ghost, the held piece and the preview queue. A stamp
+ * changes whenever its part does, so a renderer that remembers the stamp it
+ * last drew can skip the work when nothing changed.
+ * </p>
+ */
+public final class ViewData {
+    /** The current brick's shape descriptor. */
+    private PieceShape brickShape;
+    /** The x-coordinate (column) of the current brick. */
+    private int xPosition;
+    /** The y-coordinate (row) of the current brick. */
+    private int yPosition;
+    /** The row the current brick would land on if dropped. */
+    private int ghostYPosition;
+    /** The shape descriptor of the next brick to appear. */
+    private PieceShape nextBrickShape;
+
+    /** Changes whenever the falling brick's shape or position changes. */
+    private long pieceVersion;
+
+    /** Changes whenever the ghost's shape or position changes. */
+    private long ghostVersion;
+
+    /** Changes whenever the held brick changes. */
+    private long holdVersion;
+
+    /** Changes whenever the preview queue advances or is replaced. */
+    private long previewVersion;
+
+
+    /**
+     * Constructs an empty ViewData to be filled in with
+     * {@link #set(PieceShape, int, int, int, PieceShape)}.
+     */
+    public ViewData() {
+    }
+
+    /**
+     * Constructs a ViewData instance.
+     *
+     * @param brickShape shape of the current falling brick
+     * @param xPosition column position of the current brick
+     * @param yPosition row position of the current brick
+     * @param ghostYPosition row the current brick would land on
+     * @param nextBrickShape shape of the next brick
+     */
+    public ViewData(PieceShape brickShape, int xPosition, int yPosition, int ghostYPosition, PieceShape nextBrickShape) {
+        this.brickShape = brickShape;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.ghostYPosition = ghostYPosition;
+        this.nextBrickShape = nextBrickShape;
+    }
+
+    /**
+     * Overwrites every field in place. Used by the brick manager to refresh its
+     * shared instance without allocating.
+     *
+     * @param brickShape shape of the current falling brick
+     * @param xPosition column position of the current brick
+     * @param yPosition row position of the current brick
+     * @param ghostYPosition row the current brick would land on
+     * @param nextBrickShape shape of the next brick
+     */
+    public void set(PieceShape brickShape, int xPosition, int yPosition, int ghostYPosition, PieceShape nextBrickShape) {
+        this.brickShape = brickShape;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.ghostYPosition = ghostYPosition;
+        this.nextBrickShape = nextBrickShape;
+    }
+
+    /**
+     * Overwrites the version stamps in place.
+     *
+     * @param pieceVersion   stamp of the falling brick
+     * @param ghostVersion   stamp of the ghost
+     * @param holdVersion    stamp of the held brick
+     * @param previewVersion stamp of the preview queue
+     */
+    public void setVersions(long pieceVersion, long ghostVersion, long holdVersion, long previewVersion) {
+        this.pieceVersion = pieceVersion;
+        this.ghostVersion = ghostVersion;
+        this.holdVersion = holdVersion;
+        this.previewVersion = previewVersion;
+    }
+
+    /**
+     * Returns a detached copy that is not affected by later updates.
+     *
+     * @return a new {@code ViewData} with the same values and version stamps
+     */
+    public ViewData copy() {
+        ViewData copy = new ViewData(brickShape, xPosition, yPosition, ghostYPosition, nextBrickShape);
+        copy.setVersions(pieceVersion, ghostVersion, holdVersion, previewVersion);
+        return copy;
+    }
+
+    /**
+     * Returns the version stamp of the falling brick's shape and position.
+     *
+     * @return the piece version
+     */
+    public long getPieceVersion() {
+        return pieceVersion;
+    }
+
+    /**
+     * Returns the version stamp of the ghost's shape and landing position.
+     *
+     * @return the ghost version
+     */
+    public long getGhostVersion() {
+        return ghostVersion;
+    }
+
+    /**
+     * Returns the version stamp of the held brick.
+     *
+     * @return the hold version
+     */
+    public long getHoldVersion() {
+        return holdVersion;
+    }
+
+    /**
+     * Returns the version stamp of the preview queue.
+     *
+     * @return the preview version
+     */
+    public long getPreviewVersion() {
+        return previewVersion;
+    }
+
+    /**
+     * Returns the current brick's shape descriptor.
+     *
+     * @return the shared {@link PieceShape} of the current brick
+     */
+    public PieceShape getBrickShape() {
+        return brickShape;
+    }
+
+    /**
+     * Returns a new matrix of the current brick's shape.
+     * This allocates; rendering code should use {@link #getBrickShape()}.
+     *
+     * @return 2D array representing the current brick
+     */
+    public int[][] getBrickData() {
+        return brickShape.toMatrix();
+    }
+
+    /**
+     * Returns the x-coordinate (column) of the current brick.
+     *
+     * @return x-position
+     */
+    public int getxPosition() {
+        return xPosition;
+    }
+
+    /**
+     * Returns the y-coordinate (row) of the current brick.
+     *
+     * @return y-position
+     */
+    public int getyPosition() {
+        return yPosition;
+    }
+
+    /**
+     * Returns the row the current brick would land on if hard dropped.
+     *
+     * @return ghost y-position
+     */
+    public int getGhostYPosition() {
+        return ghostYPosition;
+    }
+
+    /**
+     * Returns the next brick's shape descriptor.
+     *
+     * @return the shared {@link PieceShape} of the next brick
+     */
+    public PieceShape getNextBrickShape() {
+        return nextBrickShape;
+    }
+
+    /**
+     * Returns a new matrix of the next brick's shape.
+     * This allocates; rendering code should use {@link #getNextBrickShape()}.
+     *
+     * @return 2D array representing the next brick
+     */
+    public int[][] getNextBrickData() {
+        return nextBrickShape.toMatrix();
+    }
+}
@@ -0,0 +1,68 @@
+package com.comp2042.logic.core;
+
+/**
+ * Zobrist keys for hashing board positions.
+ * <p>
+ * Every cell {@code (row, col)} has a fixed pseudo-random 64-bit key, and a
+ * position's hash is the XOR of the keys of its filled cells. Filling or
+ * emptying a cell toggles its key, so a board can keep its hash up to date at
+ * the cost of one XOR per changed cell. The keys are the outputs of a
+ * SplitMix64 generator with a fixed seed, indexed by cell, and are computed
+ * on demand rather than stored, so boards of any height share them.
+ * </p>
+ * This class is non-instantiable.
+ */
+public final class Zobrist {
+
+    /** Increment of the SplitMix64 sequence (the 64-bit golden ratio). */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** Fixed seed, so hashes are the same in every run. */
+    private static final long SEED = 0x2042_C0DE_5EED_0001L;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of a cell.
+     *
+     * @param row the board row (0 is the top row)
+     * @param col the board column
+     * @return the cell's key
+     */
+    public static long cellKey(int row, int col) {
+        return mix(SEED + ((long) row << 6 | col) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Returns the XOR of the keys of the filled cells of one row.
+     *
+     * @param mask the row's occupancy mask, bit {@code c} for column {@code c}
+     * @param row  the board row
+     * @return the row's share of the board hash
+     */
+    public static long rowHash(long mask, int row) {
+        long hash = 0L;
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            hash ^= cellKey(row, Long.numberOfTrailingZeros(bits));
+        }
+        return hash;
+    }
+
+    /**
+     * Scrambles a value with the SplitMix64 finaliser. Useful for turning
+     * small packed values (a piece type and position, say) into keys that can
+     * be XORed onto a board hash.
+     *
+     * @param z the value
+     * @return a well-mixed 64-bit value
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
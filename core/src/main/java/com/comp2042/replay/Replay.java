@@ -0,0 +1,183 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded game, as read back from a replay file.
+ * <p>
+ * A replay file is a {@link ReplayHeader} followed by one varint per input,
+ * holding {@code deltaMillis << 3 | code}: the time since the previous input
+ * and the {@link ReplayAction} ordinal. Code {@value #END_CODE} marks the
+ * end of the game and is followed by a status byte; a finished game then
+ * stores its {@link ReplayResult} as three varints (pieces, lines, score) and
+ * the 8-byte board hash. Most inputs take two bytes, so a game of a few
+ * hundred pieces fits in a few kilobytes.
+ * </p>
+ * <p>
+ * A file cut short, for example because the game was killed, is still
+ * readable: it yields the inputs up to the cut, is not
+ * {@link #isComplete() complete} and has no result.
+ * </p>
+ */
+public final class Replay {
+
+    /** Code of the end marker. */
+    static final int END_CODE = 7;
+
+    /** Bits of an input varint holding the code. */
+    static final int CODE_BITS = 3;
+
+    /** Status byte of a game abandoned before it ended. */
+    static final byte ABANDONED = 0;
+
+    /** Status byte of a game played to the end, followed by its result. */
+    static final byte FINISHED = 1;
+
+    /** The rules the game was played under. */
+    private final ReplayHeader header;
+
+    /** Action ordinal of each input. */
+    private final byte[] actions;
+
+    /** Time of each input in milliseconds since the start of the game. */
+    private final long[] times;
+
+    /** Whether the end marker was read. */
+    private final boolean complete;
+
+    /** The claimed outcome, or {@code null} if there is none. */
+    private final ReplayResult result;
+
+    /**
+     * Creates a replay from decoded parts.
+     *
+     * @param header   the rules
+     * @param actions  action ordinals
+     * @param times    input times
+     * @param complete whether the end marker was read
+     * @param result   the claimed outcome, or {@code null}
+     */
+    private Replay(ReplayHeader header, byte[] actions, long[] times, boolean complete, ReplayResult result) {
+        this.header = header;
+        this.actions = actions;
+        this.times = times;
+        this.complete = complete;
+        this.result = result;
+    }
+
+    /**
+     * Reads a replay file.
+     *
+     * @param file the file
+     * @return the replay
+     * @throws IOException if the file cannot be read or is not a replay
+     */
+    public static Replay read(Path file) throws IOException {
+        return decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * Decodes a replay from the buffer's remaining bytes.
+     *
+     * @param buffer the encoded replay
+     * @return the replay
+     * @throws IOException if the data is not a replay
+     */
+    public static Replay decode(ByteBuffer buffer) throws IOException {
+        ReplayHeader header = ReplayHeader.readFrom(buffer);
+        byte[] actions = new byte[Math.max(16, buffer.remaining())];
+        long[] times = new long[actions.length];
+        int count = 0;
+        long time = 0L;
+        while (buffer.hasRemaining()) {
+            long value;
+            int start = buffer.position();
+            try {
+                value = Varint.read(buffer);
+            } catch (IOException e) {
+                buffer.position(start);
+                break;
+            }
+            int code = (int) (value & (1 << CODE_BITS) - 1);
+            time += value >>> CODE_BITS;
+            if (code == END_CODE) {
+                return new Replay(header, Arrays.copyOf(actions, count), Arrays.copyOf(times, count), true,
+                        readEnd(buffer));
+            }
+            if (code >= ReplayAction.COUNT) throw new IOException("Unknown replay input " + code);
+            actions[count] = (byte) code;
+            times[count++] = time;
+        }
+        return new Replay(header, Arrays.copyOf(actions, count), Arrays.copyOf(times, count), false, null);
+    }
+
+    /**
+     * Reads what follows the end marker.
+     *
+     * @param buffer the buffer positioned after the marker
+     * @return the result, or {@code null} if the game was abandoned
+     * @throws IOException if the status or result is malformed
+     */
+    private static ReplayResult readEnd(ByteBuffer buffer) throws IOException {
+        try {
+            byte status = buffer.get();
+            if (status == ABANDONED) return null;
+            if (status != FINISHED) throw new IOException("Unknown replay status " + status);
+            return new ReplayResult(Varint.readInt(buffer), Varint.readInt(buffer), Varint.readInt(buffer),
+                    buffer.getLong());
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Replay ends inside its result");
+        }
+    }
+
+    /**
+     * Returns the rules the game was played under.
+     *
+     * @return the header
+     */
+    public ReplayHeader getHeader() { return header; }
+
+    /**
+     * Returns the number of recorded inputs.
+     *
+     * @return the input count
+     */
+    public int getInputCount() { return actions.length; }
+
+    /**
+     * Returns a recorded input.
+     *
+     * @param index input index, below {@link #getInputCount()}
+     * @return the action
+     */
+    public ReplayAction getAction(int index) { return ReplayAction.of(actions[index]); }
+
+    /**
+     * Returns the time of a recorded input.
+     *
+     * @param index input index, below {@link #getInputCount()}
+     * @return milliseconds since the start of the game
+     */
+    public long getTimeMillis(int index) { return times[index]; }
+
+    /**
+     * Returns whether the replay ends with an end marker rather than being
+     * cut short.
+     *
+     * @return {@code true} if the end marker was read
+     */
+    public boolean isComplete() { return complete; }
+
+    /**
+     * Returns the outcome stored when the game ended.
+     *
+     * @return the claimed result, or {@code null} if the game was abandoned or
+     *         the file was cut short
+     */
+    public ReplayResult getResult() { return result; }
+}
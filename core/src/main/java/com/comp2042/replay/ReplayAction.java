@@ -0,0 +1,61 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.core.GameSession;
+
+/**
+ * An input recorded in a replay. Soft drops by the player and gravity ticks
+ * by the game loop have the same effect but are kept apart, so a replay shows
+ * who moved the piece.
+ */
+public enum ReplayAction {
+    /** The player moved the piece left. */
+    LEFT,
+    /** The player moved the piece right. */
+    RIGHT,
+    /** The player rotated the piece. */
+    ROTATE,
+    /** The player moved the piece down one row. */
+    SOFT_DROP,
+    /** The game loop moved the piece down one row. */
+    GRAVITY,
+    /** The player hard dropped the piece. */
+    HARD_DROP,
+    /** The player held the piece. */
+    HOLD;
+
+    /** Values indexed by ordinal, which is also the code stored in replays. */
+    private static final ReplayAction[] VALUES = values();
+
+    /** Number of actions; codes at or above it are not inputs. */
+    static final int COUNT = VALUES.length;
+
+    /**
+     * Applies the input to a session the way the game controller does: a
+     * downward move that is blocked locks the piece.
+     *
+     * @param session the session to play the input on
+     */
+    public void apply(GameSession session) {
+        switch (this) {
+            case LEFT -> session.moveLeft();
+            case RIGHT -> session.moveRight();
+            case ROTATE -> session.rotate();
+            case SOFT_DROP, GRAVITY -> {
+                if (!session.moveDown()) session.lockBrick();
+            }
+            case HARD_DROP -> session.hardDrop();
+            case HOLD -> session.hold();
+        }
+    }
+
+    /**
+     * Returns the action stored under a code.
+     *
+     * @param code the action's ordinal
+     * @return the action
+     * @throws ArrayIndexOutOfBoundsException if the code is not an action
+     */
+    static ReplayAction of(int code) {
+        return VALUES[code];
+    }
+}
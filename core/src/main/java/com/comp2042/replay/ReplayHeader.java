@@ -0,0 +1,187 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.bricks.GeneratorType;
+import com.comp2042.logic.core.BoardGrid;
+import com.comp2042.logic.core.GameSession;
+import com.comp2042.logic.core.TetrisBoard;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The rules a recorded game was played under: the piece generator and its
+ * seed, the board size and the preview length, plus the wall-clock time the
+ * game started. The rules are enough to rebuild the game's starting position
+ * and piece sequence; the inputs do the rest.
+ * <p>
+ * On disk the header is the magic number {@code TRPL}, a format version
+ * byte, the generator byte, the width, height and preview count as varints,
+ * and the seed and start time as 8-byte big-endian values.
+ * </p>
+ * <p>
+ * Replays may come from anywhere, so a header describing a board or preview
+ * larger than {@value #MAX_WIDTH} columns, {@value #MAX_HEIGHT} rows or
+ * {@value #MAX_PREVIEW_COUNT} pieces is rejected as unreadable before
+ * anything is allocated for it.
+ * </p>
+ */
+public final class ReplayHeader {
+
+    /** Bytes {@code TRPL} at the start of every replay. */
+    static final int MAGIC = 0x5452504C;
+
+    /** Version of the format written by this code. */
+    static final int FORMAT_VERSION = 1;
+
+    /** Widest board a replay may describe: a row must fit in a 64-bit mask. */
+    static final int MAX_WIDTH = Long.SIZE - 1;
+
+    /** Tallest board a replay may describe. */
+    static final int MAX_HEIGHT = 256;
+
+    /** Longest preview a replay may describe. */
+    static final int MAX_PREVIEW_COUNT = 16;
+
+    /** Generators indexed by the byte stored in replays. */
+    private static final GeneratorType[] GENERATORS = GeneratorType.values();
+
+    /** Generator the pieces were dealt from. */
+    private final GeneratorType generator;
+
+    /** Seed of the generator. */
+    private final long seed;
+
+    /** Board width in columns. */
+    private final int width;
+
+    /** Board height in rows. */
+    private final int height;
+
+    /** Number of upcoming pieces shown. */
+    private final int previewCount;
+
+    /** Wall-clock start time, in milliseconds since the epoch. */
+    private final long startEpochMillis;
+
+    /**
+     * Creates a header.
+     *
+     * @param generator        generator the pieces are dealt from
+     * @param seed             seed of the generator
+     * @param width            board width in columns
+     * @param height           board height in rows
+     * @param previewCount     number of upcoming pieces shown
+     * @param startEpochMillis wall-clock start time, in milliseconds since the epoch
+     */
+    public ReplayHeader(GeneratorType generator, long seed, int width, int height, int previewCount,
+                        long startEpochMillis) {
+        this.generator = generator;
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+        this.previewCount = previewCount;
+        this.startEpochMillis = startEpochMillis;
+    }
+
+    /**
+     * Creates a fresh session playing under these rules, in its starting
+     * position.
+     *
+     * @return the new session
+     */
+    public GameSession newSession() {
+        return new GameSession(new TetrisBoard(new BoardGrid(width, height), generator.create(seed), previewCount));
+    }
+
+    /**
+     * Returns the generator the pieces were dealt from.
+     *
+     * @return the generator type
+     */
+    public GeneratorType getGenerator() { return generator; }
+
+    /**
+     * Returns the seed of the generator.
+     *
+     * @return the seed
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Returns the board width.
+     *
+     * @return the width in columns
+     */
+    public int getWidth() { return width; }
+
+    /**
+     * Returns the board height.
+     *
+     * @return the height in rows
+     */
+    public int getHeight() { return height; }
+
+    /**
+     * Returns the number of upcoming pieces shown.
+     *
+     * @return the preview count
+     */
+    public int getPreviewCount() { return previewCount; }
+
+    /**
+     * Returns the wall-clock time the game started.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getStartEpochMillis() { return startEpochMillis; }
+
+    /**
+     * Appends the header.
+     *
+     * @param buffer the buffer to write to
+     */
+    void writeTo(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.put((byte) FORMAT_VERSION);
+        buffer.put((byte) generator.ordinal());
+        Varint.write(buffer, width);
+        Varint.write(buffer, height);
+        Varint.write(buffer, previewCount);
+        buffer.putLong(seed);
+        buffer.putLong(startEpochMillis);
+    }
+
+    /**
+     * Reads a header.
+     *
+     * @param buffer the buffer to read from
+     * @return the header
+     * @throws IOException if the data is not a replay header this code understands,
+     *                     or describes a board or preview outside the limits
+     */
+    static ReplayHeader readFrom(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) throw new IOException("Not a replay file");
+            int version = buffer.get();
+            if (version != FORMAT_VERSION) throw new IOException("Unsupported replay version " + version);
+            int generator = buffer.get();
+            if (generator < 0 || generator >= GENERATORS.length) {
+                throw new IOException("Unknown piece generator " + generator);
+            }
+            int width = Varint.readInt(buffer);
+            int height = Varint.readInt(buffer);
+            int previewCount = Varint.readInt(buffer);
+            if (width < 1 || width > MAX_WIDTH || height < 1 || height > MAX_HEIGHT) {
+                throw new IOException("Unsupported replay board size " + width + "x" + height);
+            }
+            if (previewCount < 1 || previewCount > MAX_PREVIEW_COUNT) {
+                throw new IOException("Unsupported replay preview count " + previewCount);
+            }
+            return new ReplayHeader(GENERATORS[generator], buffer.getLong(), width, height,
+                    previewCount, buffer.getLong());
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Replay ends inside its header");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.core.GameSession;
+
+/**
+ * The outcome of a game as stored at the end of its replay: the pieces
+ * locked, lines cleared, final score and the Zobrist hash of the final board.
+ * Replaying the inputs must reproduce all four.
+ */
+public final class ReplayResult {
+
+    /** Number of pieces locked. */
+    private final int pieces;
+
+    /** Number of lines cleared. */
+    private final int lines;
+
+    /** Final score. */
+    private final int score;
+
+    /** Zobrist hash of the final board. */
+    private final long boardHash;
+
+    /**
+     * Creates a result.
+     *
+     * @param pieces    number of pieces locked
+     * @param lines     number of lines cleared
+     * @param score     final score
+     * @param boardHash Zobrist hash of the final board
+     */
+    public ReplayResult(int pieces, int lines, int score, long boardHash) {
+        this.pieces = pieces;
+        this.lines = lines;
+        this.score = score;
+        this.boardHash = boardHash;
+    }
+
+    /**
+     * Captures the current outcome of a session.
+     *
+     * @param session the session
+     * @return its pieces, lines, score and board hash
+     */
+    public static ReplayResult of(GameSession session) {
+        return new ReplayResult(session.getPiecesLocked(), session.getLinesCleared(), session.getScore(),
+                session.getBoardView().getZobristHash());
+    }
+
+    /**
+     * Returns the number of pieces locked.
+     *
+     * @return the piece count
+     */
+    public int getPieces() { return pieces; }
+
+    /**
+     * Returns the number of lines cleared.
+     *
+     * @return the line count
+     */
+    public int getLines() { return lines; }
+
+    /**
+     * Returns the final score.
+     *
+     * @return the score
+     */
+    public int getScore() { return score; }
+
+    /**
+     * Returns the Zobrist hash of the final board.
+     *
+     * @return the board hash
+     */
+    public long getBoardHash() { return boardHash; }
+
+    /**
+     * Compares all four values.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if {@code o} is a result with the same values
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ReplayResult other && pieces == other.pieces && lines == other.lines
+                && score == other.score && boardHash == other.boardHash;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return ((pieces * 31 + lines) * 31 + score) * 31 + Long.hashCode(boardHash);
+    }
+
+    /**
+     * Returns the values in a readable form.
+     *
+     * @return for example {@code pieces=120 lines=31 score=2150 board=5f3a...}
+     */
+    @Override
+    public String toString() {
+        return String.format("pieces=%d lines=%d score=%d board=%016x", pieces, lines, score, boardHash);
+    }
+}
@@ -0,0 +1,149 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.core.GameSession;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Re-simulates recorded games without a user interface or real-time pacing
+ * and checks that they reproduce the results they claim.
+ * <p>
+ * Each replay is rebuilt from its {@link ReplayHeader} and its inputs are
+ * applied back to back, so a game of a few thousand inputs replays in well
+ * under a millisecond. Files are verified in parallel on a work-stealing
+ * {@link ForkJoinPool}: the file list is split recursively and each leaf
+ * reads and replays its files, writing outcomes into disjoint slots, so the
+ * report lists files in the order given whatever the parallelism.
+ * </p>
+ */
+public class ReplayVerifier {
+
+    /** Number of leaf tasks to aim for per worker thread, for load balancing. */
+    private static final int TASKS_PER_WORKER = 8;
+
+    /** Pool the replays run on. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a verifier on the common pool.
+     */
+    public ReplayVerifier() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a verifier.
+     *
+     * @param pool pool to replay on
+     */
+    public ReplayVerifier(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Verifies every file and waits for all of them.
+     *
+     * @param files the replay files
+     * @return per-file outcomes in input order, with counts and throughput
+     */
+    public VerificationReport verify(List<Path> files) {
+        Path[] paths = files.toArray(new Path[0]);
+        Verification[] results = new Verification[paths.length];
+        int threshold = Math.max(1, paths.length / (pool.getParallelism() * TASKS_PER_WORKER));
+        long start = System.nanoTime();
+        pool.invoke(new VerifyTask(paths, results, 0, paths.length, threshold));
+        return new VerificationReport(results, System.nanoTime() - start);
+    }
+
+    /**
+     * Reads and verifies a single file.
+     *
+     * @param file the replay file
+     * @return the outcome
+     */
+    public static Verification verify(Path file) {
+        Replay replay;
+        ReplayResult actual;
+        try {
+            replay = Replay.read(file);
+            actual = replay(replay);
+        } catch (IOException | RuntimeException e) {
+            // a corrupt header can decode but describe a board that cannot be built
+            return new Verification(file, Verification.Status.UNREADABLE, null, null, 0, e.toString());
+        }
+        ReplayResult claimed = replay.getResult();
+        Verification.Status status = claimed == null ? Verification.Status.UNCLAIMED
+                : claimed.equals(actual) ? Verification.Status.MATCH : Verification.Status.MISMATCH;
+        return new Verification(file, status, claimed, actual, replay.getInputCount(), null);
+    }
+
+    /**
+     * Replays a game from its first input to its last.
+     *
+     * @param replay the recorded game
+     * @return the pieces, lines, score and board hash it ends with
+     */
+    public static ReplayResult replay(Replay replay) {
+        GameSession session = replay.getHeader().newSession();
+        for (int i = 0; i < replay.getInputCount(); i++) {
+            replay.getAction(i).apply(session);
+        }
+        return ReplayResult.of(session);
+    }
+
+    /**
+     * Verifies a range of files, splitting the range in half until it is no
+     * larger than the threshold.
+     */
+    private static final class VerifyTask extends RecursiveAction {
+
+        /** Serialization version; tasks are never serialized. */
+        private static final long serialVersionUID = 1L;
+
+        /** All files of the batch; not serialized. */
+        private final transient Path[] files;
+        /** Outcome slots, one per file; not serialized. */
+        private final transient Verification[] results;
+        /** First file index of this task, inclusive. */
+        private final int from;
+        /** Last file index of this task, exclusive. */
+        private final int to;
+        /** Largest range verified without splitting. */
+        private final int threshold;
+
+        /**
+         * Creates a task for {@code files[from, to)}.
+         *
+         * @param files     all files
+         * @param results   outcome slots
+         * @param from      first index, inclusive
+         * @param to        last index, exclusive
+         * @param threshold largest range verified without splitting
+         */
+        VerifyTask(Path[] files, Verification[] results, int from, int to, int threshold) {
+            this.files = files;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Verifies the range directly or splits it.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) results[i] = verify(files[i]);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new VerifyTask(files, results, from, mid, threshold),
+                    new VerifyTask(files, results, mid, to, threshold));
+        }
+    }
+}
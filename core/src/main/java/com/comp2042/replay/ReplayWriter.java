@@ -0,0 +1,302 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.core.GameSession;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records one game to a replay file in the format described by
+ * {@link Replay}.
+ * <p>
+ * Recording is split between two threads. The game's thread (the JavaFX
+ * thread, in the game) only appends a varint to an in-memory buffer per
+ * input, which costs a few nanoseconds and never touches the disk. When a
+ * buffer fills up, when an input comes more than {@value #FLUSH_INTERVAL_MILLIS}
+ * ms after the last hand-over, and when the game ends, the buffer is handed
+ * to a shared background thread that opens, writes and closes the file through a
+ * {@link FileChannel}; written buffers are recycled. The background thread
+ * is not a daemon, so pending writes are completed before the JVM exits, and
+ * it stops by itself once it has been idle for a while. If the game process
+ * is killed, the file therefore holds every input up to roughly a second
+ * before the last one, and reads back as a replay cut short there.
+ * </p>
+ * <p>
+ * Write errors never reach the game: the first one is kept, the rest of the
+ * recording is dropped, and the error is available from {@link #getFailure()}.
+ * A writer is used by one game thread at a time.
+ * </p>
+ */
+public final class ReplayWriter implements Closeable {
+
+    /** Size of each in-memory buffer. */
+    private static final int BUFFER_SIZE = 4096;
+
+    /** Longest time inputs are kept in memory before being handed to the background thread. */
+    static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    /** {@link #FLUSH_INTERVAL_MILLIS} in nanoseconds. */
+    private static final long FLUSH_INTERVAL_NANOS = FLUSH_INTERVAL_MILLIS * 1_000_000L;
+
+    /** Room needed for the end marker, status and result. */
+    private static final int END_BYTES = 2 * Varint.MAX_BYTES + 1 + 3 * 5 + Long.BYTES;
+
+    /** Thread that performs all file operations, in submission order. */
+    private static final ThreadPoolExecutor IO = new ThreadPoolExecutor(0, 1, 5, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), task -> {
+                Thread thread = new Thread(task, "replay-writer");
+                thread.setDaemon(false);
+                return thread;
+            });
+
+    /** File being written. */
+    private final Path file;
+
+    /** {@link System#nanoTime()} at the start of the game. */
+    private final long startNanos;
+
+    /** Buffers written out and ready for reuse. */
+    private final ConcurrentLinkedQueue<ByteBuffer> spare = new ConcurrentLinkedQueue<>();
+
+    /** Counted down once the file has been closed. */
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    /** Buffer inputs are being appended to. */
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /** Time of the last input, in milliseconds since the start. */
+    private long lastMillis;
+
+    /** {@link System#nanoTime()} when the last buffer was handed over. */
+    private long lastFlushNanos;
+
+    /** Number of inputs recorded. */
+    private int inputCount;
+
+    /** Set once the end marker has been written. */
+    private boolean closed;
+
+    /** Open file; only touched on the background thread. */
+    private FileChannel channel;
+
+    /** First write error, or {@code null}. */
+    private volatile IOException failure;
+
+    /**
+     * Creates a writer and writes the header.
+     *
+     * @param file       the file to write
+     * @param header     the rules of the game
+     * @param startNanos {@link System#nanoTime()} at the start of the game
+     */
+    private ReplayWriter(Path file, ReplayHeader header, long startNanos) {
+        this.file = file;
+        this.startNanos = startNanos;
+        this.lastFlushNanos = startNanos;
+        header.writeTo(buffer);
+        IO.execute(this::openChannel);
+    }
+
+    /**
+     * Starts recording a game to a file. The file, and its directory if
+     * needed, are created on the background thread, so this call does not
+     * wait for the disk.
+     *
+     * @param file   the file to write; an existing file is replaced
+     * @param header the rules of the game
+     * @return the writer
+     */
+    public static ReplayWriter open(Path file, ReplayHeader header) {
+        return open(file, header, System.nanoTime());
+    }
+
+    /**
+     * Starts recording a game that started at the given time.
+     *
+     * @param file       the file to write
+     * @param header     the rules of the game
+     * @param startNanos {@link System#nanoTime()} at the start of the game
+     * @return the writer
+     */
+    static ReplayWriter open(Path file, ReplayHeader header, long startNanos) {
+        return new ReplayWriter(file, header, startNanos);
+    }
+
+    /**
+     * Records an input at the current time.
+     *
+     * @param action the input
+     */
+    public void record(ReplayAction action) {
+        record(action, System.nanoTime());
+    }
+
+    /**
+     * Records an input at the given time. Ignored once the recording has
+     * ended.
+     *
+     * @param action    the input
+     * @param nanoTime  the time of the input, on the {@link System#nanoTime()} clock
+     */
+    public void record(ReplayAction action, long nanoTime) {
+        if (closed) return;
+        Varint.write(buffer, delta(nanoTime) << Replay.CODE_BITS | action.ordinal());
+        inputCount++;
+        if (buffer.remaining() < END_BYTES || nanoTime - lastFlushNanos >= FLUSH_INTERVAL_NANOS) {
+            lastFlushNanos = nanoTime;
+            flush();
+        }
+    }
+
+    /**
+     * Ends the recording of a game that was played to the end, storing its
+     * outcome, and closes the file. Does nothing if the recording has already
+     * ended.
+     *
+     * @param session the finished game
+     */
+    public void finish(GameSession session) {
+        end(ReplayResult.of(session));
+    }
+
+    /**
+     * Ends the recording of a game that was abandoned, and closes the file.
+     * Does nothing if the recording has already ended.
+     */
+    @Override
+    public void close() {
+        end(null);
+    }
+
+    /**
+     * Waits until the file has been written and closed.
+     *
+     * @throws IOException          if writing the file failed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitWritten() throws IOException, InterruptedException {
+        done.await();
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * Returns the file being written.
+     *
+     * @return the path
+     */
+    public Path getFile() { return file; }
+
+    /**
+     * Returns the number of inputs recorded so far.
+     *
+     * @return the input count
+     */
+    public int getInputCount() { return inputCount; }
+
+    /**
+     * Returns the first error hit while writing the file.
+     *
+     * @return the error, or {@code null} if there has been none
+     */
+    public IOException getFailure() { return failure; }
+
+    /**
+     * Appends the end marker, the status and the result, and hands the rest
+     * of the recording to the background thread.
+     *
+     * @param result the outcome, or {@code null} for an abandoned game
+     */
+    private void end(ReplayResult result) {
+        if (closed) return;
+        closed = true;
+        Varint.write(buffer, delta(System.nanoTime()) << Replay.CODE_BITS | Replay.END_CODE);
+        if (result == null) {
+            buffer.put(Replay.ABANDONED);
+        } else {
+            buffer.put(Replay.FINISHED);
+            Varint.write(buffer, result.getPieces());
+            Varint.write(buffer, result.getLines());
+            Varint.write(buffer, result.getScore());
+            buffer.putLong(result.getBoardHash());
+        }
+        flush();
+        IO.execute(this::closeChannel);
+    }
+
+    /**
+     * Returns the milliseconds since the previous input and moves the clock on.
+     *
+     * @param nanoTime the current time
+     * @return the delta, never negative
+     */
+    private long delta(long nanoTime) {
+        long millis = Math.max(lastMillis, (nanoTime - startNanos) / 1_000_000);
+        long delta = millis - lastMillis;
+        lastMillis = millis;
+        return delta;
+    }
+
+    /**
+     * Hands the current buffer to the background thread and continues in a
+     * recycled or new one.
+     */
+    private void flush() {
+        ByteBuffer full = buffer.flip();
+        ByteBuffer next = spare.poll();
+        buffer = next != null ? next : ByteBuffer.allocate(BUFFER_SIZE);
+        IO.execute(() -> write(full));
+    }
+
+    /**
+     * Opens the file. Runs on the background thread.
+     */
+    private void openChannel() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Writes a buffer and recycles it. Runs on the background thread.
+     *
+     * @param data the bytes to write
+     */
+    private void write(ByteBuffer data) {
+        if (failure == null) {
+            try {
+                while (data.hasRemaining()) channel.write(data);
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        spare.offer(data.clear());
+    }
+
+    /**
+     * Closes the file. Runs on the background thread.
+     */
+    private void closeChannel() {
+        try {
+            if (channel != null) channel.close();
+        } catch (IOException e) {
+            if (failure == null) failure = e;
+        } finally {
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned LEB128 variable-length integers: seven bits per byte, low bits
+ * first, the top bit set on every byte but the last. Values below 128 take
+ * one byte and values below 16384 two.
+ * <p>
+ * This class is non-instantiable.
+ * </p>
+ */
+final class Varint {
+
+    /** Longest encoding of a 64-bit value. */
+    static final int MAX_BYTES = 10;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Varint() {
+    }
+
+    /**
+     * Appends a value.
+     *
+     * @param buffer the buffer to write to
+     * @param value  the value, treated as unsigned
+     */
+    static void write(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads a value.
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     * @throws IOException if the buffer ends inside the value or the value
+     *                     is longer than {@value #MAX_BYTES} bytes
+     */
+    static long read(ByteBuffer buffer) throws IOException {
+        long value = 0L;
+        try {
+            for (int shift = 0; shift < 7 * MAX_BYTES; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) return value;
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Replay ends inside a number");
+        }
+        throw new IOException("Malformed number in replay");
+    }
+
+    /**
+     * Reads a value that must fit in an {@code int}.
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     * @throws IOException if the value is malformed or out of range
+     */
+    static int readInt(ByteBuffer buffer) throws IOException {
+        long value = read(buffer);
+        if (value > Integer.MAX_VALUE) throw new IOException("Number out of range in replay: " + value);
+        return (int) value;
+    }
+}
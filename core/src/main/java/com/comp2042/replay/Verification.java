@@ -0,0 +1,119 @@
+package com.comp2042.replay;
+
+import java.nio.file.Path;
+
+/**
+ * The outcome of checking one replay file: whether re-simulating its inputs
+ * reproduces the result it claims.
+ */
+public final class Verification {
+
+    /**
+     * How a replay fared.
+     */
+    public enum Status {
+        /** The re-simulated result equals the claimed one. */
+        MATCH,
+        /** The re-simulated result differs from the claimed one. */
+        MISMATCH,
+        /** The replay claims no result: the game was abandoned or the file was cut short. */
+        UNCLAIMED,
+        /** The file could not be read or is not a replay. */
+        UNREADABLE
+    }
+
+    /** The replay file. */
+    private final Path file;
+
+    /** The outcome. */
+    private final Status status;
+
+    /** Result stored in the file, or {@code null}. */
+    private final ReplayResult claimed;
+
+    /** Result of re-simulating the inputs, or {@code null} if the file was unreadable. */
+    private final ReplayResult actual;
+
+    /** Number of inputs replayed. */
+    private final int inputCount;
+
+    /** Why the file was unreadable, or {@code null}. */
+    private final String error;
+
+    /**
+     * Creates a verification.
+     *
+     * @param file       the replay file
+     * @param status     the outcome
+     * @param claimed    result stored in the file, or {@code null}
+     * @param actual     re-simulated result, or {@code null}
+     * @param inputCount number of inputs replayed
+     * @param error      why the file was unreadable, or {@code null}
+     */
+    Verification(Path file, Status status, ReplayResult claimed, ReplayResult actual, int inputCount, String error) {
+        this.file = file;
+        this.status = status;
+        this.claimed = claimed;
+        this.actual = actual;
+        this.inputCount = inputCount;
+        this.error = error;
+    }
+
+    /**
+     * Returns the replay file.
+     *
+     * @return the path
+     */
+    public Path getFile() { return file; }
+
+    /**
+     * Returns the outcome.
+     *
+     * @return the status
+     */
+    public Status getStatus() { return status; }
+
+    /**
+     * Returns the result stored in the file.
+     *
+     * @return the claimed result, or {@code null} if there is none
+     */
+    public ReplayResult getClaimed() { return claimed; }
+
+    /**
+     * Returns the result of re-simulating the inputs.
+     *
+     * @return the actual result, or {@code null} if the file was unreadable
+     */
+    public ReplayResult getActual() { return actual; }
+
+    /**
+     * Returns the number of inputs replayed.
+     *
+     * @return the input count
+     */
+    public int getInputCount() { return inputCount; }
+
+    /**
+     * Returns why the file could not be read.
+     *
+     * @return the error message, or {@code null}
+     */
+    public String getError() { return error; }
+
+    /**
+     * Describes the outcome on one line.
+     *
+     * @return the file, the status and, where relevant, the claimed and
+     *         actual results or the error
+     */
+    @Override
+    public String toString() {
+        return switch (status) {
+            case MATCH -> file + ": match, " + actual;
+            case MISMATCH -> file + ": MISMATCH, claimed " + claimed + ", replayed " + actual;
+            case UNCLAIMED -> file + ": no claimed result, replayed " + actual;
+            case UNREADABLE -> file + ": unreadable, " + error;
+        };
+    }
+}
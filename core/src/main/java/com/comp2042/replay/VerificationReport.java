@@ -0,0 +1,122 @@
+package com.comp2042.replay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Results of verifying a batch of replays: every file's
+ * {@link Verification}, in the order the files were given, with counts per
+ * status and throughput.
+ */
+public final class VerificationReport {
+
+    /** Per-file outcomes. */
+    private final Verification[] verifications;
+
+    /** Number of files per status, indexed by ordinal. */
+    private final int[] counts = new int[Verification.Status.values().length];
+
+    /** Total number of inputs replayed. */
+    private final long inputs;
+
+    /** Wall-clock time of the batch, in nanoseconds. */
+    private final long wallNanos;
+
+    /**
+     * Creates a report.
+     *
+     * @param verifications per-file outcomes
+     * @param wallNanos     wall-clock time of the batch
+     */
+    VerificationReport(Verification[] verifications, long wallNanos) {
+        this.verifications = verifications;
+        this.wallNanos = wallNanos;
+        long total = 0L;
+        for (Verification v : verifications) {
+            counts[v.getStatus().ordinal()]++;
+            total += v.getInputCount();
+        }
+        this.inputs = total;
+    }
+
+    /**
+     * Returns the number of files checked.
+     *
+     * @return file count
+     */
+    public int getFileCount() { return verifications.length; }
+
+    /**
+     * Returns the outcome for one file.
+     *
+     * @param index position of the file in the list passed in
+     * @return the verification
+     */
+    public Verification getVerification(int index) { return verifications[index]; }
+
+    /**
+     * Returns the number of files with the given status.
+     *
+     * @param status the status
+     * @return the count
+     */
+    public int getCount(Verification.Status status) { return counts[status.ordinal()]; }
+
+    /**
+     * Returns the files that did not reproduce their claimed result or could
+     * not be read, in input order.
+     *
+     * @return the failed verifications
+     */
+    public List<Verification> getFailures() {
+        List<Verification> failures = new ArrayList<>();
+        for (Verification v : verifications) {
+            if (v.getStatus() == Verification.Status.MISMATCH || v.getStatus() == Verification.Status.UNREADABLE) {
+                failures.add(v);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Returns whether every file was readable and every claimed result was
+     * reproduced.
+     *
+     * @return {@code true} if there were no failures
+     */
+    public boolean isClean() {
+        return getCount(Verification.Status.MISMATCH) == 0 && getCount(Verification.Status.UNREADABLE) == 0;
+    }
+
+    /**
+     * Returns the total number of inputs replayed.
+     *
+     * @return the input count
+     */
+    public long getInputs() { return inputs; }
+
+    /**
+     * Returns the wall-clock time of the batch.
+     *
+     * @return nanoseconds
+     */
+    public long getWallNanos() { return wallNanos; }
+
+    /**
+     * Returns the number of replays verified per second of wall-clock time.
+     *
+     * @return replays per second
+     */
+    public double getReplaysPerSecond() {
+        return wallNanos == 0 ? 0.0 : verifications.length * 1e9 / wallNanos;
+    }
+
+    /**
+     * Returns the number of inputs replayed per second of wall-clock time.
+     *
+     * @return inputs per second
+     */
+    public double getInputsPerSecond() {
+        return wallNanos == 0 ? 0.0 : inputs * 1e9 / wallNanos;
+    }
+}
@@ -0,0 +1,3 @@
+/**contains the compact binary replay format used to record games and read them back*/
+
+package com.comp2042.replay;
@@ -0,0 +1,105 @@
+package com.comp2042.sim;
+
+/**
+ * Results of a batch run: every game's {@link GameResult}, in seed order,
+ * and aggregate statistics over all of them.
+ */
+public final class BatchReport {
+
+    /** Per-game results, in the order of the seeds passed in. */
+    private final GameResult[] results;
+
+    /** Aggregate over all games of the number of bricks locked. */
+    private final StreamingStats pieces;
+
+    /** Aggregate over all games of the number of lines cleared. */
+    private final StreamingStats lines;
+
+    /** Aggregate over all games of the final score. */
+    private final StreamingStats score;
+
+    /** Aggregate over all games of the playing time, in nanoseconds. */
+    private final StreamingStats durationNanos;
+
+    /** Wall-clock time of the whole batch, in nanoseconds. */
+    private final long wallNanos;
+
+    /**
+     * Creates a report.
+     *
+     * @param results       per-game results
+     * @param pieces        pieces aggregate
+     * @param lines         lines aggregate
+     * @param score         score aggregate
+     * @param durationNanos duration aggregate
+     * @param wallNanos     wall-clock time of the batch
+     */
+    BatchReport(GameResult[] results, StreamingStats pieces, StreamingStats lines,
+                StreamingStats score, StreamingStats durationNanos, long wallNanos) {
+        this.results = results;
+        this.pieces = pieces;
+        this.lines = lines;
+        this.score = score;
+        this.durationNanos = durationNanos;
+        this.wallNanos = wallNanos;
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return game count
+     */
+    public int getGameCount() { return results.length; }
+
+    /**
+     * Returns the result of one game.
+     *
+     * @param index position of the game's seed in the seed array
+     * @return the game's result
+     */
+    public GameResult getResult(int index) { return results[index]; }
+
+    /**
+     * Returns the aggregate of bricks locked per game.
+     *
+     * @return pieces statistics
+     */
+    public StreamingStats getPieces() { return pieces; }
+
+    /**
+     * Returns the aggregate of lines cleared per game.
+     *
+     * @return lines statistics
+     */
+    public StreamingStats getLines() { return lines; }
+
+    /**
+     * Returns the aggregate of final scores.
+     *
+     * @return score statistics
+     */
+    public StreamingStats getScore() { return score; }
+
+    /**
+     * Returns the aggregate of per-game playing time.
+     *
+     * @return duration statistics, in nanoseconds
+     */
+    public StreamingStats getDurationNanos() { return durationNanos; }
+
+    /**
+     * Returns the wall-clock time of the whole batch.
+     *
+     * @return elapsed nanoseconds
+     */
+    public long getWallNanos() { return wallNanos; }
+
+    /**
+     * Returns the overall throughput of the batch.
+     *
+     * @return bricks locked per wall-clock second
+     */
+    public double getPiecesPerSecond() {
+        return wallNanos == 0 ? 0 : pieces.getSum() * 1e9 / wallNanos;
+    }
+}
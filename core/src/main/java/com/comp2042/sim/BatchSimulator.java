@@ -0,0 +1,199 @@
+package com.comp2042.sim;
+
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import com.comp2042.logic.core.GameSession;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+
+/**
+ * Plays many headless games in parallel on a work-stealing
+ * {@link ForkJoinPool}.
+ * <p>
+ * Every game gets its own {@link GameSession} and {@link Policy}, both built
+ * from that game's seed, so games share no mutable state and the batch scales
+ * with the number of cores. The seed range is split recursively; each leaf
+ * plays its games and summarises them into its own {@link StreamingStats},
+ * and the summaries are merged on the way back up. Per-game results go into
+ * disjoint slots of one array, so a run with the same seeds gives the same
+ * report whatever the parallelism.
+ * </p>
+ */
+public class BatchSimulator {
+
+    /** Number of leaf tasks to aim for per worker thread, for load balancing. */
+    private static final int TASKS_PER_WORKER = 8;
+
+    /** Pool the games run on. */
+    private final ForkJoinPool pool;
+
+    /** Builds the session for a seed. */
+    private final LongFunction<GameSession> sessionFactory;
+
+    /** Builds the policy for a seed. */
+    private final LongFunction<? extends Policy> policyFactory;
+
+    /** Maximum number of bricks per game. */
+    private final int maxPieces;
+
+    /**
+     * Creates a simulator on the common pool that plays default-size 7-bag
+     * games with the given policy.
+     *
+     * @param policyFactory builds a fresh policy for each game's seed
+     * @param maxPieces     maximum number of bricks per game
+     */
+    public BatchSimulator(LongFunction<? extends Policy> policyFactory, int maxPieces) {
+        this(ForkJoinPool.commonPool(), seed -> new GameSession(new SevenBagGenerator(seed)), policyFactory, maxPieces);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param pool           pool to run the games on
+     * @param sessionFactory builds a fresh session for each game's seed
+     * @param policyFactory  builds a fresh policy for each game's seed
+     * @param maxPieces      maximum number of bricks per game
+     */
+    public BatchSimulator(ForkJoinPool pool, LongFunction<GameSession> sessionFactory,
+                          LongFunction<? extends Policy> policyFactory, int maxPieces) {
+        this.pool = pool;
+        this.sessionFactory = sessionFactory;
+        this.policyFactory = policyFactory;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays one game per seed and waits for all of them.
+     *
+     * @param seeds distinct seeds, one per game
+     * @return per-game results in seed order, with aggregates
+     */
+    public BatchReport run(long[] seeds) {
+        GameResult[] results = new GameResult[seeds.length];
+        int threshold = Math.max(1, seeds.length / (pool.getParallelism() * TASKS_PER_WORKER));
+        long start = System.nanoTime();
+        Totals totals = pool.invoke(new GamesTask(seeds, results, 0, seeds.length, threshold));
+        long wall = System.nanoTime() - start;
+        return new BatchReport(results, totals.pieces, totals.lines, totals.score, totals.duration, wall);
+    }
+
+    /**
+     * Plays a single game to completion or to the piece limit.
+     *
+     * @param seed seed for the session and the policy
+     * @return the game's result
+     */
+    public GameResult playGame(long seed) {
+        GameSession session = sessionFactory.apply(seed);
+        Policy policy = policyFactory.apply(seed);
+        long start = System.nanoTime();
+        while (!session.isGameOver() && session.getPiecesLocked() < maxPieces) {
+            policy.playPiece(session);
+        }
+        long duration = System.nanoTime() - start;
+        return new GameResult(seed, session.getPiecesLocked(), session.getLinesCleared(),
+                session.getScore(), session.isGameOver(), duration);
+    }
+
+    /**
+     * Aggregates of one subtree of games.
+     */
+    private static final class Totals {
+        /** Pieces per game. */
+        final StreamingStats pieces = new StreamingStats();
+        /** Lines per game. */
+        final StreamingStats lines = new StreamingStats();
+        /** Score per game. */
+        final StreamingStats score = new StreamingStats();
+        /** Nanoseconds per game. */
+        final StreamingStats duration = new StreamingStats();
+
+        /**
+         * Records one game.
+         *
+         * @param result the game's result
+         */
+        void record(GameResult result) {
+            pieces.record(result.getPieces());
+            lines.record(result.getLines());
+            score.record(result.getScore());
+            duration.record(result.getDurationNanos());
+        }
+
+        /**
+         * Folds another subtree's aggregates into these.
+         *
+         * @param other the aggregates to merge in
+         * @return this
+         */
+        Totals merge(Totals other) {
+            pieces.merge(other.pieces);
+            lines.merge(other.lines);
+            score.merge(other.score);
+            duration.merge(other.duration);
+            return this;
+        }
+    }
+
+    /**
+     * Plays the games for a range of seeds, splitting the range in half
+     * until it is no larger than the threshold.
+     */
+    private final class GamesTask extends RecursiveTask<Totals> {
+
+        /** Serialization version; tasks are never serialized. */
+        private static final long serialVersionUID = 1L;
+
+        /** All seeds of the batch. */
+        private final long[] seeds;
+        /** Result slots, one per seed; not serialized. */
+        private final transient GameResult[] results;
+        /** First seed index of this task, inclusive. */
+        private final int from;
+        /** Last seed index of this task, exclusive. */
+        private final int to;
+        /** Largest range played without splitting. */
+        private final int threshold;
+
+        /**
+         * Creates a task for {@code seeds[from, to)}.
+         *
+         * @param seeds     all seeds
+         * @param results   result slots
+         * @param from      first index, inclusive
+         * @param to        last index, exclusive
+         * @param threshold largest range played without splitting
+         */
+        GamesTask(long[] seeds, GameResult[] results, int from, int to, int threshold) {
+            this.seeds = seeds;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Plays the range directly or splits it.
+         *
+         * @return aggregates of the range
+         */
+        @Override
+        protected Totals compute() {
+            if (to - from <= threshold) {
+                Totals totals = new Totals();
+                for (int i = from; i < to; i++) {
+                    results[i] = playGame(seeds[i]);
+                    totals.record(results[i]);
+                }
+                return totals;
+            }
+            int mid = (from + to) >>> 1;
+            GamesTask left = new GamesTask(seeds, results, from, mid, threshold);
+            left.fork();
+            Totals right = new GamesTask(seeds, results, mid, to, threshold).compute();
+            return left.join().merge(right);
+        }
+    }
+}
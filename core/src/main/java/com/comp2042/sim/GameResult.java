@@ -0,0 +1,97 @@
+package com.comp2042.sim;
+
+/**
+ * Outcome of one simulated game.
+ */
+public final class GameResult {
+
+    /** Seed the game and its policy were created from. */
+    private final long seed;
+
+    /** Number of bricks locked. */
+    private final int pieces;
+
+    /** Number of lines cleared. */
+    private final int lines;
+
+    /** Final score. */
+    private final int score;
+
+    /** Whether the game ended by topping out rather than by the piece limit. */
+    private final boolean toppedOut;
+
+    /** Wall-clock time spent playing the game, in nanoseconds. */
+    private final long durationNanos;
+
+    /**
+     * Creates a result.
+     *
+     * @param seed          seed of the game
+     * @param pieces        bricks locked
+     * @param lines         lines cleared
+     * @param score         final score
+     * @param toppedOut     {@code true} if the game ended by topping out
+     * @param durationNanos time spent playing, in nanoseconds
+     */
+    public GameResult(long seed, int pieces, int lines, int score, boolean toppedOut, long durationNanos) {
+        this.seed = seed;
+        this.pieces = pieces;
+        this.lines = lines;
+        this.score = score;
+        this.toppedOut = toppedOut;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Returns the seed of the game.
+     *
+     * @return seed
+     */
+    public long getSeed() { return seed; }
+
+    /**
+     * Returns the number of bricks locked.
+     *
+     * @return pieces
+     */
+    public int getPieces() { return pieces; }
+
+    /**
+     * Returns the number of lines cleared.
+     *
+     * @return lines
+     */
+    public int getLines() { return lines; }
+
+    /**
+     * Returns the final score.
+     *
+     * @return score
+     */
+    public int getScore() { return score; }
+
+    /**
+     * Checks whether the game ended by topping out.
+     *
+     * @return {@code true} if topped out, {@code false} if it hit the piece limit
+     */
+    public boolean isToppedOut() { return toppedOut; }
+
+    /**
+     * Returns the time spent playing the game.
+     *
+     * @return duration in nanoseconds
+     */
+    public long getDurationNanos() { return durationNanos; }
+
+    /**
+     * Returns a one-line summary of the result.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("seed=%d score=%d lines=%d pieces=%d%s",
+                seed, score, lines, pieces, toppedOut ? " (topped out)" : "");
+    }
+}
@@ -0,0 +1,129 @@
+package com.comp2042.sim;
+
+/**
+ * Log-linear histogram of non-negative {@code long} values.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} get a bucket each; above that every
+ * power of two is split into {@value #SUB_BUCKETS} equal buckets, so a bucket
+ * is never wider than about 3% of the values it holds. Memory is fixed
+ * whatever the range, recording is a couple of shifts, and two histograms
+ * merge by adding counts, which is what lets the batch simulator build one
+ * per worker and combine them without sharing state.
+ * </p>
+ */
+public class Histogram {
+
+    /** Number of linear sub-buckets per power of two, as a power of two. */
+    private static final int SUB_BITS = 5;
+
+    /** Number of linear sub-buckets per power of two. */
+    public static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /** Number of buckets needed to cover every non-negative {@code long}. */
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    /** Count of recorded values per bucket. */
+    private final long[] counts = new long[BUCKETS];
+
+    /** Total number of recorded values. */
+    private long total;
+
+    /**
+     * Records one value.
+     *
+     * @param value the value, which must not be negative
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public void record(long value) {
+        if (value < 0) throw new IllegalArgumentException("Negative value: " + value);
+        counts[bucketOf(value)]++;
+        total++;
+    }
+
+    /**
+     * Adds the counts of another histogram to this one.
+     *
+     * @param other the histogram to merge in
+     */
+    public void merge(Histogram other) {
+        for (int i = 0; i < BUCKETS; i++) counts[i] += other.counts[i];
+        total += other.total;
+    }
+
+    /**
+     * Returns the total number of recorded values.
+     *
+     * @return count
+     */
+    public long getTotalCount() { return total; }
+
+    /**
+     * Returns the value below which the given fraction of recorded values fall,
+     * as the upper bound of the bucket that contains it.
+     *
+     * @param quantile a fraction between 0 and 1, e.g. 0.99 for the 99th percentile
+     * @return the estimated quantile, or 0 if nothing was recorded
+     * @throws IllegalArgumentException if {@code quantile} is outside [0, 1]
+     */
+    public long getValueAtQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) throw new IllegalArgumentException("Quantile out of range: " + quantile);
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return bucketUpperBound(i);
+        }
+        return bucketUpperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Returns the number of buckets.
+     *
+     * @return bucket count
+     */
+    public int getBucketCount() { return BUCKETS; }
+
+    /**
+     * Returns the number of values recorded in a bucket.
+     *
+     * @param bucket bucket index
+     * @return count
+     */
+    public long getCount(int bucket) { return counts[bucket]; }
+
+    /**
+     * Returns the smallest value that falls into a bucket.
+     *
+     * @param bucket bucket index
+     * @return inclusive lower bound
+     */
+    public static long bucketLowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exponent = (bucket >> SUB_BITS) + SUB_BITS - 1;
+        return (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << (exponent - SUB_BITS);
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     *
+     * @param bucket bucket index
+     * @return inclusive upper bound
+     */
+    public static long bucketUpperBound(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : bucketLowerBound(bucket + 1) - 1;
+    }
+
+    /**
+     * Returns the bucket a value falls into.
+     *
+     * @param value a non-negative value
+     * @return bucket index
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BITS + 1) << SUB_BITS) + sub;
+    }
+}
@@ -0,0 +1,21 @@
+package com.comp2042.sim;
+
+import com.comp2042.logic.core.GameSession;
+
+/**
+ * Decides how each brick of a headless game is played.
+ * <p>
+ * A policy instance belongs to exactly one game, so implementations may keep
+ * mutable state (a random source, search buffers) without synchronisation.
+ * </p>
+ */
+public interface Policy {
+
+    /**
+     * Moves the falling brick of the session and locks it, typically ending
+     * with {@link GameSession#hardDrop()}.
+     *
+     * @param session the game to play one piece in; never over when called
+     */
+    void playPiece(GameSession session);
+}
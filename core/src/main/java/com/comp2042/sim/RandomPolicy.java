@@ -0,0 +1,40 @@
+package com.comp2042.sim;
+
+import com.comp2042.logic.core.GameSession;
+
+import java.util.SplittableRandom;
+
+/**
+ * Baseline policy: every brick gets a random number of rotations and a
+ * random sideways shift and is then hard dropped.
+ */
+public class RandomPolicy implements Policy {
+
+    /** Source of rotation and shift choices. */
+    private final SplittableRandom random;
+
+    /**
+     * Creates a policy with the given seed.
+     *
+     * @param seed the seed; equal seeds make equal choices
+     */
+    public RandomPolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Rotates and shifts the falling brick at random, then hard drops it.
+     *
+     * @param session the game to play one piece in
+     */
+    @Override
+    public void playPiece(GameSession session) {
+        int rotations = random.nextInt(4);
+        for (int r = 0; r < rotations; r++) session.rotate();
+        int shift = random.nextInt(session.getBoardView().getWidth());
+        for (int s = 0; s < shift && session.moveRight(); s++) {
+            // keep shifting until the target column or the wall
+        }
+        session.hardDrop();
+    }
+}
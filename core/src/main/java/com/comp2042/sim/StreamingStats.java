@@ -0,0 +1,142 @@
+package com.comp2042.sim;
+
+/**
+ * Running summary of one metric: count, mean, standard deviation, minimum,
+ * maximum and a {@link Histogram} for percentiles.
+ * <p>
+ * Values are folded in one at a time with Welford's update, so the summary
+ * never stores the values themselves, and two summaries built on different
+ * threads combine exactly with {@link #merge(StreamingStats)}.
+ * </p>
+ */
+public class StreamingStats {
+
+    /** Number of recorded values. */
+    private long count;
+
+    /** Sum of the recorded values. */
+    private long sum;
+
+    /** Mean of the recorded values. */
+    private double mean;
+
+    /** Sum of squared differences from the mean. */
+    private double m2;
+
+    /** Smallest recorded value. */
+    private long min = Long.MAX_VALUE;
+
+    /** Largest recorded value. */
+    private long max = Long.MIN_VALUE;
+
+    /** Distribution of the recorded values. */
+    private final Histogram histogram = new Histogram();
+
+    /**
+     * Records one value.
+     *
+     * @param value the value, which must not be negative
+     */
+    public void record(long value) {
+        histogram.record(value);
+        count++;
+        sum += value;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Folds another summary into this one.
+     *
+     * @param other the summary to merge in
+     */
+    public void merge(StreamingStats other) {
+        if (other.count == 0) return;
+        long combined = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / combined;
+        m2 += other.m2 + delta * delta * count * other.count / combined;
+        count = combined;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        histogram.merge(other.histogram);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return count
+     */
+    public long getCount() { return count; }
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return sum
+     */
+    public long getSum() { return sum; }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return mean, or 0 if nothing was recorded
+     */
+    public double getMean() { return mean; }
+
+    /**
+     * Returns the sample standard deviation of the recorded values.
+     *
+     * @return standard deviation, or 0 if fewer than two values were recorded
+     */
+    public double getStandardDeviation() { return count < 2 ? 0 : Math.sqrt(m2 / (count - 1)); }
+
+    /**
+     * Returns the smallest recorded value.
+     *
+     * @return minimum, or 0 if nothing was recorded
+     */
+    public long getMin() { return count == 0 ? 0 : min; }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return maximum, or 0 if nothing was recorded
+     */
+    public long getMax() { return count == 0 ? 0 : max; }
+
+    /**
+     * Returns an estimate of a percentile, accurate to the histogram's bucket
+     * width and never outside the recorded range.
+     *
+     * @param percentile a percentage between 0 and 100
+     * @return the estimated percentile
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) return 0;
+        long value = histogram.getValueAtQuantile(percentile / 100);
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Returns the histogram of recorded values.
+     *
+     * @return the histogram
+     */
+    public Histogram getHistogram() { return histogram; }
+
+    /**
+     * Returns a one-line summary with mean, spread and common percentiles.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("mean=%.1f sd=%.1f min=%d p50=%d p90=%d p99=%d max=%d",
+                getMean(), getStandardDeviation(), getMin(),
+                getPercentile(50), getPercentile(90), getPercentile(99), getMax());
+    }
+}
@@ -0,0 +1,3 @@
+/**contains the parallel batch simulator that plays many headless games and aggregates their results*/
+
+package com.comp2042.sim;
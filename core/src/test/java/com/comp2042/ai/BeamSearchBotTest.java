@@ -0,0 +1,53 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import com.comp2042.logic.core.GameSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeamSearchBotTest {
+
+    @Test
+    void testBotSurvivesAndClearsLines() {
+        GameSession session = new GameSession(new SevenBagGenerator(42));
+        BeamSearchBot bot = new BeamSearchBot();
+        for (int i = 0; i < 300; i++) {
+            bot.playPiece(session);
+            assertFalse(session.isGameOver(), "topped out after " + i + " pieces");
+        }
+        assertTrue(session.getLinesCleared() >= 50, "lines: " + session.getLinesCleared());
+    }
+
+    @Test
+    void testParallelSearchMatchesSerialSearch() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BeamSearchBot serial = new BeamSearchBot(EvaluatorWeights.DEFAULT, 16, 3, 0, null);
+            BeamSearchBot parallel = new BeamSearchBot(EvaluatorWeights.DEFAULT, 16, 3, 0, pool);
+            GameSession session = new GameSession(new SevenBagGenerator(7));
+            for (int i = 0; i < 40; i++) {
+                Decision expected = serial.decide(session);
+                Decision actual = parallel.decide(session);
+                assertEquals(expected.toString(), actual.toString(), "piece " + i);
+                serial.playPiece(session);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testTimeBudgetStillReturnsMove() {
+        GameSession session = new GameSession(new SevenBagGenerator(3));
+        BeamSearchBot bot = new BeamSearchBot(EvaluatorWeights.DEFAULT, 32, 5, 1, null);
+        assertNotNull(bot.decide(session));
+        assertEquals(1, bot.getTimeouts());
+
+        int before = session.getPiecesLocked();
+        bot.playPiece(session);
+        assertEquals(before + 1, session.getPiecesLocked());
+    }
+}
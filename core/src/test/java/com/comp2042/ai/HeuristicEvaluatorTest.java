@@ -0,0 +1,67 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.TetrominoType;
+import com.comp2042.logic.core.BoardGrid;
+import com.comp2042.logic.core.ClearRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeuristicEvaluatorTest {
+
+    private static BoardGrid copyOf(BoardGrid grid) {
+        BoardGrid copy = new BoardGrid(grid.getWidth(), grid.getHeight());
+        copy.merge(grid.snapshot(), 0, 0);
+        return copy;
+    }
+
+    @Test
+    void testFeaturesOfKnownBoard() {
+        BoardGrid grid = new BoardGrid(4, 6);
+        grid.merge(new int[][]{{1, 0, 1, 1}, {1, 1, 0, 1}}, 0, 4);
+        // heights 2,1,2,2; one hole under column 2; a well of depth 1 at column 1
+        assertEquals(7, new HeuristicEvaluator(new EvaluatorWeights(1, 0, 0, 0, 0, 0, 0)).evaluate(grid));
+        assertEquals(1, new HeuristicEvaluator(new EvaluatorWeights(0, 1, 0, 0, 0, 0, 0)).evaluate(grid));
+        assertEquals(2, new HeuristicEvaluator(new EvaluatorWeights(0, 0, 1, 0, 0, 0, 0)).evaluate(grid));
+        assertEquals(4, new HeuristicEvaluator(new EvaluatorWeights(0, 0, 0, 1, 0, 0, 0)).evaluate(grid));
+        assertEquals(6, new HeuristicEvaluator(new EvaluatorWeights(0, 0, 0, 0, 1, 0, 0)).evaluate(grid));
+        assertEquals(1, new HeuristicEvaluator(new EvaluatorWeights(0, 0, 0, 0, 0, 1, 0)).evaluate(grid));
+    }
+
+    @Test
+    void testPlacementScoreMatchesFullEvaluation() {
+        SplittableRandom random = new SplittableRandom(16);
+        EvaluatorWeights weights = new EvaluatorWeights(-1, -10, -0.1, -0.01, -0.001, -0.0001, 100);
+        HeuristicEvaluator incremental = new HeuristicEvaluator(weights);
+        HeuristicEvaluator reference = new HeuristicEvaluator(weights);
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+        BoardGrid grid = new BoardGrid(8, 16);
+        int checked = 0;
+        for (int step = 0; step < 400; step++) {
+            TetrominoType type = TetrominoType.values()[random.nextInt(7)];
+            int count = enumerator.enumerate(grid, type, 0, 0, 1);
+            if (count == 0) {
+                grid.reset();
+                continue;
+            }
+            incremental.setBoard(grid);
+            for (int i = 0; i < count; i++) {
+                PieceShape shape = enumerator.getShape(i);
+                int x = enumerator.getX(i), y = enumerator.getY(i);
+                BoardGrid after = copyOf(grid);
+                after.merge(shape, x, y);
+                ClearRow cleared = after.clearRows();
+                double expected = reference.evaluate(after) + weights.getLinesCleared() * cleared.getLinesRemoved();
+                assertEquals(expected, incremental.evaluatePlacement(shape, x, y), 1e-9, "step " + step + " placement " + i);
+                checked++;
+            }
+            int pick = random.nextInt(count);
+            grid.merge(enumerator.getShape(pick), enumerator.getX(pick), enumerator.getY(pick));
+            grid.clearRows();
+        }
+        assertTrue(checked > 1000);
+    }
+}
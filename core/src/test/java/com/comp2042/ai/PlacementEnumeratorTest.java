@@ -0,0 +1,119 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.BrickManager;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.TetrominoType;
+import com.comp2042.logic.core.BoardGrid;
+import com.comp2042.logic.core.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementEnumeratorTest {
+
+    private static final int[][] DOT = {{1}};
+
+    private static BoardGrid randomBoard(SplittableRandom random, int width, int height) {
+        BoardGrid grid = new BoardGrid(width, height);
+        int top = height - 4 - random.nextInt(height / 2);
+        for (int r = top; r < height; r++) {
+            for (int c = 0; c < width; c++) {
+                if (random.nextInt(100) < 55) grid.merge(DOT, c, r);
+            }
+        }
+        return grid;
+    }
+
+    /** Footprint of a resting piece as a set of absolute cells, for comparing placements. */
+    private static Set<Long> cells(PieceShape shape, int x, int y) {
+        Set<Long> cells = new HashSet<>();
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            cells.add((long) (y + shape.getCellRow(i)) << 32 | (x + shape.getCellCol(i)));
+        }
+        return cells;
+    }
+
+    /** Plain breadth-first search over every state, one row at a time. */
+    private static Set<Set<Long>> naivePlacements(BoardGrid grid, TetrominoType type, int x, int y) {
+        Set<Set<Long>> found = new HashSet<>();
+        Set<List<Integer>> seen = new HashSet<>();
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{0, x, y});
+        seen.add(List.of(0, x, y));
+        while (!queue.isEmpty()) {
+            int[] s = queue.poll();
+            PieceShape shape = type.getShape(s[0]);
+            if (grid.intersects(shape, s[1], s[2] + 1)) found.add(cells(shape, s[1], s[2]));
+            int next = (s[0] + 1) % type.rotationCount();
+            int[][] moves = {{s[0], s[1], s[2] + 1}, {s[0], s[1] - 1, s[2]}, {s[0], s[1] + 1, s[2]}, {next, s[1], s[2]}};
+            for (int[] m : moves) {
+                if (!grid.intersects(type.getShape(m[0]), m[1], m[2]) && seen.add(List.of(m[0], m[1], m[2]))) {
+                    queue.add(m);
+                }
+            }
+        }
+        return found;
+    }
+
+    @Test
+    void testMatchesPlainSearchOnRandomBoards() {
+        SplittableRandom random = new SplittableRandom(15);
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+        for (int trial = 0; trial < 60; trial++) {
+            BoardGrid grid = randomBoard(random, 10, 20);
+            for (TetrominoType type : TetrominoType.values()) {
+                Set<Set<Long>> expected = naivePlacements(grid, type, 0, 1);
+                int count = enumerator.enumerate(grid, type, 0, 0, 1);
+                Set<Set<Long>> actual = new HashSet<>();
+                for (int i = 0; i < count; i++) {
+                    actual.add(cells(enumerator.getShape(i), enumerator.getX(i), enumerator.getY(i)));
+                }
+                assertEquals(expected.size(), count, "duplicate placements for " + type);
+                assertEquals(expected, actual, "trial " + trial + " " + type);
+            }
+        }
+    }
+
+    @Test
+    void testSymmetricRotationsAreDeduplicated() {
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+        BoardGrid grid = new BoardGrid(10, 20);
+        assertEquals(9, enumerator.enumerate(grid, TetrominoType.O, 0, 0, 1));
+        assertEquals(7 + 10, enumerator.enumerate(grid, TetrominoType.I, 0, 0, 1));
+    }
+
+    @Test
+    void testPathsLeadToTheirPlacements() {
+        SplittableRandom random = new SplittableRandom(99);
+        PlacementEnumerator enumerator = new PlacementEnumerator();
+        for (TetrominoType type : TetrominoType.values()) {
+            BoardGrid grid = randomBoard(random, 10, 20);
+            int count = enumerator.enumerate(grid, type, 0, 0, 1);
+            assertTrue(count > 0);
+            for (int i = 0; i < count; i++) {
+                BrickManager manager = new BrickManager(grid, () -> type, 1);
+                manager.spawnNewBrick();
+                for (Move move : enumerator.getPath(i)) {
+                    boolean moved = switch (move) {
+                        case LEFT -> manager.moveLeft();
+                        case RIGHT -> manager.moveRight();
+                        case ROTATE -> manager.rotate();
+                        case DOWN -> manager.moveDown();
+                    };
+                    assertTrue(moved, type + " placement " + i + " move " + move);
+                }
+                ViewData view = manager.getViewData();
+                assertSame(enumerator.getShape(i), view.getBrickShape());
+                assertEquals(enumerator.getX(i), view.getxPosition());
+                assertEquals(enumerator.getY(i), view.getyPosition());
+                assertEquals(0, manager.dropDistance());
+            }
+        }
+    }
+}
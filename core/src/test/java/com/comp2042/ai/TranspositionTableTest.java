@@ -0,0 +1,58 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void testEvictsLeastRecentlyUsedEntryOfFullBucket() {
+        TranspositionTable<String> table = new TranspositionTable<>(4, 1);
+        for (long key = 1; key <= 4; key++) table.put(key << 32 | key, "v" + key);
+        assertEquals("v1", table.get(1L << 32 | 1));
+        table.put(5L << 32 | 5, "v5");
+
+        assertNull(table.get(2L << 32 | 2));
+        assertEquals("v1", table.get(1L << 32 | 1));
+        assertEquals("v5", table.get(5L << 32 | 5));
+        assertEquals(1, table.getEvictions());
+
+        table.put(5L << 32 | 5, "v5'");
+        assertEquals("v5'", table.get(5L << 32 | 5));
+        assertEquals(1, table.getEvictions());
+    }
+
+    @Test
+    void testConcurrentUseNeverReturnsAnotherKeysValue() throws Exception {
+        TranspositionTable<Long> table = new TranspositionTable<>(1024, 4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 200_000; i++) {
+                        long key = random.nextInt(4096) * 0x9E3779B97F4A7C15L;
+                        Long value = table.get(key);
+                        if (value == null) table.put(key, key);
+                        else assertEquals(key, value.longValue());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(800_000, table.getHits() + table.getMisses());
+        assertTrue(table.getHits() > 0);
+    }
+}
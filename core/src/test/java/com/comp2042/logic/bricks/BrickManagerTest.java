@@ -0,0 +1,189 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.core.BoardGrid;
+import com.comp2042.logic.core.ViewData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class BrickManagerTest {
+
+    private BrickManager manager;
+    private BoardGrid board;
+
+    @BeforeEach
+    void setUp() {
+        // Dummy 10x20 board with all empty cells
+        board = new BoardGrid(10, 20);
+        manager = new BrickManager(board);
+    }
+
+    @Test
+    void testSpawnNewBrick() {
+        boolean spawned = manager.spawnNewBrick();
+        assertTrue(spawned);
+        assertNotNull(manager.getViewData());
+    }
+
+    @Test
+    void testHoldPiece() {
+        ViewData initialData = manager.getViewData();
+        int[][] initialShape = initialData.getBrickData();
+
+        // First hold should store current and spawn new
+        ViewData afterHold = manager.holdPiece();
+        assertNotNull(manager.getHeldBrickMatrix());
+        assertFalse(manager.holdPiece() == afterHold); // holdUsedThisTurn prevents double hold
+
+        // Reset and test swapping held piece
+        manager.resetHold();
+        manager.holdPiece(); // hold current
+        ViewData swapData = manager.holdPiece(); // swap with held
+        assertNotNull(swapData);
+    }
+
+    @Test
+    void testVersionsChangeOnlyWithTheirPart() {
+        manager.spawnNewBrick();
+        ViewData first = manager.getViewData().copy();
+        ViewData same = manager.getViewData();
+        assertEquals(first.getPieceVersion(), same.getPieceVersion());
+        assertEquals(first.getGhostVersion(), same.getGhostVersion());
+
+        assertTrue(manager.moveDown());
+        ViewData fell = manager.getViewData().copy();
+        assertNotEquals(first.getPieceVersion(), fell.getPieceVersion());
+        assertEquals(first.getGhostVersion(), fell.getGhostVersion());
+
+        assertTrue(manager.moveRight());
+        ViewData slid = manager.getViewData().copy();
+        assertNotEquals(fell.getPieceVersion(), slid.getPieceVersion());
+        assertNotEquals(fell.getGhostVersion(), slid.getGhostVersion());
+        assertEquals(first.getHoldVersion(), slid.getHoldVersion());
+        assertEquals(first.getPreviewVersion(), slid.getPreviewVersion());
+
+        ViewData held = manager.holdPiece();
+        assertNotEquals(slid.getHoldVersion(), held.getHoldVersion());
+        assertNotEquals(slid.getPreviewVersion(), held.getPreviewVersion());
+
+        manager.spawnNewBrick();
+        ViewData spawned = manager.getViewData();
+        assertEquals(held.getHoldVersion(), spawned.getHoldVersion());
+        assertNotEquals(held.getPreviewVersion(), spawned.getPreviewVersion());
+    }
+
+    @Test
+    void testGetNextShapePreview() {
+        int[][] nextShape = manager.getNextShapePreview();
+        assertNotNull(nextShape);
+    }
+
+    @Test
+    void testMove() {
+        Point offsetBefore = manager.getCurrentOffset();
+
+        // Move right
+        boolean movedRight = manager.moveRight();
+        assertTrue(movedRight);
+        Point offsetAfterRight = manager.getCurrentOffset();
+        assertEquals(offsetBefore.x + 1, offsetAfterRight.x);
+
+        // Move left
+        boolean movedLeft = manager.moveLeft();
+        assertTrue(movedLeft);
+        Point offsetAfterLeft = manager.getCurrentOffset();
+        assertEquals(offsetBefore.x, offsetAfterLeft.x);
+
+        // Move down
+        boolean movedDown = manager.moveDown();
+        assertTrue(movedDown);
+        Point offsetAfterDown = manager.getCurrentOffset();
+        assertEquals(offsetBefore.y + 1, offsetAfterDown.y);
+    }
+
+    @Test
+    void testRotate() {
+        boolean rotated = manager.rotate();
+        assertTrue(rotated);
+
+        // If we place a collision manually, rotation should fail
+        // Simulate collision: fill board cells at current brick position
+        int[][] currentShape = manager.getViewData().getBrickData();
+        board.merge(currentShape, manager.getCurrentOffset().x, manager.getCurrentOffset().y);
+
+        boolean rotationBlocked = manager.rotate();
+        assertFalse(rotationBlocked);
+    }
+
+    @Test
+    void testMergeToBoard() {
+        int[][] shape = manager.getViewData().getBrickData();
+        manager.mergeToBoard();
+
+        int[][] boardMatrix = board.getMatrixCopy();
+        // Check if the top-left cell of brick is now non-zero in board
+        assertEquals(shape[0][0], boardMatrix[manager.getCurrentOffset().y][manager.getCurrentOffset().x]);
+    }
+
+    @Test
+    void testDropDistanceMatchesSteppedDrop() {
+        board.merge(new int[][]{{1, 1, 1, 1, 1, 1, 1, 1, 1, 1}}, 0, 15);
+        int distance = manager.dropDistance();
+        int startY = manager.getCurrentOffset().y;
+        assertEquals(startY + distance, manager.getViewData().getGhostYPosition());
+
+        int steps = 0;
+        while (manager.moveDown()) steps++;
+        assertEquals(distance, steps);
+        assertEquals(0, manager.dropDistance());
+    }
+
+    @Test
+    void testHardDropLandsAtGhostAndTracksBoardChanges() {
+        int before = manager.dropDistance();
+        board.merge(new int[][]{{2, 2, 2, 2, 2, 2, 2, 2, 2, 2}}, 0, 12);
+        assertTrue(manager.dropDistance() < before);
+
+        int ghostY = manager.getViewData().getGhostYPosition();
+        int fell = manager.hardDrop();
+        assertEquals(ghostY, manager.getCurrentOffset().y);
+        assertEquals(fell, ghostY - 1);
+        assertFalse(manager.moveDown());
+    }
+
+    @Test
+    void testMoveRotateAndViewDataDoNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        // Warm up so class loading and JIT compilation are out of the way.
+        for (int i = 0; i < 20_000; i++) steadyStateMoves();
+
+        // Other activity in the JVM can charge a few stray bytes to this thread,
+        // so take the quietest of several rounds.
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && allocated > 0; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < 10_000; i++) steadyStateMoves();
+            allocated = Math.min(allocated, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+
+        assertEquals(0, allocated, "bytes allocated by move/rotate/getViewData");
+    }
+
+    private void steadyStateMoves() {
+        manager.moveRight();
+        manager.rotate();
+        manager.getViewData();
+        manager.moveLeft();
+        manager.getViewData();
+    }
+}
@@ -0,0 +1,31 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceQueueTest {
+
+    @Test
+    void testPollReturnsPiecesInGeneratorOrder() {
+        PieceGenerator reference = new SevenBagGenerator(5);
+        PieceQueue queue = new PieceQueue(new SevenBagGenerator(5), 3);
+        assertEquals(3, queue.getPreviewCount());
+        for (int i = 0; i < 50; i++) {
+            TetrominoType expected = reference.next();
+            assertEquals(expected, queue.peek(0));
+            assertEquals(expected, queue.poll());
+        }
+    }
+
+    @Test
+    void testPeekShowsUpcomingPieces() {
+        PieceQueue queue = new PieceQueue(new RandomPieceGenerator(11), 4);
+        queue.poll();
+        TetrominoType[] previews = new TetrominoType[4];
+        for (int i = 0; i < 4; i++) previews[i] = queue.peek(i);
+        for (int i = 0; i < 4; i++) assertEquals(previews[i], queue.poll());
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.peek(4));
+        assertThrows(IllegalArgumentException.class, () -> new PieceQueue(new RandomPieceGenerator(1), 0));
+    }
+}
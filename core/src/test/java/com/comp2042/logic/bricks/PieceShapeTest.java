@@ -0,0 +1,37 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceShapeTest {
+
+    @Test
+    void testDescriptorOfTBrick() {
+        PieceShape t = TetrominoType.T.getShape(0);   // {0,0,0},{3,3,3},{0,3,0}
+
+        assertEquals(3, t.getId());
+        assertEquals(4, t.getCellCount());
+        assertEquals(1, t.getMinRow());
+        assertEquals(2, t.getMaxRow());
+        assertEquals(0, t.getMinCol());
+        assertEquals(2, t.getMaxCol());
+        assertEquals(0b111L, t.getRowMask(1));
+        assertEquals(0b010L, t.getRowMask(2));
+        assertEquals(1, t.getColumnBottom(0));
+        assertEquals(2, t.getColumnBottom(1));
+        assertEquals(1, t.getColumnBottom(2));
+        assertTrue(t.isFilled(2, 1));
+        assertFalse(t.isFilled(0, 1));
+    }
+
+    @Test
+    void testToMatrixReturnsIndependentCopies() {
+        int[][] first = TetrominoType.I.getRotation(0);
+        first[1][0] = 0;
+
+        int[][] second = TetrominoType.I.getRotation(0);
+        assertEquals(1, second[1][0]);
+        assertArrayEquals(new int[]{1, 1, 1, 1}, second[1]);
+    }
+}
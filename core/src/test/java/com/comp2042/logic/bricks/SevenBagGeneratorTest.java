@@ -0,0 +1,33 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SevenBagGeneratorTest {
+
+    @Test
+    void testEveryBagDealsEachTypeOnce() {
+        SevenBagGenerator generator = new SevenBagGenerator(7);
+        for (int bag = 0; bag < 100; bag++) {
+            EnumSet<TetrominoType> seen = EnumSet.noneOf(TetrominoType.class);
+            for (int i = 0; i < 7; i++) {
+                assertTrue(seen.add(generator.next()), "type repeated within bag " + bag);
+            }
+        }
+    }
+
+    @Test
+    void testSameSeedGivesSameSequence() {
+        PieceGenerator a = new SevenBagGenerator(1234);
+        PieceGenerator b = new SevenBagGenerator(1234);
+        PieceGenerator c = new RandomPieceGenerator(99);
+        PieceGenerator d = new RandomPieceGenerator(99);
+        for (int i = 0; i < 500; i++) {
+            assertEquals(a.next(), b.next());
+            assertEquals(c.next(), d.next());
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.comp2042.logic.core;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.bricks.TetrominoType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardGridTest {
+
+    private static final int[][] DOT = {{1}};
+    private static final PieceShape DOT_SHAPE = new PieceShape(DOT);
+
+    private BoardGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new BoardGrid(4, 5);
+    }
+
+    @Test
+    void testIntersectsBounds() {
+        PieceShape dot = DOT_SHAPE;
+        assertFalse(grid.intersects(dot, 0, 0));
+        assertFalse(grid.intersects(dot, 3, 4));
+        assertTrue(grid.intersects(dot, -1, 0));
+        assertTrue(grid.intersects(dot, 4, 0));
+        assertTrue(grid.intersects(dot, 0, 5));
+    }
+
+    @Test
+    void testIntersectsPlacedCells() {
+        grid.merge(DOT, 2, 3);
+        PieceShape dot = DOT_SHAPE;
+        assertTrue(grid.intersects(dot, 2, 3));
+        assertFalse(grid.intersects(dot, 1, 3));
+        assertEquals(1, grid.getMatrixCopy()[3][2]);
+    }
+
+    @Test
+    void testClearRowsCompactsBothPlanes() {
+        grid.merge(new int[][]{{2, 2, 2, 2}}, 0, 4);
+        grid.merge(new int[][]{{3}}, 1, 3);
+
+        ClearRow clearRow = grid.clearRows();
+
+        assertEquals(1, clearRow.getLinesRemoved());
+        assertEquals(4, clearRow.getClearedRow(0));
+        int[][] matrix = grid.getMatrixCopy();
+        assertArrayEquals(new int[]{0, 3, 0, 0}, matrix[4]);
+        assertArrayEquals(new int[]{0, 0, 0, 0}, matrix[3]);
+        assertTrue(grid.intersects(DOT_SHAPE, 1, 4));
+        assertFalse(grid.intersects(DOT_SHAPE, 1, 3));
+    }
+
+    @Test
+    void testVersionChangesOnlyWhenContentsChange() {
+        long initial = grid.getVersion();
+        grid.clearRows();
+        assertEquals(initial, grid.getVersion());
+
+        grid.merge(DOT, 0, 0);
+        assertNotEquals(initial, grid.getVersion());
+        assertEquals(1, grid.getCell(0, 0));
+        assertEquals(1L, grid.getRowMask(0));
+    }
+
+    @Test
+    void testRowVersionsStampOnlyChangedRows() {
+        grid.merge(DOT_SHAPE, 0, 4);
+        long merged = grid.getVersion();
+        assertEquals(merged, grid.getRowVersion(4));
+        assertEquals(0L, grid.getRowVersion(3));
+
+        grid.merge(DOT_SHAPE, 1, 3);
+        assertEquals(grid.getVersion(), grid.getRowVersion(3));
+        assertEquals(merged, grid.getRowVersion(4));
+
+        grid.merge(new PieceShape(new int[][]{{1, 1, 1}}), 1, 4);
+        long beforeClear = grid.getVersion();
+        assertEquals(1, grid.clearRows().getLinesRemoved());
+        assertEquals(grid.getVersion(), grid.getRowVersion(3));
+        assertEquals(grid.getVersion(), grid.getRowVersion(4));
+        assertTrue(grid.getRowVersion(2) < beforeClear);
+
+        grid.reset();
+        for (int r = 0; r < grid.getHeight(); r++) assertEquals(grid.getVersion(), grid.getRowVersion(r));
+    }
+
+    @Test
+    void testClearRowsKeepsRowsBetweenClearedRows() {
+        grid.merge(new int[][]{{1, 1, 1, 1}, {0, 5, 0, 0}, {2, 2, 2, 2}}, 0, 2);
+        grid.merge(new int[][]{{6}}, 3, 1);
+
+        ClearRow clearRow = grid.clearRows();
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertEquals(200, clearRow.getScoreBonus());
+        int[][] matrix = grid.getMatrixCopy();
+        assertArrayEquals(new int[]{0, 5, 0, 0}, matrix[4]);
+        assertArrayEquals(new int[]{0, 0, 0, 6}, matrix[3]);
+        assertArrayEquals(new int[]{0, 0, 0, 0}, matrix[2]);
+        assertEquals(0b0010L, grid.getRowMask(4));
+        assertEquals(0b1000L, grid.getRowMask(3));
+    }
+
+    @Test
+    void testRowFillTracksMergesAndClears() {
+        grid.merge(new int[][]{{4, 4, 4}}, 0, 4);
+        assertEquals(3, grid.getRowFill(4));
+        assertSame(ClearRow.NONE, grid.clearRows());
+
+        grid.merge(new int[][]{{7}, {7}}, 3, 3);
+        assertEquals(4, grid.getRowFill(4));
+        assertEquals(1, grid.clearRows().getLinesRemoved());
+        assertEquals(1, grid.getRowFill(4));
+        assertEquals(0, grid.getRowFill(3));
+        assertSame(ClearRow.NONE, grid.clearRows());
+    }
+
+    @Test
+    void testColumnHeightsAndHolesFollowMergesAndClears() {
+        grid.merge(new int[][]{{3}, {0}, {3}}, 0, 2);
+        assertEquals(3, grid.getColumnHeight(0));
+        assertEquals(1, grid.getColumnHoles(0));
+        assertEquals(0, grid.getColumnHeight(1));
+
+        grid.merge(new int[][]{{2, 2, 2}}, 1, 4);
+        assertEquals(3, grid.getMaxHeight());
+        assertEquals(1, grid.getTotalHoles());
+
+        // Bottom row clears: column 0 keeps its top cell and drops by one,
+        // columns 1-3 lose their only cell.
+        assertEquals(1, grid.clearRows().getLinesRemoved());
+        assertEquals(2, grid.getColumnHeight(0));
+        assertEquals(1, grid.getColumnHoles(0));
+        assertEquals(0, grid.getColumnHeight(1));
+        assertEquals(0, grid.getColumnHeight(3));
+
+        grid.reset();
+        assertEquals(0, grid.getMaxHeight());
+        assertEquals(0, grid.getTotalHoles());
+    }
+
+    @Test
+    void testColumnHeightRescansWhenTopCellIsCleared() {
+        grid.merge(DOT, 1, 1);
+        grid.merge(new int[][]{{5, 5, 5, 5}}, 0, 3);
+        grid.merge(DOT, 1, 4);
+        assertEquals(4, grid.getColumnHeight(1));
+        assertEquals(2, grid.getColumnHeight(0));
+
+        // Row 3 clears; column 0 had its top cell there and is left empty.
+        assertEquals(1, grid.clearRows().getLinesRemoved());
+        assertEquals(0, grid.getColumnHeight(0));
+        assertEquals(0, grid.getColumnHoles(0));
+        assertEquals(3, grid.getColumnHeight(1));
+        assertEquals(1, grid.getColumnHoles(1));
+    }
+
+    @Test
+    void testDropDistanceUsesSurfaceAndHandlesOverhangs() {
+        assertEquals(4, grid.dropDistance(DOT_SHAPE, 1, 0));
+        grid.merge(DOT, 1, 3);
+        assertEquals(2, grid.dropDistance(DOT_SHAPE, 1, 0));
+
+        // Overhang at row 1 over column 2: a dot tucked underneath still falls to the floor.
+        grid.merge(new int[][]{{8, 8}}, 2, 1);
+        assertEquals(2, grid.dropDistance(DOT_SHAPE, 2, 2));
+        assertEquals(0, grid.dropDistance(DOT_SHAPE, 2, 0));
+    }
+
+    @Test
+    void testPushRowsRaisesBoardAndReportsTopOut() {
+        grid.merge(DOT, 0, 4);
+        assertFalse(grid.pushRows(new int[][]{{9, 9, 0, 9}}));
+        assertEquals(1, grid.getCell(3, 0));
+        assertEquals(0b1011L, grid.getRowMask(4));
+        assertEquals(2, grid.getColumnHeight(0));
+        assertEquals(1, grid.getColumnHeight(1));
+        assertEquals(0, grid.getColumnHeight(2));
+
+        grid.merge(DOT, 2, 4);
+        assertEquals(1, grid.clearRows().getLinesRemoved());
+        assertEquals(1, grid.getCell(4, 0));
+
+        grid.merge(DOT, 3, 0);
+        assertTrue(grid.pushRows(new int[][]{{0, 9, 9, 9}}));
+        assertEquals(0, grid.getRowMask(0));
+        assertEquals(2, grid.getColumnHeight(0));
+        assertEquals(0, grid.getColumnHoles(3));
+    }
+
+    @Test
+    void testRingStorageMatchesNaiveModel() {
+        int width = 6, height = 12;
+        BoardGrid board = new BoardGrid(width, height);
+        int[][] model = new int[height][width];
+        Random random = new Random(42);
+
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(10);
+            if (action < 7) {
+                int r = random.nextInt(height), c = random.nextInt(width);
+                if (model[r][c] == 0) {
+                    board.merge(new int[][]{{1 + c}}, c, r);
+                    model[r][c] = 1 + c;
+                }
+                if (action < 2) {
+                    int[] row = new int[width];
+                    for (int col = 0; col < width; col++) {
+                        if (model[r][col] == 0) row[col] = 7;
+                    }
+                    board.merge(new int[][]{row}, 0, r);
+                    for (int col = 0; col < width; col++) model[r][col] = Math.max(model[r][col], row[col]);
+                }
+                board.clearRows();
+                model = clearFullRows(model, width);
+            } else {
+                int[] garbage = new int[width];
+                for (int col = 0; col < width; col++) garbage[col] = random.nextInt(3) == 0 ? 0 : 8;
+                garbage[random.nextInt(width)] = 0;
+                int[][] next = new int[height][];
+                System.arraycopy(model, 1, next, 0, height - 1);
+                next[height - 1] = garbage.clone();
+                model = next;
+                board.pushRows(new int[][]{garbage});
+            }
+            assertArrayEquals(model, board.snapshot(), "after step " + step);
+            if (step % 100 == 0) assertArrayEquals(model, board.packedSnapshot().toMatrix());
+            for (int col = 0; col < width; col++) {
+                int top = 0;
+                while (top < height && model[top][col] == 0) top++;
+                int filled = 0;
+                for (int r = 0; r < height; r++) if (model[r][col] != 0) filled++;
+                assertEquals(height - top, board.getColumnHeight(col), "height, step " + step);
+                assertEquals(height - top - filled, board.getColumnHoles(col), "holes, step " + step);
+            }
+            assertTransitionsMatch(model, board);
+        }
+    }
+
+    @Test
+    void testTransitionsFollowPieceMergesAndClears() {
+        Random random = new Random(16);
+        BoardGrid board = new BoardGrid(6, 12);
+        assertTransitionsMatch(board.snapshot(), board);
+        for (int step = 0; step < 3000; step++) {
+            TetrominoType type = TetrominoType.values()[random.nextInt(7)];
+            PieceShape shape = type.getShape(random.nextInt(type.rotationCount()));
+            int x = random.nextInt(9) - 3, y = random.nextInt(15) - 3;
+            if (board.intersects(shape, x, y)) continue;
+            board.merge(shape, x, y);
+            assertTransitionsMatch(board.snapshot(), board);
+            board.clearRows();
+            assertTransitionsMatch(board.snapshot(), board);
+            if (board.getMaxHeight() > 9) board.reset();
+        }
+    }
+
+    @Test
+    void testCopyIsDetachedAndKeepsTrackedFeatures() {
+        Random random = new Random(17);
+        BoardGrid board = new BoardGrid(8, 14);
+        for (int step = 0; step < 40; step++) {
+            TetrominoType type = TetrominoType.values()[random.nextInt(7)];
+            PieceShape shape = type.getShape(0);
+            int x = random.nextInt(6);
+            board.merge(shape, x, board.dropDistance(shape, x, 0));
+            board.clearRows();
+            if (board.getMaxHeight() > 10) break;
+        }
+        BoardGrid copy = new BoardGrid(board);
+        assertArrayEquals(board.snapshot(), copy.snapshot());
+        assertEquals(board.getTotalHoles(), copy.getTotalHoles());
+        assertTransitionsMatch(board.snapshot(), copy);
+        for (int col = 0; col < 8; col++) assertEquals(board.getColumnHeight(col), copy.getColumnHeight(col));
+
+        int[][] before = board.snapshot();
+        copy.merge(new int[][]{{1}}, 0, 0);
+        assertArrayEquals(before, board.snapshot());
+    }
+
+    @Test
+    void testZobristHashFollowsMergesClearsAndPushes() {
+        Random random = new Random(18);
+        BoardGrid board = new BoardGrid(6, 12);
+        assertEquals(0L, board.getZobristHash());
+        for (int step = 0; step < 3000; step++) {
+            TetrominoType type = TetrominoType.values()[random.nextInt(7)];
+            PieceShape shape = type.getShape(random.nextInt(type.rotationCount()));
+            int x = random.nextInt(9) - 3, y = random.nextInt(15) - 3;
+            if (board.intersects(shape, x, y)) continue;
+            board.merge(shape, x, y);
+            assertEquals(recomputedHash(board), board.getZobristHash());
+            board.clearRows();
+            assertEquals(recomputedHash(board), board.getZobristHash());
+            if (step % 50 == 0) {
+                board.pushRows(new int[][]{{1, 0, 1, 1, 1, 1}});
+                assertEquals(recomputedHash(board), board.getZobristHash());
+            }
+            if (board.getMaxHeight() > 9) board.reset();
+        }
+        assertEquals(board.getZobristHash(), new BoardGrid(board).getZobristHash());
+    }
+
+    private static long recomputedHash(BoardView board) {
+        long hash = 0L;
+        for (int r = 0; r < board.getHeight(); r++) hash ^= Zobrist.rowHash(board.getRowMask(r), r);
+        return hash;
+    }
+
+    private static void assertTransitionsMatch(int[][] model, BoardView board) {
+        int height = model.length, width = model[0].length;
+        int rowTransitions = 0, columnTransitions = 0;
+        for (int r = 0; r < height; r++) {
+            boolean empty = true;
+            for (int v : model[r]) empty &= v == 0;
+            if (empty) continue;
+            boolean previous = true;
+            for (int c = 0; c <= width; c++) {
+                boolean filled = c == width || model[r][c] != 0;
+                if (filled != previous) rowTransitions++;
+                previous = filled;
+            }
+        }
+        for (int c = 0; c < width; c++) {
+            for (int r = 0; r < height; r++) {
+                boolean below = r == height - 1 || model[r + 1][c] != 0;
+                if ((model[r][c] != 0) != below) columnTransitions++;
+            }
+        }
+        assertEquals(rowTransitions, board.getRowTransitions(), "row transitions");
+        assertEquals(columnTransitions, board.getColumnTransitions(), "column transitions");
+    }
+
+    private static int[][] clearFullRows(int[][] model, int width) {
+        int height = model.length;
+        int[][] next = new int[height][width];
+        int dst = height - 1;
+        for (int r = height - 1; r >= 0; r--) {
+            int filled = 0;
+            for (int v : model[r]) if (v != 0) filled++;
+            if (filled < width) next[dst--] = model[r].clone();
+        }
+        return next;
+    }
+
+    @Test
+    void testPackedSnapshotIsDetachedAndComparable() {
+        grid.merge(new int[][]{{15, 0, 3}}, 1, 2);
+        PackedBoard before = grid.packedSnapshot();
+        assertEquals(15, before.getCell(2, 1));
+        assertEquals(3, before.getCell(2, 3));
+        assertEquals(before, grid.packedSnapshot());
+
+        grid.merge(DOT, 0, 4);
+        assertNotEquals(before, grid.packedSnapshot());
+        assertEquals(0, before.getCell(4, 0));
+    }
+}
@@ -0,0 +1,24 @@
+package com.comp2042.logic.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClearRowTest {
+
+    @Test
+    void testClearRowProperties() {
+        ClearRow clearRow = new ClearRow(new int[]{18, 19}, 100);
+
+        assertEquals(2, clearRow.getLinesRemoved());
+        assertEquals(100, clearRow.getScoreBonus());
+        assertEquals(18, clearRow.getClearedRow(0));
+        assertEquals(19, clearRow.getClearedRow(1));
+    }
+
+    @Test
+    void testNoneClearsNothing() {
+        assertEquals(0, ClearRow.NONE.getLinesRemoved());
+        assertEquals(0, ClearRow.NONE.getScoreBonus());
+    }
+}
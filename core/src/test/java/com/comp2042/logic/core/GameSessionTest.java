@@ -0,0 +1,57 @@
+package com.comp2042.logic.core;
+
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    private GameSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = new GameSession();
+    }
+
+    @Test
+    void testHardDropLocksAndSpawns() {
+        session.hardDrop();
+        assertEquals(1, session.getPiecesLocked());
+        assertFalse(session.isGameOver());
+        assertTrue(session.getBoardView().getMaxHeight() > 0);
+    }
+
+    @Test
+    void testStackingAtSpawnEndsGameAndNewGameResets() {
+        int guard = 0;
+        while (!session.isGameOver() && guard++ < 1000) session.hardDrop();
+        assertTrue(session.isGameOver());
+        assertFalse(session.moveLeft());
+        assertSame(ClearRow.NONE, session.hardDrop());
+        long holdVersion = session.getViewData().getHoldVersion();
+        session.hold();
+        assertNull(session.getHeldBrickShape());
+        assertEquals(holdVersion, session.getViewData().getHoldVersion());
+
+        session.newGame();
+        assertFalse(session.isGameOver());
+        assertEquals(0, session.getPiecesLocked());
+        assertEquals(0, session.getScore());
+        assertEquals(1, session.getLevel());
+        assertEquals(0, session.getBoardView().getMaxHeight());
+    }
+
+    @Test
+    void testSameSeedGivesSameGame() {
+        GameSession a = new GameSession(new SevenBagGenerator(42));
+        GameSession b = new GameSession(new SevenBagGenerator(42));
+        for (int i = 0; i < 40 && !a.isGameOver(); i++) {
+            assertSame(a.getPreviewShape(a.getPreviewCount() - 1), b.getPreviewShape(b.getPreviewCount() - 1));
+            a.hardDrop();
+            b.hardDrop();
+        }
+        assertEquals(a.getBoardView().packedSnapshot(), b.getBoardView().packedSnapshot());
+    }
+}
@@ -0,0 +1,91 @@
+package com.comp2042.logic.core;
+
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import com.comp2042.replay.ReplayAction;
+import com.comp2042.replay.ReplayResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GravityEngineTest {
+
+    @Test
+    void testLowGravityFallsOneRowEveryFewFrames() {
+        GameSession session = new GameSession(new SevenBagGenerator(1));
+        GravityEngine engine = new GravityEngine(1.0 / 24, 30, 15);
+        int startY = session.getViewData().getyPosition();
+
+        for (int frame = 1; frame < 24; frame++) assertEquals(0, engine.step(session));
+        assertEquals(1, engine.step(session));
+        for (int frame = 1; frame < 24; frame++) assertEquals(0, engine.step(session));
+        assertEquals(1, engine.step(session));
+        assertEquals(startY + 2, session.getViewData().getyPosition());
+    }
+
+    @Test
+    void testTwentyGLandsInOneFrameThenLocksAfterDelay() {
+        GameSession session = new GameSession(new SevenBagGenerator(1));
+        GravityEngine engine = new GravityEngine(GravityEngine.MAX_GRAVITY, 5, 15);
+        int distance = session.dropDistance();
+
+        assertEquals(Math.min(20, distance), engine.step(session));
+        while (session.dropDistance() > 0) engine.step(session);
+        assertEquals(0, session.dropDistance());
+        assertEquals(0.0, engine.getFallProgress(0.5));
+
+        int frames = 0;
+        while (!engine.isLockDue()) {
+            assertEquals(0, engine.step(session));
+            frames++;
+        }
+        assertTrue(frames <= 5);
+        assertEquals(0, session.getPiecesLocked());
+    }
+
+    @Test
+    void testMovesResetLockDelayUpToTheLimit() {
+        GameSession session = new GameSession(new SevenBagGenerator(1));
+        GravityEngine engine = new GravityEngine(GravityEngine.MAX_GRAVITY, 3, 2);
+        while (session.dropDistance() > 0) engine.step(session);
+
+        int frames = 0;
+        while (!engine.isLockDue()) {
+            engine.step(session);
+            engine.onMoved();
+            frames++;
+        }
+        // two resets, then three frames for the delay to run out
+        assertEquals(5, frames);
+
+        engine.reset();
+        assertFalse(engine.isLockDue());
+    }
+
+    @Test
+    void testRecordedGravityInputsReplayToTheSameGame() {
+        GameSession live = new GameSession(new SevenBagGenerator(7));
+        GravityEngine engine = new GravityEngine(0.7, 4, 15);
+        List<ReplayAction> inputs = new ArrayList<>();
+        for (int frame = 0; frame < 3000 && !live.isGameOver(); frame++) {
+            if (frame % 5 == 0 && live.moveLeft()) {
+                inputs.add(ReplayAction.LEFT);
+                engine.onMoved();
+            }
+            int rows = engine.step(live);
+            for (int i = 0; i < rows; i++) inputs.add(ReplayAction.GRAVITY);
+            if (engine.isLockDue()) {
+                inputs.add(ReplayAction.GRAVITY);
+                live.lockBrick();
+                engine.reset();
+            }
+        }
+        assertTrue(live.getPiecesLocked() > 0);
+
+        GameSession replayed = new GameSession(new SevenBagGenerator(7));
+        for (ReplayAction action : inputs) action.apply(replayed);
+        assertEquals(ReplayResult.of(live), ReplayResult.of(replayed));
+    }
+}
@@ -0,0 +1,97 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.bricks.GeneratorType;
+import com.comp2042.logic.core.GameSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayVerifierTest {
+
+    private static final ReplayAction[] MIX = {
+            ReplayAction.LEFT, ReplayAction.RIGHT, ReplayAction.ROTATE, ReplayAction.GRAVITY,
+            ReplayAction.SOFT_DROP, ReplayAction.HARD_DROP, ReplayAction.HOLD};
+
+    /** Records a game of random inputs; a finished game claims the given session's result, or its own if null. */
+    private static Path record(Path dir, long seed, boolean finish, GameSession claim) throws Exception {
+        ReplayHeader header = new ReplayHeader(GeneratorType.values()[(int) (seed & 1)], seed, 10, 22, 3, 0L);
+        Path file = dir.resolve("game-" + seed + ".replay");
+        ReplayWriter writer = ReplayWriter.open(file, header, 0L);
+        GameSession session = header.newSession();
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < 2000 && !session.isGameOver(); i++) {
+            ReplayAction action = MIX[random.nextInt(MIX.length)];
+            writer.record(action, i * 50_000_000L);
+            action.apply(session);
+        }
+        if (finish) writer.finish(claim != null ? claim : session);
+        else writer.close();
+        writer.awaitWritten();
+        return file;
+    }
+
+    @Test
+    void testRecordedGamesReproduceTheirResults(@TempDir Path dir) throws Exception {
+        List<Path> files = new ArrayList<>();
+        for (long seed = 1; seed <= 40; seed++) files.add(record(dir, seed, true, null));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            VerificationReport report = new ReplayVerifier(pool).verify(files);
+            assertEquals(40, report.getCount(Verification.Status.MATCH));
+            assertTrue(report.isClean());
+            assertTrue(report.getFailures().isEmpty());
+            for (int i = 0; i < files.size(); i++) {
+                Verification v = report.getVerification(i);
+                assertEquals(files.get(i), v.getFile());
+                assertEquals(v.getClaimed(), v.getActual());
+                assertTrue(v.getActual().getPieces() > 0);
+            }
+            assertTrue(report.getInputs() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testEachFailureKindIsReported(@TempDir Path dir) throws Exception {
+        GameSession other = new GameSession(GeneratorType.SEVEN_BAG.create(7));
+        other.hardDrop();
+        Path forged = record(dir, 3, true, other);
+        Path abandoned = record(dir, 4, false, null);
+        Path good = record(dir, 5, true, null);
+        Path garbage = dir.resolve("garbage.replay");
+        Files.write(garbage, new byte[] {1, 2, 3, 4, 5});
+        Path missing = dir.resolve("missing.replay");
+        byte[] bytes = Files.readAllBytes(good);
+        Path truncated = dir.resolve("truncated.replay");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length / 2));
+        ByteBuffer huge = ByteBuffer.allocate(64);
+        new ReplayHeader(GeneratorType.SEVEN_BAG, 1L, 10, 20_000_000, 3, 0L).writeTo(huge);
+        Path oversized = dir.resolve("oversized.replay");
+        Files.write(oversized, Arrays.copyOf(huge.array(), huge.position()));
+
+        VerificationReport report = new ReplayVerifier()
+                .verify(List.of(forged, abandoned, good, garbage, missing, truncated, oversized));
+        assertEquals(Verification.Status.MISMATCH, report.getVerification(0).getStatus());
+        assertEquals(ReplayResult.of(other), report.getVerification(0).getClaimed());
+        assertEquals(Verification.Status.UNCLAIMED, report.getVerification(1).getStatus());
+        assertEquals(Verification.Status.MATCH, report.getVerification(2).getStatus());
+        assertEquals(Verification.Status.UNREADABLE, report.getVerification(3).getStatus());
+        assertEquals(Verification.Status.UNREADABLE, report.getVerification(4).getStatus());
+        assertEquals(Verification.Status.UNCLAIMED, report.getVerification(5).getStatus());
+        assertEquals(Verification.Status.UNREADABLE, report.getVerification(6).getStatus());
+        assertFalse(report.isClean());
+        assertEquals(List.of(report.getVerification(0), report.getVerification(3), report.getVerification(4),
+                report.getVerification(6)), report.getFailures());
+    }
+}
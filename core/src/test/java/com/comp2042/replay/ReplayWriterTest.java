@@ -0,0 +1,129 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.bricks.GeneratorType;
+import com.comp2042.logic.core.GameSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayWriterTest {
+
+    private static final ReplayAction[] MIX = {
+            ReplayAction.LEFT, ReplayAction.RIGHT, ReplayAction.ROTATE, ReplayAction.GRAVITY,
+            ReplayAction.GRAVITY, ReplayAction.SOFT_DROP, ReplayAction.HARD_DROP, ReplayAction.HOLD};
+
+    private static final ReplayHeader HEADER = new ReplayHeader(GeneratorType.SEVEN_BAG, 99L, 10, 22, 3, 1234L);
+
+    /** Plays random inputs on a fresh session, recording them at 20-400 ms intervals. */
+    private static GameSession playRecorded(ReplayWriter writer, int inputs, long[] times) {
+        GameSession session = HEADER.newSession();
+        SplittableRandom random = new SplittableRandom(5);
+        long now = 0L;
+        for (int i = 0; i < inputs && !session.isGameOver(); i++) {
+            ReplayAction action = MIX[random.nextInt(MIX.length)];
+            now += 20_000_000L + random.nextInt(380) * 1_000_000L;
+            times[i] = now / 1_000_000;
+            writer.record(action, now);
+            action.apply(session);
+        }
+        return session;
+    }
+
+    @Test
+    void testFinishedGameRoundTrips(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("sub/game.replay");
+        ReplayWriter writer = ReplayWriter.open(file, HEADER, 0L);
+        GameSession session = new GameSession(GeneratorType.SEVEN_BAG.create(0));
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 3000; i++) {
+            ReplayAction action = MIX[random.nextInt(MIX.length)];
+            writer.record(action, i * 150_000_000L);
+            action.apply(session);
+        }
+        writer.finish(session);
+        writer.awaitWritten();
+
+        Replay replay = Replay.read(file);
+        assertEquals(3000, replay.getInputCount());
+        assertEquals(HEADER.getSeed(), replay.getHeader().getSeed());
+        assertEquals(GeneratorType.SEVEN_BAG, replay.getHeader().getGenerator());
+        assertEquals(22, replay.getHeader().getHeight());
+        assertEquals(3, replay.getHeader().getPreviewCount());
+        assertEquals(150L * 2999, replay.getTimeMillis(2999));
+        assertTrue(replay.isComplete());
+        assertEquals(ReplayResult.of(session), replay.getResult());
+        assertTrue(Files.size(file) < 3000 * 2 + 64, "size " + Files.size(file));
+    }
+
+    @Test
+    void testInputsAndTimesAreKept(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("game.replay");
+        ReplayWriter writer = ReplayWriter.open(file, HEADER, 0L);
+        long[] times = new long[500];
+        playRecorded(writer, 500, times);
+        writer.close();
+        writer.awaitWritten();
+
+        Replay replay = Replay.read(file);
+        assertTrue(replay.isComplete());
+        assertNull(replay.getResult());
+        assertEquals(writer.getInputCount(), replay.getInputCount());
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < replay.getInputCount(); i++) {
+            assertEquals(MIX[random.nextInt(MIX.length)], replay.getAction(i));
+            assertEquals(times[i], replay.getTimeMillis(i));
+            random.nextInt(380);
+        }
+    }
+
+    @Test
+    void testInputsReachTheFileWithinTheFlushInterval(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("game.replay");
+        ReplayWriter writer = ReplayWriter.open(file, HEADER, 0L);
+        writer.record(ReplayAction.LEFT, 10_000_000L);
+        writer.record(ReplayAction.RIGHT, ReplayWriter.FLUSH_INTERVAL_MILLIS * 1_000_000L + 20_000_000L);
+
+        // the game is still running: nothing has ended the recording
+        int count = 0;
+        for (int tries = 0; tries < 500 && count < 2; tries++) {
+            try {
+                count = Replay.read(file).getInputCount();
+            } catch (IOException e) {
+                // not created or not fully written yet
+            }
+            if (count < 2) Thread.sleep(10);
+        }
+        assertEquals(2, count);
+        writer.close();
+        writer.awaitWritten();
+    }
+
+    @Test
+    void testTruncatedFileYieldsInputsUpToTheCut(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("game.replay");
+        ReplayWriter writer = ReplayWriter.open(file, HEADER, 0L);
+        long[] times = new long[400];
+        GameSession session = playRecorded(writer, 400, times);
+        writer.finish(session);
+        writer.awaitWritten();
+
+        byte[] bytes = Files.readAllBytes(file);
+        Replay full = Replay.decode(ByteBuffer.wrap(bytes));
+        Replay cut = Replay.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 40)));
+        assertFalse(cut.isComplete());
+        assertNull(cut.getResult());
+        assertTrue(cut.getInputCount() > 0 && cut.getInputCount() < full.getInputCount());
+        for (int i = 0; i < cut.getInputCount(); i++) {
+            assertEquals(full.getAction(i), cut.getAction(i));
+            assertEquals(times[i], cut.getTimeMillis(i));
+        }
+    }
+}
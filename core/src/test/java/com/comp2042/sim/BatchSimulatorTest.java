@@ -0,0 +1,44 @@
+package com.comp2042.sim;
+
+import com.comp2042.logic.bricks.SevenBagGenerator;
+import com.comp2042.logic.core.GameSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulatorTest {
+
+    private static BatchReport runOn(int threads, long[] seeds) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return new BatchSimulator(pool, seed -> new GameSession(new SevenBagGenerator(seed)),
+                    RandomPolicy::new, 200).run(seeds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testResultsDoNotDependOnParallelism() {
+        long[] seeds = new long[24];
+        for (int i = 0; i < seeds.length; i++) seeds[i] = 1000 + i;
+
+        BatchReport serial = runOn(1, seeds);
+        BatchReport parallel = runOn(4, seeds);
+
+        assertEquals(seeds.length, parallel.getGameCount());
+        for (int i = 0; i < seeds.length; i++) {
+            GameResult a = serial.getResult(i);
+            GameResult b = parallel.getResult(i);
+            assertEquals(seeds[i], b.getSeed());
+            assertEquals(a.getPieces(), b.getPieces());
+            assertEquals(a.getLines(), b.getLines());
+            assertEquals(a.getScore(), b.getScore());
+            assertTrue(b.getPieces() <= 200);
+        }
+        assertEquals(serial.getScore().getSum(), parallel.getScore().getSum());
+        assertEquals(seeds.length, parallel.getPieces().getCount());
+    }
+}
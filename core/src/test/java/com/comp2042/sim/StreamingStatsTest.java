@@ -0,0 +1,50 @@
+package com.comp2042.sim;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingStatsTest {
+
+    @Test
+    void testMergedSummaryMatchesSingleSummary() {
+        SplittableRandom random = new SplittableRandom(3);
+        long[] values = new long[10_000];
+        StreamingStats all = new StreamingStats();
+        StreamingStats left = new StreamingStats();
+        StreamingStats right = new StreamingStats();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong(1_000_000);
+            all.record(values[i]);
+            (i % 3 == 0 ? left : right).record(values[i]);
+        }
+        left.merge(right);
+
+        assertEquals(all.getCount(), left.getCount());
+        assertEquals(all.getSum(), left.getSum());
+        assertEquals(all.getMean(), left.getMean(), 1e-6);
+        assertEquals(all.getStandardDeviation(), left.getStandardDeviation(), 1e-6);
+        assertEquals(all.getMin(), left.getMin());
+        assertEquals(all.getMax(), left.getMax());
+        assertEquals(all.getPercentile(90), left.getPercentile(90));
+
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        long exactMedian = sorted[values.length / 2 - 1];
+        assertEquals(exactMedian, all.getPercentile(50), exactMedian * 0.04);
+    }
+
+    @Test
+    void testHistogramBucketsAreContiguous() {
+        for (int b = 1; b < 1000; b++) {
+            assertEquals(Histogram.bucketUpperBound(b - 1) + 1, Histogram.bucketLowerBound(b));
+            assertEquals(b, Histogram.bucketOf(Histogram.bucketLowerBound(b)));
+            assertEquals(b, Histogram.bucketOf(Histogram.bucketUpperBound(b)));
+        }
+        assertEquals(new Histogram().getBucketCount() - 1, Histogram.bucketOf(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().record(-1));
+    }
+}
@@ -0,0 +1,366 @@
+package com.comp2042.Controllers;
+
+import com.comp2042.Infrastructure.Audio.MusicManager;
+import com.comp2042.Inputs_Events.EventSource;
+import com.comp2042.Inputs_Events.InputEventListener;
+import com.comp2042.Inputs_Events.MoveEvent;
+import com.comp2042.logic.bricks.GeneratorType;
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.core.BoardView;
+import com.comp2042.logic.core.ClearRow;
+import com.comp2042.logic.core.GameSession;
+import com.comp2042.logic.core.GravityEngine;
+import com.comp2042.logic.core.ViewData;
+import com.comp2042.replay.ReplayAction;
+import com.comp2042.replay.ReplayHeader;
+import com.comp2042.replay.ReplayWriter;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+ * The central game controller responsible for coordinating player input,
+ * the game session, and communication with the GUI layer.
+ * This class listens for movement and gameplay actions from the UI,
+ * forwards them to a {@link GameSession} (which applies the scoring, level
+ * and game-over rules), and passes the resulting state to the
+ * {@link GuiController}. The controller also manages background music,
+ * level-up notifications, line clearing events, and game-over flow.
+ * Every game is seeded and recorded to a replay file in {@code replays/},
+ * see {@link ReplayWriter}.
+ * Gravity and lock delay are timed per frame by a {@link GravityEngine}.
+ * Each row it drops is recorded as a {@link ReplayAction#GRAVITY} input, and
+ * so is the lock when the delay runs out, since that input moves the brick
+ * down a row or locks it when it cannot move.
+ */
+public class GameController implements InputEventListener {
+    /** Directory replays are written to. */
+    private static final Path REPLAY_DIR = Paths.get("replays");
+    /** Piece generator every game is played with. */
+    private static final GeneratorType GENERATOR = GeneratorType.RANDOM;
+    /** The game being played, including its board and rules. */
+    private final GameSession session;
+    /** Recording of the current game. */
+    private ReplayWriter recorder;
+    /** Frame timing of gravity and lock delay. */
+    private final GravityEngine gravity = new GravityEngine(gravityForLevel(1),
+            GravityEngine.DEFAULT_LOCK_DELAY, GravityEngine.DEFAULT_LOCK_RESETS);
+    /** GUI controller used to update and display game state. */
+    private final GuiController viewGuiController;
+    /** Mirrors the session's score for UI binding. */
+    private final SimpleIntegerProperty score = new SimpleIntegerProperty(0);
+    /** Mirrors the session's total cleared lines for UI binding. */
+    private final SimpleIntegerProperty linesCleared = new SimpleIntegerProperty(0);
+    /** Mirrors the session's current level for UI binding. */
+    private final SimpleIntegerProperty level = new SimpleIntegerProperty(1);
+    /** Cached clear-row event so GUI can poll it for animations. */
+    private ClearRow lastClearRow = null;
+
+    /**
+     * Constructs the game controller and performs initial setup:
+     * <ul>
+     *   <li>Starts the gameplay background music</li>
+     *   <li>Binds UI elements to score, level, and line counters</li>
+     *   <li>Initializes the game board and next-piece preview in the GUI</li>
+     * </ul>
+     *
+     * @param gui the GUI controller that handles rendering and input routing
+     */
+    public GameController(GuiController gui) {
+        long seed = ThreadLocalRandom.current().nextLong();
+        session = new GameSession(GENERATOR.create(seed));
+        startRecording(seed);
+        viewGuiController = gui;
+        MusicManager.getInstance().playBGM("gameplay.mp3");
+
+        // wire view <-> controller
+        viewGuiController.setEventListener(this);
+        viewGuiController.initGameView(session.getBoardView(), session.getViewData());
+        viewGuiController.showNextPiece(session.getViewData());
+        viewGuiController.bindScore(score);
+        viewGuiController.bindLines(linesClearedProperty());
+        viewGuiController.bindLevel(levelProperty());
+    }
+
+    /**
+     * Reacts to a brick having been locked by the session: records the
+     * cleared rows, updates the score/level bindings, refreshes the UI, and
+     * handles level-up and game-over.
+     *
+     * @param clearRow the rows cleared by the lock
+     * @return the updated view data after spawning a new brick
+     */
+    private ViewData afterLock(ClearRow clearRow) {
+        int previousLevel = level.get();
+        gravity.reset();
+        lastClearRow = clearRow.getLinesRemoved() > 0 ? clearRow : null;
+        updateStats();
+
+        // Refresh the view immediately after state updates (so bindings reflect new values)
+        refreshView();
+
+        if (level.get() > previousLevel) {
+            viewGuiController.showLevelUp(level.get());
+            increaseSpeed();
+        }
+
+        if (session.isGameOver()) {
+            recorder.finish(session);
+            MusicManager.getInstance().playSFX("game-over-sfx.mp3");
+            MusicManager.getInstance().playBGM("game_over.mp3");
+            // Ask GUI to stop its loop + show game over screen
+            viewGuiController.gameOver();
+        }
+
+        return session.getViewData();
+    }
+
+    /**
+     * Copies the session's score, line count and level into the properties
+     * bound by the GUI.
+     */
+    private void updateStats() {
+        score.set(session.getScore());
+        linesCleared.set(session.getLinesCleared());
+        level.set(session.getLevel());
+    }
+    /**
+     * Returns the last row-clear event and clears the stored reference.
+     * Used by the GUI to animate row removal.
+     *
+     * @return the last {@link ClearRow} event, or {@code null} if none
+     */
+    @Override
+    public ClearRow pollLastClearRow() {
+        ClearRow temp = lastClearRow;
+        lastClearRow = null;
+        return temp;
+    }
+    /**
+     * Refreshes the game board and next-piece preview in the GUI.
+     * Updates both the locked blocks and the current falling brick.
+     */
+    private void refreshView() {
+        viewGuiController.refreshGameBackground(session.getBoardView());
+        viewGuiController.showNextPiece(session.getViewData());
+
+    }
+
+    /**
+     * Handles a soft-drop input event (Move Down). If the brick cannot move down
+     * further, it will be locked into place and a new brick will be spawned.
+     * An event from the game loop instead runs one frame of gravity.
+     *
+     * @param event the {@link MoveEvent} triggering the soft drop; its source
+     *              tells player soft drops from game loop frames
+     * @return the updated {@link ViewData} after the move, or {@code null} if
+     *         a gravity frame changed nothing
+     */
+    @Override
+    public ViewData onDownEvent(MoveEvent event) {
+        if (event != null && event.getEventSource() == EventSource.THREAD) {
+            return onGravityFrame();
+        }
+        recorder.record(ReplayAction.SOFT_DROP);
+        if (!session.moveDown()) {
+            return afterLock(session.lockBrick());
+        }
+        return session.getViewData();
+    }
+
+    /**
+     * Runs one frame of gravity, recording every row the brick falls and the
+     * lock if the lock delay runs out.
+     *
+     * @return the updated {@link ViewData}, or {@code null} if nothing changed
+     */
+    private ViewData onGravityFrame() {
+        int rows = gravity.step(session);
+        for (int i = 0; i < rows; i++) recorder.record(ReplayAction.GRAVITY);
+        if (gravity.isLockDue()) {
+            recorder.record(ReplayAction.GRAVITY);
+            return afterLock(session.lockBrick());
+        }
+        return rows > 0 ? session.getViewData() : null;
+    }
+
+    /**
+     * Handles a hard-drop input event by moving the current brick down to the
+     * lowest possible valid position and locking it.
+     *
+     * @param event the {@link MoveEvent} triggering the hard drop (ignored)
+     * @return the updated {@link ViewData} after the brick is locked and a new
+     *         brick is spawned
+     */
+    @Override
+    public ViewData onHardDropEvent(MoveEvent event) {
+        recorder.record(ReplayAction.HARD_DROP);
+        return afterLock(session.hardDrop());
+    }
+
+
+    /**
+     * Moves the current brick one cell to the left.
+     *
+     * @param event the {@link MoveEvent} triggering the move (ignored)
+     * @return the updated {@link ViewData} after the move
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        recorder.record(ReplayAction.LEFT);
+        if (session.moveLeft()) gravity.onMoved();
+        return session.getViewData();
+    }
+
+    /**
+     * Moves the current brick one cell to the right.
+     *
+     * @param event the {@link MoveEvent} triggering the move (ignored)
+     * @return the updated {@link ViewData} after the move
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        recorder.record(ReplayAction.RIGHT);
+        if (session.moveRight()) gravity.onMoved();
+        return session.getViewData();
+    }
+
+
+    /**
+     * Rotates the current brick to the left (counter-clockwise).
+     *
+     * @param event the {@link MoveEvent} triggering the rotation (ignored)
+     * @return the updated {@link ViewData} after rotation
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        recorder.record(ReplayAction.ROTATE);
+        if (session.rotate()) gravity.onMoved();
+        return session.getViewData();
+    }
+
+    /**
+     * Starts a brand new game by resetting the board, score, lines, level,
+     * and restarting background music. The current recording is closed and
+     * the new game, with a new seed, gets its own.
+     */
+    @Override
+    public void createNewGame() {
+        MusicManager.getInstance().playBGM("gameplay.mp3");
+        recorder.close();
+        long seed = ThreadLocalRandom.current().nextLong();
+        session.newGame(GENERATOR.create(seed));
+        gravity.reset();
+        gravity.setGravity(gravityForLevel(1));
+        startRecording(seed);
+        updateStats();
+        refreshView();
+    }
+
+    /**
+     * Returns the total lines cleared
+     *
+     * @return observable property containing total lines cleared
+     */
+    public IntegerProperty linesClearedProperty() {
+        return linesCleared;
+    }
+
+    /**
+     * Increases the game's drop speed according to the current level.
+     */
+    private void increaseSpeed() {
+        gravity.setGravity(gravityForLevel(level.get()));
+    }
+
+    /**
+     * Returns the gravity of a level: one row every 400 ms at 60 frames per
+     * second at level 1, 20% faster for every level after that.
+     *
+     * @param level the level, from 1
+     * @return gravity in cells per frame
+     */
+    private static double gravityForLevel(int level) {
+        return (1 + (level - 1) * 0.2) / 24.0;
+    }
+
+    /**
+     * Returns the falling brick's progress towards its next row.
+     *
+     * @param alpha fraction of a frame elapsed since the last gravity step
+     * @return a fraction of a row in {@code [0, 1)}
+     */
+    @Override
+    public double getFallProgress(double alpha) {
+        return gravity.getFallProgress(alpha);
+    }
+
+    /**
+     * Returns the player's current level
+     *
+     * @return observable level property
+     */
+    public IntegerProperty levelProperty() {
+        return level;
+    }
+
+    /**
+     * Returns a read-only view of the board for rendering.
+     *
+     * @return the live board view
+     */
+    @Override
+    public BoardView getBoardView() {
+        return session.getBoardView();
+    }
+
+    /**
+     * Handles the hold-piece action.
+     *
+     * @param event the {@link MoveEvent} triggering the hold (ignored)
+     * @return updated view data after hold action
+     */
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        recorder.record(ReplayAction.HOLD);
+        if (session.canHold()) gravity.reset();
+        return session.hold();
+    }
+
+    /**
+     * Closes the recording of a game the player walked away from.
+     */
+    @Override
+    public void leaveGame() {
+        recorder.close();
+    }
+
+    /**
+     * Starts recording the current game to a new file named after its start
+     * time and seed.
+     *
+     * @param seed the seed the game's pieces are dealt from
+     */
+    private void startRecording(long seed) {
+        long now = System.currentTimeMillis();
+        ReplayHeader header = new ReplayHeader(GENERATOR, seed, GameSession.BOARD_WIDTH, GameSession.BOARD_HEIGHT,
+                session.getPreviewCount(), now);
+        recorder = ReplayWriter.open(REPLAY_DIR.resolve(String.format("game-%d-%016x.replay", now, seed)), header);
+    }
+
+    /**
+     * Returns the shape of the currently held brick.
+     *
+     * @return the held brick's shape, or {@code null} if none held
+     */
+
+    @Override
+    public PieceShape getHeldBrickShape() {
+        return session.getHeldBrickShape();
+    }
+
+
+
+}
@@ -18,6 +18,7 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.text.Font;
+import com.comp2042.logic.core.BoardView;
 import com.comp2042.logic.core.ClearRow;
 import com.comp2042.logic.core.ViewData;
 
@@ -37,7 +38,6 @@ public class GuiController implements Initializable {
 
     private static final int BRICK_SIZE = 20;
     private static final int BRICK_Y_OFFSET = -42;
-    private static final int INITIAL_DROP_DELAY = 400;
 
     /** Main game board gird where locked tiles are rendered*/
     @FXML private GridPane gamePanel;
@@ -69,6 +69,8 @@ public class GuiController implements Initializable {
     private GameLoop gameLoop;
     private PauseManager pauseManager;
     private Main mainApp;
+    /** Preview version of the last brick shown; a new one means a piece locked and the next spawned. */
+    private long shownPreviewVersion = -1;
 
     /**
      * Called automatically by JavaFX after FXML loading.
@@ -108,23 +110,23 @@ public class GuiController implements Initializable {
      * Initializes all visual elements: board, renderer, notifications,
      * next piece, and game loop.
      *
-     * @param boardMatrix matrix representing the board background
+     * @param board read-only view of the board background
      * @param brick initial falling brick view data
      */
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
+    public void initGameView(BoardView board, ViewData brick) {
 
         stopGameLoop();
 
         rendererManager = new RendererManager(gamePanel, brickPanel, nextPiecePanel, holdPiecePanel, BRICK_SIZE);
 
-        rendererManager.initBoard(boardMatrix);
+        rendererManager.initBoard(board);
         rendererManager.renderFalling(brick);
 
         notificationManager = new NotificationManager(groupNotification);
 
         BrickPositioner.update(brickPanel, gamePanel, brick, BRICK_SIZE, BRICK_Y_OFFSET);
         highscoreLabel.setText(String.valueOf(HighScoreManager.loadHighScore()));
-        gameLoop = new GameLoop(INITIAL_DROP_DELAY, e -> onMove(eventListener::onDownEvent, e));
+        gameLoop = new GameLoop(e -> onMove(eventListener::onDownEvent, e), this::onFrame);
         gameLoop.start();
     }
 
@@ -151,6 +153,8 @@ public class GuiController implements Initializable {
 
     /**
      * Unified handler for movement actions such as soft drop or hard drop.
+     * Game loop steps run 60 times a second, so for them the cleared rows
+     * are only polled when a piece locked, and focus is left alone.
      *
      * @param handler function to apply movement
      * @param e       the move event
@@ -161,9 +165,21 @@ public class GuiController implements Initializable {
         ViewData view = handler.apply(e);
         if (view == null) return;
 
-        showRowClear();
+        boolean fromLoop = e.getEventSource() == EventSource.THREAD;
+        if (!fromLoop || view.getPreviewVersion() != shownPreviewVersion) showRowClear();
+        shownPreviewVersion = view.getPreviewVersion();
         refreshBrick(view);
-        requestFocus();
+        if (!fromLoop) requestFocus();
+    }
+
+    /**
+     * Draws the falling brick between rows for the current frame.
+     *
+     * @param alpha fraction of a step elapsed since the last step
+     */
+    private void onFrame(double alpha) {
+        if (pauseManager.isPaused()) return;
+        rendererManager.renderFallOffset(eventListener.getFallProgress(alpha));
     }
 
     /**
@@ -188,17 +204,17 @@ public class GuiController implements Initializable {
         BrickPositioner.update(brickPanel, gamePanel, brick, BRICK_SIZE, BRICK_Y_OFFSET);
 
         rendererManager.renderFalling(brick);
-        rendererManager.renderGhost(brick, eventListener.getBoardMatrix());
-        rendererManager.renderHoldPiece(eventListener.getHeldBrickMatrix());
+        rendererManager.renderGhost(brick, eventListener.getBoardView());
+        rendererManager.renderHoldPiece(eventListener.getHeldBrickShape(), brick.getHoldVersion());
 
     }
 
     /**
      * Updates the board background after line clears or piece locks.
      *
-     * @param board updated background matrix
+     * @param board read-only view of the updated background
      */
-    public void refreshGameBackground(int[][] board) {
+    public void refreshGameBackground(BoardView board) {
         rendererManager.renderBoard(board);
     }
 
@@ -222,6 +238,7 @@ public class GuiController implements Initializable {
     private void handleStartMenu() {
         MusicManager.getInstance().playSFX("button.mp3");
         stopGameLoop();
+        eventListener.leaveGame();
 
         try {
             mainApp.showMainMenu();
@@ -281,15 +298,6 @@ public class GuiController implements Initializable {
     }
 
 
-    /**
-     * Adjusts the game loop speed based on the level.
-     *
-     * @param level the new level
-     */
-    public void setSpeedForLevel(int level) {
-        gameLoop.setRate(1 + (level - 1) * 0.2);
-    }
-
     /**
      * Handles game over: stops loop, saves high score, switches scene.
      */
@@ -1,6 +1,8 @@
 package com.comp2042.Inputs_Events;
 
 
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.core.BoardView;
 import com.comp2042.logic.core.ClearRow;
 import com.comp2042.logic.core.ViewData;
 
@@ -16,7 +18,8 @@ import com.comp2042.logic.core.ViewData;
 public interface InputEventListener {
 
     /**
-     * Handles a standard downward movement (soft drop).
+     * Handles a standard downward movement (soft drop), or, for an event from
+     * {@link EventSource#THREAD}, one frame of gravity and lock delay.
      *
      * @param event the movement event metadata
      * @return updated view data, or null if no update is needed
@@ -57,11 +60,12 @@ public interface InputEventListener {
     ViewData onRotateEvent(MoveEvent event);
 
     /**
-     * Returns the board matrix representing all fixed blocks.
+     * Returns a read-only view of all fixed blocks on the board.
+     * The view is live and is not copied.
      *
-     * @return a 2D integer array of the current board state
+     * @return the current board view
      */
-    int[][] getBoardMatrix();
+    BoardView getBoardView();
 
     /**
      * Starts a new game, resetting the board, score, and active brick.
@@ -86,11 +90,26 @@ public interface InputEventListener {
     ViewData onHoldEvent(MoveEvent event);
 
     /**
-     * Retrieves the matrix for the currently held brick.
+     * Retrieves the shape descriptor of the currently held brick.
      *
-     * @return a 2D array representing the held brick shape, or null if empty
+     * @return the held brick's shape, or null if empty
      */
-    int[][] getHeldBrickMatrix();
+    PieceShape getHeldBrickShape();
+
+    /**
+     * Called when the player leaves the game screen, so the game can release
+     * what it holds, such as its replay recording.
+     */
+    void leaveGame();
+
+    /**
+     * Returns how far the falling brick has progressed towards its next row,
+     * so it can be drawn between rows.
+     *
+     * @param alpha fraction of a frame elapsed since the last gravity step
+     * @return a fraction of a row in {@code [0, 1)}
+     */
+    double getFallProgress(double alpha);
 
 
 }
@@ -0,0 +1,155 @@
+package com.comp2042.UI;
+
+/**
+ * Turns frame timestamps into a whole number of fixed-length simulation
+ * steps, so the game advances at the same rate whatever the frame rate.
+ * <p>
+ * Each call to {@link #advance(long)} adds the time since the previous frame
+ * to an accumulator and takes out as many whole steps as it holds. A late
+ * frame therefore runs several steps to catch up, but never more than the
+ * clamp: after a long hitch the excess is dropped rather than replayed in a
+ * burst. What is left over, as a fraction of a step, is the
+ * {@link #getAlpha() interpolation factor} for drawing between steps.
+ * Late frames and dropped steps are counted, so pacing problems can be seen.
+ * </p>
+ * The clock holds no JavaFX state; timestamps come from the caller, normally
+ * the {@link System#nanoTime()}-based pulse time of an {@code AnimationTimer}.
+ */
+public final class FixedStepClock {
+
+    /** Length of one simulation step, in nanoseconds. */
+    private final long stepNanos;
+
+    /** Most steps run for a single frame. */
+    private final int maxStepsPerFrame;
+
+    /** Timestamp of the previous frame. */
+    private long lastNanos;
+
+    /** Whether {@link #lastNanos} holds a timestamp. */
+    private boolean synced;
+
+    /** Time not yet turned into steps, always below one step after a frame. */
+    private long accumulator;
+
+    /** Number of frames seen. */
+    private long frames;
+
+    /** Number of steps handed out. */
+    private long steps;
+
+    /** Number of frames that needed more than one step. */
+    private long lateFrames;
+
+    /** Number of steps dropped by the clamp. */
+    private long droppedSteps;
+
+    /**
+     * Creates a clock.
+     *
+     * @param stepNanos        length of one simulation step, in nanoseconds
+     * @param maxStepsPerFrame most steps to run for a single frame (at least 1)
+     * @throws IllegalArgumentException if either value is not positive
+     */
+    public FixedStepClock(long stepNanos, int maxStepsPerFrame) {
+        if (stepNanos <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Step length and clamp must be positive");
+        }
+        this.stepNanos = stepNanos;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Accounts for a new frame.
+     *
+     * @param nowNanos the frame's timestamp
+     * @return the number of steps to simulate for this frame; {@code 0} for
+     *         the first frame after a {@link #resync()}
+     */
+    public int advance(long nowNanos) {
+        if (!synced) {
+            lastNanos = nowNanos;
+            synced = true;
+            return 0;
+        }
+        accumulator += Math.max(0L, nowNanos - lastNanos);
+        lastNanos = nowNanos;
+        frames++;
+
+        long due = accumulator / stepNanos;
+        accumulator -= due * stepNanos;
+        if (due > 1) lateFrames++;
+        if (due > maxStepsPerFrame) {
+            droppedSteps += due - maxStepsPerFrame;
+            due = maxStepsPerFrame;
+        }
+        steps += due;
+        return (int) due;
+    }
+
+    /**
+     * Forgets the previous frame's timestamp, so the time until the next
+     * frame is not simulated. Used when resuming from a pause.
+     */
+    public void resync() {
+        synced = false;
+    }
+
+    /**
+     * Resets the clock and all counters.
+     */
+    public void reset() {
+        synced = false;
+        accumulator = 0L;
+        frames = 0L;
+        steps = 0L;
+        lateFrames = 0L;
+        droppedSteps = 0L;
+    }
+
+    /**
+     * Returns how far the current frame lies between the last simulated step
+     * and the next one.
+     *
+     * @return a fraction in {@code [0, 1)}
+     */
+    public double getAlpha() {
+        return (double) accumulator / stepNanos;
+    }
+
+    /**
+     * Returns the length of one simulation step.
+     *
+     * @return nanoseconds
+     */
+    public long getStepNanos() { return stepNanos; }
+
+    /**
+     * Returns the number of frames seen since the last reset.
+     *
+     * @return frame count
+     */
+    public long getFrames() { return frames; }
+
+    /**
+     * Returns the number of steps handed out since the last reset.
+     *
+     * @return step count
+     */
+    public long getSteps() { return steps; }
+
+    /**
+     * Returns the number of frames that arrived more than one step late and
+     * had to catch up.
+     *
+     * @return late frame count
+     */
+    public long getLateFrames() { return lateFrames; }
+
+    /**
+     * Returns the number of steps the catch-up clamp dropped.
+     *
+     * @return dropped step count
+     */
+    public long getDroppedSteps() { return droppedSteps; }
+}
@@ -0,0 +1,150 @@
+package com.comp2042.UI;
+
+import com.comp2042.Inputs_Events.EventSource;
+import com.comp2042.Inputs_Events.EventType;
+import com.comp2042.Inputs_Events.MoveEvent;
+import javafx.animation.AnimationTimer;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Represents the main game loop for Tetris, handling timed updates for piece movement.
+ * <p>
+ * An {@link AnimationTimer} calls the loop once per rendered frame. A
+ * {@link FixedStepClock} turns the frame times into fixed simulation steps
+ * of {@value #STEPS_PER_SECOND} per second, catching up after late frames
+ * up to {@value #MAX_CATCH_UP_STEPS} steps, and the step handler runs once
+ * per step. Gravity and lock delay are counted in these steps by the game
+ * logic, so they run at the same speed however irregular the frames are,
+ * and a hitch is made up on the next frame. After the steps, the frame
+ * handler gets the fraction of a step elapsed since the last one, so the
+ * falling piece can be drawn moving smoothly between rows.
+ * </p>
+ */
+public class GameLoop {
+
+    /** Simulation steps per second. */
+    public static final int STEPS_PER_SECOND = 60;
+
+    /** Most steps simulated for one frame; time beyond that is dropped. */
+    public static final int MAX_CATCH_UP_STEPS = 10;
+
+    /** Event passed on every step: a downward move issued by the game thread. */
+    private static final MoveEvent STEP = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    /** Timer calling the loop once per frame. */
+    private final AnimationTimer timer;
+
+    /** Clock turning frames into steps. */
+    private final FixedStepClock clock = new FixedStepClock(1_000_000_000L / STEPS_PER_SECOND, MAX_CATCH_UP_STEPS);
+
+    /** Called on every step. */
+    private final Consumer<MoveEvent> stepHandler;
+
+    /** Called once per frame with the fraction of a step since the last step. */
+    private final DoubleConsumer frameHandler;
+
+    /** Whether the loop is running and not paused. */
+    private boolean running;
+
+    /**
+     * Constructs a game loop with a step handler.
+     *
+     * @param stepHandler consumer called on every step with a {@link EventType#DOWN} event
+     *                    from {@link EventSource#THREAD}
+     */
+    public GameLoop(Consumer<MoveEvent> stepHandler) {
+        this(stepHandler, alpha -> { });
+    }
+
+    /**
+     * Constructs a game loop with a step handler and a frame handler.
+     *
+     * @param stepHandler  consumer called on every step with a {@link EventType#DOWN} event
+     *                     from {@link EventSource#THREAD}
+     * @param frameHandler called once per frame, after the frame's steps, with
+     *                     the fraction of a step since the last one, in {@code [0, 1)}
+     */
+    public GameLoop(Consumer<MoveEvent> stepHandler, DoubleConsumer frameHandler) {
+        this.stepHandler = stepHandler;
+        this.frameHandler = frameHandler;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                frame(now);
+            }
+        };
+    }
+
+    /**
+     * Runs the steps due for a frame, then the frame handler.
+     *
+     * @param now the frame's timestamp in nanoseconds
+     */
+    private void frame(long now) {
+        int steps = clock.advance(now);
+        for (int i = 0; i < steps && running; i++) {
+            stepHandler.accept(STEP);
+        }
+        if (running) frameHandler.accept(clock.getAlpha());
+    }
+
+    /**
+     * Starts the game loop from the beginning.
+     */
+    public void start() {
+        clock.reset();
+        running = true;
+        timer.start();
+    }
+
+    /**
+     * Stops the game loop completely.
+     */
+    public void stop() {
+        running = false;
+        timer.stop();
+    }
+
+    /**
+     * Pauses the game loop temporarily.
+     */
+    public void pause() {
+        running = false;
+        timer.stop();
+    }
+
+    /**
+     * Resumes the game loop from a paused state. The paused time is not
+     * simulated.
+     */
+    public void resume() {
+        clock.resync();
+        running = true;
+        timer.start();
+    }
+
+    /**
+     * Returns the number of frames that arrived late and had to run several
+     * steps to catch up.
+     *
+     * @return late frame count since the loop was started
+     */
+    public long getLateFrames() { return clock.getLateFrames(); }
+
+    /**
+     * Returns the number of steps dropped because a frame was later than
+     * {@value #MAX_CATCH_UP_STEPS} steps.
+     *
+     * @return dropped step count since the loop was started
+     */
+    public long getDroppedSteps() { return clock.getDroppedSteps(); }
+
+    /**
+     * Returns the number of frames run.
+     *
+     * @return frame count since the loop was started
+     */
+    public long getFrames() { return clock.getFrames(); }
+}
@@ -1,13 +1,21 @@
 package com.comp2042.UI.Renderers;
 
+import com.comp2042.logic.bricks.TetrominoType;
+import com.comp2042.logic.core.BoardView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 /**
  * Handles rendering of the game board in a Tetris-style game using JavaFX.
  * This class manages a grid of {@link Rectangle} objects representing each
  * cell in the game board. It can initialize the board, update it after line
  * clears, and map tetromino IDs to their corresponding colors.
+ * <p>
+ * Refreshes are incremental: the renderer remembers the board version it
+ * last drew and only updates the rows whose {@link BoardView#getRowVersion(int)
+ * row version} is newer, which after a lock is usually the piece's rows.
+ * </p>
  */
 public class BoardRenderer {
 
@@ -17,9 +25,22 @@ public class BoardRenderer {
     /** Size (in pixels) of each individual brick */
     private final int brickSize;
 
+    /** Fill of each cell ID, index 0 being the empty cell. */
+    private static final Paint[] PAINTS = new Paint[TetrominoType.values().length + 1];
+
+    static {
+        for (int id = 0; id < PAINTS.length; id++) PAINTS[id] = TetrominoPalette.getColor(id);
+    }
+
     /** 2D array of {@link Rectangle} representing each cell in the board */
     private Rectangle[][] displayMatrix;
 
+    /** Board last drawn, or {@code null}. */
+    private BoardView drawnBoard;
+
+    /** Version of {@link #drawnBoard} last drawn, or {@code -1} to redraw every row. */
+    private long drawnVersion = -1;
+
 
     /**
      * Constructs a {@code BoardRenderer} for a given game panel and brick size.
@@ -39,14 +60,14 @@ public class BoardRenderer {
      * Typically called once at the start of the game.
      * </p>
      *
-     * @param boardMatrix a 2D integer array representing the board layout
+     * @param board read-only view of the board layout
      */
-    public void initBoard(int[][] boardMatrix) {
+    public void initBoard(BoardView board) {
 
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        displayMatrix = new Rectangle[board.getHeight()][board.getWidth()];
 
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
+        for (int i = 2; i < board.getHeight(); i++) {
+            for (int j = 0; j < board.getWidth(); j++) {
 
                 Rectangle rect = new Rectangle(brickSize, brickSize);
                 rect.setFill(Color.TRANSPARENT);
@@ -60,37 +81,35 @@ public class BoardRenderer {
                 gamePanel.add(rect, j, i - 2);
             }
         }
+        drawnBoard = null;
+        refreshGameBackground(board);
     }
 
 
     /**
      * Updates the board display to reflect the current state of the game matrix.
-     * Should be called after clearing lines or moving tetrominoes.
+     * Should be called after clearing lines or moving tetrominoes. Only the
+     * rows that changed since the last call are touched; nothing is done if
+     * the board has not changed at all.
      *
-     * @param board a 2D integer array representing the current state of the board
+     * @param board read-only view of the current state of the board
      */
-    public void refreshGameBackground(int[][] board) {
+    public void refreshGameBackground(BoardView board) {
         if (displayMatrix == null) return;
-
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                Rectangle rect = displayMatrix[i][j];
-                int id = board[i][j];
-
-                rect.setFill(getColor(id));
-                rect.setArcWidth(9);   // reapply round corners
-                rect.setArcHeight(9);
+        if (board != drawnBoard) {
+            drawnBoard = board;
+            drawnVersion = -1;
+        }
+        long version = board.getVersion();
+        if (version == drawnVersion) return;
+
+        for (int i = 2; i < board.getHeight(); i++) {
+            if (board.getRowVersion(i) <= drawnVersion) continue;
+            Rectangle[] row = displayMatrix[i];
+            for (int j = 0; j < board.getWidth(); j++) {
+                row[j].setFill(PAINTS[board.getCell(i, j)]);
             }
         }
-    }
-    /**
-     * Returns the color corresponding to a tetromino ID.
-     *
-     * @param id the tetromino ID (0 for empty cell)
-     * @return the {@link Color} representing the tetromino type, or transparent if empty
-     */
-    private Color getColor(int id) {
-        if (id == 0) return Color.TRANSPARENT;
-        return com.comp2042.logic.bricks.TetrominoType.values()[id - 1].getColor();
+        drawnVersion = version;
     }
 }
@@ -1,7 +1,8 @@
 package com.comp2042.UI.Renderers;
 
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.core.BoardView;
 import com.comp2042.logic.core.ViewData;
-import com.comp2042.logic.bricks.TetrominoType;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
@@ -19,6 +20,9 @@ import javafx.scene.shape.Rectangle;
  *     <li>Computing ghost drop position</li>
  *     <li>Rendering the ghost piece over the main board</li>
  * </ul>
+ * The falling grid is only rebuilt when the piece's shape changes, and the
+ * ghost only when its {@link ViewData#getGhostVersion() version} changes; a
+ * moved ghost hides just the cells it covered before.
  */
 public class BrickRenderer {
 
@@ -47,6 +51,18 @@ public class BrickRenderer {
     /** Full board matrix of rectangles used for the ghost projection. */
     private Rectangle[][] ghostRects;
 
+    /** Shape last drawn in the falling grid, or {@code null}. */
+    private PieceShape drawnShape;
+
+    /** Ghost version last drawn, or {@code -1}. */
+    private long drawnGhostVersion = -1;
+
+    /** Ghost rectangles currently shown. */
+    private final Rectangle[] shownGhost = new Rectangle[MAX_SHAPE * MAX_SHAPE];
+
+    /** Number of entries in {@link #shownGhost}. */
+    private int shownGhostCount;
+
 
     /**
      * Creates a renderer capable of drawing both falling and ghost pieces.
@@ -85,6 +101,7 @@ public class BrickRenderer {
             }
         }
 
+        drawnShape = null;
         renderFalling(brick);
     }
 
@@ -119,16 +136,15 @@ public class BrickRenderer {
     }
 
     /**
-     * Hides all ghost rectangles without removing them from the board.
-     * Maintains buffer for fast re-rendering.
+     * Hides the ghost rectangles shown by the last render without removing
+     * them from the board. Maintains buffer for fast re-rendering.
      */
     private void clearGhost() {
-        if (ghostRects == null) return;
-        for (Rectangle[] row : ghostRects) {
-            for (Rectangle r : row) {
-                if (r != null) r.setVisible(false);
-            }
+        for (int i = 0; i < shownGhostCount; i++) {
+            shownGhost[i].setVisible(false);
+            shownGhost[i] = null;
         }
+        shownGhostCount = 0;
     }
 
 
@@ -143,16 +159,19 @@ public class BrickRenderer {
             return;
         }
 
-        int[][] shape = brick.getBrickData();
+        PieceShape shape = brick.getBrickShape();
+        if (shape == drawnShape) return;
+        drawnShape = shape;
+        Paint color = getColor(shape.getId());
 
         for (int r = 0; r < MAX_SHAPE; r++) {
             for (int c = 0; c < MAX_SHAPE; c++) {
 
                 Rectangle rect = fallingRects[r][c];
-                boolean filled = r < shape.length && c < shape[r].length && shape[r][c] != 0;
+                boolean filled = shape.isFilled(r, c);
 
                 rect.setVisible(filled);
-                rect.setFill(filled ? getColor(shape[r][c]) : Color.TRANSPARENT);
+                rect.setFill(filled ? color : Color.TRANSPARENT);
 
                 if (filled) {
                     GridPane.setRowIndex(rect, r);
@@ -166,70 +185,38 @@ public class BrickRenderer {
 
     /**
      * Renders the ghost projection of the current falling tetromino.
-     * The ghost appears at the lowest valid Y position before collision.
+     * The ghost appears at the landing row carried in the view data, so no
+     * collision search is done here.
      *
      * @param viewData the falling tetromino's view data
-     * @param board    the current board matrix used for collision detection
+     * @param board    read-only view of the board, used for its dimensions
      */
-    public void renderGhost(ViewData viewData, int[][] board) {
-        int[][] shape = viewData.getBrickData();
+    public void renderGhost(ViewData viewData, BoardView board) {
+        if (viewData.getGhostVersion() == drawnGhostVersion && ghostRects != null) return;
+        drawnGhostVersion = viewData.getGhostVersion();
+        PieceShape shape = viewData.getBrickShape();
         int x = viewData.getxPosition();
-        int y = viewData.getyPosition();
+        int ghostY = viewData.getGhostYPosition();
 
-        ensureGhostArray(board.length, board[0].length);
+        ensureGhostArray(board.getHeight(), board.getWidth());
         clearGhost();
 
-        // compute ghost Y
-        int ghostY = y;
-        while (!collides(board, shape, x, ghostY + 1)) ghostY++;
-
         // draw ghost
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] == 0) continue;
-
-                int br = ghostY + r;
-                int bc = x + c;
-
-                if (br < BOARD_OFFSET || br >= board.length) continue;
-
-                Rectangle g = ghostRects[br][bc];
-                Color col = (Color) getColor(shape[r][c]);
-
-                g.setFill(Color.color(col.getRed(), col.getGreen(), col.getBlue(), ghostOpacity));
-                g.setVisible(true);
-            }
+        Color col = (Color) getColor(shape.getId());
+        Color ghostColor = Color.color(col.getRed(), col.getGreen(), col.getBlue(), ghostOpacity);
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int br = ghostY + shape.getCellRow(i);
+            int bc = x + shape.getCellCol(i);
+
+            if (br < BOARD_OFFSET || br >= board.getHeight()) continue;
+
+            Rectangle g = ghostRects[br][bc];
+            g.setFill(ghostColor);
+            g.setVisible(true);
+            if (shownGhostCount < shownGhost.length) shownGhost[shownGhostCount++] = g;
         }
     }
 
-    /**
-     * Checks whether placing the tetromino at the given position would collide
-     * with the board boundaries or another block.
-     *
-     * @param board board matrix
-     * @param shape tetromino shape
-     * @param x     leftmost position
-     * @param y     topmost position
-     * @return {@code true} if a collision occurs
-     */
-    private boolean collides(int[][] board, int[][] shape, int x, int y) {
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] == 0) continue;
-
-                int br = y + r;
-                int bc = x + c;
-
-                if (br < 0 || br >= board.length) return true;
-                if (bc < 0 || bc >= board[0].length) return true;
-                if (board[br][bc] != 0) return true;
-            }
-        }
-        return false;
-    }
-
-
-
     /**
      * Returns the color associated with a tetromino ID.
      *
@@ -237,7 +224,6 @@ public class BrickRenderer {
      * @return a {@link Paint} object representing the assigned color
      */
     private Paint getColor(int id) {
-        if (id == 0) return Color.TRANSPARENT;
-        return TetrominoType.values()[id - 1].getColor();
+        return TetrominoPalette.getColor(id);
     }
 }
@@ -0,0 +1,252 @@
+package com.comp2042.UI.Renderers;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.core.BoardView;
+import com.comp2042.logic.core.ViewData;
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Draws the whole playfield on a single {@link Canvas}: locked cells, ghost
+ * and falling piece in one pass, from pre-rendered {@link CellSprites}.
+ * <p>
+ * Unlike the node renderer, which keeps a styled {@code Rectangle} per cell
+ * and sends every change through CSS and layout, this adds one node to the
+ * scene graph. The render calls only record what changed and schedule a
+ * redraw; calls made while a redraw is pending share it, so a move that
+ * updates the falling piece and the ghost paints the canvas once. The board
+ * and falling piece are read at paint time, so the latest state is drawn.
+ * </p>
+ * <p>
+ * Each paint is a delta: the cells the ghost and falling piece covered last
+ * time are restored, the rows whose {@link BoardView#getRowVersion(int) row
+ * version} is newer than the last board version drawn are repainted, and the
+ * pieces are drawn on top. A move therefore costs a handful of image copies,
+ * and a lock only the rows it changed.
+ * </p>
+ * <p>
+ * While the falling piece can still fall, it is drawn lowered by the
+ * {@link #renderFallOffset(double) fall offset}, so it glides between rows
+ * instead of jumping once per gravity tick.
+ * </p>
+ */
+public class CanvasPlayfieldRenderer implements PlayfieldRenderer {
+
+    /** Number of invisible rows above the visible board. */
+    private static final int BOARD_OFFSET = 2;
+
+    /** Most cells the ghost and falling piece can cover together; a lowered piece spans two rows per cell. */
+    private static final int OVERLAY_CAPACITY = 3 * 4 * 4;
+
+    /** Panel the canvas is placed in. */
+    private final GridPane boardPanel;
+
+    /** Pixel size of an individual brick cell. */
+    private final int brickSize;
+
+    /** Distance in pixels between the left edges of adjacent columns. */
+    private final double columnPitch;
+
+    /** Distance in pixels between the top edges of adjacent rows. */
+    private final double rowPitch;
+
+    /** The canvas; {@code null} until {@link #initBoard(BoardView)}. */
+    private Canvas canvas;
+
+    /** Sprites for every cell kind; painted in {@link #initBoard(BoardView)}. */
+    private CellSprites sprites;
+
+    /** Board to draw, or {@code null}. */
+    private BoardView board;
+
+    /** Falling piece to draw, or {@code null}. */
+    private ViewData falling;
+
+    /** Piece whose ghost to draw, or {@code null}. */
+    private ViewData ghost;
+
+    /** Piece version of the last falling piece passed in, or {@code -1}. */
+    private long fallingVersion = -1;
+
+    /** Ghost version of the last ghost passed in, or {@code -1}. */
+    private long ghostVersion = -1;
+
+    /** Progress of the falling piece towards its next row, in rows. */
+    private double fallOffset;
+
+    /** Whether a redraw has been scheduled and not yet run. */
+    private boolean redrawPending;
+
+    /** Board last painted, or {@code null}. */
+    private BoardView drawnBoard;
+
+    /** Version of {@link #drawnBoard} last painted, or {@code -1} to repaint every row. */
+    private long drawnVersion = -1;
+
+    /** Board rows of the cells covered by the last painted pieces. */
+    private final int[] overlayRows = new int[OVERLAY_CAPACITY];
+
+    /** Columns of the cells covered by the last painted pieces. */
+    private final int[] overlayCols = new int[OVERLAY_CAPACITY];
+
+    /** Number of cells covered by the last painted pieces. */
+    private int overlayCount;
+
+    /**
+     * Creates a canvas playfield renderer. The cell spacing follows the
+     * panel's gaps, so cells line up with the node renderer's layout.
+     *
+     * @param boardPanel the GridPane the canvas is placed in
+     * @param brickSize  the size in pixels of each block
+     */
+    public CanvasPlayfieldRenderer(GridPane boardPanel, int brickSize) {
+        this.boardPanel = boardPanel;
+        this.brickSize = brickSize;
+        this.columnPitch = brickSize + boardPanel.getHgap();
+        this.rowPitch = brickSize + boardPanel.getVgap();
+    }
+
+    /**
+     * Creates the canvas, paints the sprites and draws the empty board.
+     * Must run on the JavaFX application thread.
+     *
+     * @param board read-only view of the board layout
+     */
+    @Override
+    public void initBoard(BoardView board) {
+        int rows = board.getHeight() - BOARD_OFFSET;
+        int cols = board.getWidth();
+        if (canvas != null) boardPanel.getChildren().remove(canvas);
+        canvas = new Canvas(cols * columnPitch - boardPanel.getHgap(), rows * rowPitch - boardPanel.getVgap());
+        canvas.setMouseTransparent(true);
+        boardPanel.add(canvas, 0, 0);
+        sprites = new CellSprites(brickSize);
+        this.board = board;
+        drawnBoard = null;
+        redraw();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void renderBoard(BoardView board) {
+        this.board = board;
+        requestRedraw();
+    }
+
+    /** Does nothing if the piece version is the one last passed in. */
+    @Override
+    public void renderFalling(ViewData brick) {
+        if (brick == falling && brick.getPieceVersion() == fallingVersion) return;
+        falling = brick;
+        fallingVersion = brick.getPieceVersion();
+        requestRedraw();
+    }
+
+    /** Does nothing if the ghost version is the one last passed in. */
+    @Override
+    public void renderGhost(ViewData brick, BoardView board) {
+        if (brick == ghost && brick.getGhostVersion() == ghostVersion && board == this.board) return;
+        ghost = brick;
+        ghostVersion = brick.getGhostVersion();
+        this.board = board;
+        requestRedraw();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void renderFallOffset(double rows) {
+        if (rows == fallOffset) return;
+        fallOffset = rows;
+        if (falling != null && falling.getyPosition() < falling.getGhostYPosition()) requestRedraw();
+    }
+
+    /**
+     * Schedules a redraw unless one is already pending.
+     */
+    private void requestRedraw() {
+        if (redrawPending || canvas == null) return;
+        redrawPending = true;
+        Platform.runLater(this::redraw);
+    }
+
+    /**
+     * Restores the cells under the previous pieces, repaints the rows that
+     * changed, then paints the ghost and the falling piece.
+     */
+    private void redraw() {
+        redrawPending = false;
+        if (canvas == null || board == null) return;
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        if (board != drawnBoard) {
+            g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            drawnBoard = board;
+            drawnVersion = -1;
+            overlayCount = 0;
+        }
+
+        for (int i = 0; i < overlayCount; i++) {
+            int row = overlayRows[i];
+            int col = overlayCols[i];
+            double x = col * columnPitch;
+            double y = (row - BOARD_OFFSET) * rowPitch;
+            g.clearRect(x, y, columnPitch, rowPitch);
+            g.drawImage(sprites.locked(board.getCell(row, col)), x, y);
+        }
+        overlayCount = 0;
+
+        long version = board.getVersion();
+        if (version != drawnVersion) {
+            int height = board.getHeight();
+            int width = board.getWidth();
+            for (int row = BOARD_OFFSET; row < height; row++) {
+                if (board.getRowVersion(row) <= drawnVersion) continue;
+                double y = (row - BOARD_OFFSET) * rowPitch;
+                g.clearRect(0, y, canvas.getWidth(), rowPitch);
+                for (int col = 0; col < width; col++) {
+                    g.drawImage(sprites.locked(board.getCell(row, col)), col * columnPitch, y);
+                }
+            }
+            drawnVersion = version;
+        }
+
+        if (ghost != null && ghost.getBrickShape() != null) {
+            PieceShape shape = ghost.getBrickShape();
+            drawPiece(g, shape, ghost.getxPosition(), ghost.getGhostYPosition(), 0.0, sprites.ghost(shape.getId()));
+        }
+        if (falling != null && falling.getBrickShape() != null) {
+            PieceShape shape = falling.getBrickShape();
+            double offset = falling.getyPosition() < falling.getGhostYPosition() ? fallOffset : 0.0;
+            drawPiece(g, shape, falling.getxPosition(), falling.getyPosition(), offset, sprites.falling(shape.getId()));
+        }
+    }
+
+    /**
+     * Draws the visible cells of a piece and remembers them, so the next
+     * paint can restore the board underneath.
+     *
+     * @param g      the canvas graphics
+     * @param shape  the piece's shape
+     * @param x      board column of the shape's origin
+     * @param y      board row of the shape's origin
+     * @param offset how far below row {@code y} to draw the shape, in rows
+     * @param sprite sprite of one cell
+     */
+    private void drawPiece(GraphicsContext g, PieceShape shape, int x, int y, double offset, Image sprite) {
+        int height = board.getHeight();
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = y + shape.getCellRow(i);
+            int col = x + shape.getCellCol(i);
+            if (row < BOARD_OFFSET || row >= height || overlayCount + 2 > OVERLAY_CAPACITY) continue;
+            g.drawImage(sprite, col * columnPitch, (row - BOARD_OFFSET + offset) * rowPitch);
+            overlayRows[overlayCount] = row;
+            overlayCols[overlayCount++] = col;
+            if (offset > 0 && row + 1 < height) {
+                overlayRows[overlayCount] = row + 1;
+                overlayCols[overlayCount++] = col;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.comp2042.UI.Renderers;
+
+import com.comp2042.logic.bricks.TetrominoType;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+/**
+ * Pre-rendered images of every kind of cell the playfield shows, so that a
+ * frame is drawn with image copies only.
+ * <p>
+ * Each sprite is painted once, with the same rounded corners and outlines
+ * the node renderer gets from {@code Rectangle} arcs and the
+ * {@code cell-style} stylesheet, and snapshotted to an {@link Image}. There
+ * are sprites for an empty cell, for a locked, a falling and a ghost cell of
+ * each tetromino; all are indexed by cell ID. Snapshots are taken on the
+ * JavaFX application thread.
+ * </p>
+ */
+final class CellSprites {
+
+    /** Arc width and height of a cell's rounded corners. */
+    private static final double ARC = 9;
+
+    /** Outline colour of board cells, as in the {@code cell-style} class. */
+    private static final Color OUTLINE = Color.web("#333333");
+
+    /** Outline width of board cells. */
+    private static final double OUTLINE_WIDTH = 0.5;
+
+    /** Opacity of ghost cells: the node renderer applies 0.45 to both the fill and the node. */
+    private static final double GHOST_ALPHA = 0.45 * 0.45;
+
+    /** Locked cells by ID; index 0 is the empty cell outline. */
+    private final Image[] locked;
+
+    /** Falling-piece cells by ID; index 0 is unused. */
+    private final Image[] falling;
+
+    /** Ghost cells by ID; index 0 is unused. */
+    private final Image[] ghost;
+
+    /**
+     * Paints all sprites at the given cell size.
+     *
+     * @param size cell size in pixels
+     */
+    CellSprites(int size) {
+        int count = TetrominoType.values().length + 1;
+        locked = new Image[count];
+        falling = new Image[count];
+        ghost = new Image[count];
+        Canvas scratch = new Canvas(size, size);
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        locked[0] = paint(scratch, params, Color.TRANSPARENT, true);
+        for (int id = 1; id < count; id++) {
+            Color color = TetrominoPalette.getColor(id);
+            locked[id] = paint(scratch, params, color, true);
+            falling[id] = paint(scratch, params, color, false);
+            ghost[id] = paint(scratch, params,
+                    Color.color(color.getRed(), color.getGreen(), color.getBlue(), GHOST_ALPHA), false);
+        }
+    }
+
+    /**
+     * Paints one cell on the scratch canvas and snapshots it.
+     *
+     * @param scratch  canvas of one cell
+     * @param params   snapshot parameters with a transparent background
+     * @param fill     cell colour
+     * @param outlined whether to stroke the board-cell outline
+     * @return the sprite
+     */
+    private static Image paint(Canvas scratch, SnapshotParameters params, Color fill, boolean outlined) {
+        GraphicsContext g = scratch.getGraphicsContext2D();
+        double size = scratch.getWidth();
+        g.clearRect(0, 0, size, size);
+        g.setFill(fill);
+        g.fillRoundRect(0, 0, size, size, ARC, ARC);
+        if (outlined) {
+            double inset = OUTLINE_WIDTH / 2;
+            g.setStroke(OUTLINE);
+            g.setLineWidth(OUTLINE_WIDTH);
+            g.strokeRoundRect(inset, inset, size - OUTLINE_WIDTH, size - OUTLINE_WIDTH, ARC, ARC);
+        }
+        return scratch.snapshot(params, null);
+    }
+
+    /**
+     * Returns the sprite of a locked cell.
+     *
+     * @param id cell ID, or {@code 0} for an empty cell
+     * @return the sprite
+     */
+    Image locked(int id) { return locked[id]; }
+
+    /**
+     * Returns the sprite of a falling-piece cell.
+     *
+     * @param id tetromino ID (1–7)
+     * @return the sprite
+     */
+    Image falling(int id) { return falling[id]; }
+
+    /**
+     * Returns the sprite of a ghost cell.
+     *
+     * @param id tetromino ID (1–7)
+     * @return the sprite
+     */
+    Image ghost(int id) { return ghost[id]; }
+}
@@ -0,0 +1,60 @@
+package com.comp2042.UI.Renderers;
+
+import com.comp2042.logic.core.BoardView;
+import com.comp2042.logic.core.ViewData;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Draws the playfield with scene-graph nodes: a {@link BoardRenderer} for
+ * the locked cells and a {@link BrickRenderer} for the falling and ghost
+ * pieces, one {@code Rectangle} per cell.
+ */
+public class NodePlayfieldRenderer implements PlayfieldRenderer {
+
+    /** Renderer for the board and locked tiles. */
+    private final BoardRenderer boardRenderer;
+
+    /** Unified renderer for falling and ghost bricks. */
+    private final BrickRenderer brickRenderer;
+
+    /**
+     * Creates a node-based playfield renderer.
+     *
+     * @param boardPanel the GridPane for locked blocks and ghost projection
+     * @param brickPanel the GridPane for the falling tetromino
+     * @param brickSize  the size in pixels of each block
+     */
+    public NodePlayfieldRenderer(GridPane boardPanel, GridPane brickPanel, int brickSize) {
+        this.boardRenderer = new BoardRenderer(boardPanel, brickSize);
+        this.brickRenderer = new BrickRenderer(brickPanel, boardPanel, brickSize);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void initBoard(BoardView board) {
+        boardRenderer.initBoard(board);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void renderBoard(BoardView board) {
+        boardRenderer.refreshGameBackground(board);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void renderFalling(ViewData brick) {
+        brickRenderer.renderFalling(brick);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void renderGhost(ViewData brick, BoardView board) {
+        brickRenderer.renderGhost(brick, board);
+    }
+
+    /** Does nothing: the node backend draws the falling piece on whole rows. */
+    @Override
+    public void renderFallOffset(double rows) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.comp2042.UI.Renderers;
+
+import com.comp2042.logic.core.BoardView;
+import com.comp2042.logic.core.ViewData;
+
+/**
+ * Draws the playfield: the locked cells of the board, the ghost projection
+ * and the falling piece. {@link RendererManager} delegates to one
+ * implementation, chosen by {@link RenderBackend}.
+ */
+public interface PlayfieldRenderer {
+
+    /**
+     * Prepares the playfield for a board of the given size and draws it.
+     *
+     * @param board read-only view of the board layout
+     */
+    void initBoard(BoardView board);
+
+    /**
+     * Redraws the locked cells of the board.
+     *
+     * @param board read-only view of the current board
+     */
+    void renderBoard(BoardView board);
+
+    /**
+     * Redraws the falling piece.
+     *
+     * @param brick view data of the falling piece
+     */
+    void renderFalling(ViewData brick);
+
+    /**
+     * Redraws the ghost projection of the falling piece at its landing row.
+     *
+     * @param brick view data of the falling piece
+     * @param board read-only view of the board, used for its dimensions
+     */
+    void renderGhost(ViewData brick, BoardView board);
+
+    /**
+     * Sets how far the falling piece has progressed towards its next row,
+     * for drawing it between rows. Ignored while the piece is resting on the
+     * stack.
+     *
+     * @param rows fraction of a row, in {@code [0, 1)}
+     */
+    void renderFallOffset(double rows);
+}
@@ -0,0 +1,92 @@
+package com.comp2042.UI.Renderers;
+
+import com.comp2042.logic.bricks.PieceShape;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Renders a tetromino preview inside a small 2D grid panel.
+ * This renderer is used for the "Next Piece" and "Hold Piece" displays.
+ * It draws a compact version of the tetromino using a simple matrix
+ * representation, without applying board offsets or ghost effects.
+ * <p>
+ * The panel holds a fixed pool of cells, one per cell a 4×4 piece can fill,
+ * created once and moved, recoloured and shown or hidden as the piece
+ * changes. Hidden cells are left out of layout, so the panel sizes itself to
+ * the piece as before. Each render call carries a version stamp and does
+ * nothing when it matches the one last drawn.
+ * </p>
+ */
+public class PreviewRenderer {
+
+    /** Most cells a piece can fill. */
+    private static final int POOL_SIZE = 4 * 4;
+
+    /** The preview panel where the tetromino will be rendered. */
+    private final GridPane panel;
+
+    /** Size (in pixels) of each cell in the preview display. */
+    private final int cellSize;
+
+    /** Cell nodes, created on the first render. */
+    private Rectangle[] pool;
+
+    /** Version stamp last drawn, or {@code -1} if nothing has been drawn. */
+    private long drawnVersion = -1;
+
+    /**
+     * Creates a preview renderer for a specific UI panel.
+     *
+     * @param panel    the {@link GridPane} where the preview will be drawn
+     * @param cellSize pixel size of each tetromino cell in the preview
+     */
+    public PreviewRenderer(GridPane panel, int cellSize) {
+        this.panel = panel;
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Renders a tetromino into the preview panel, reusing the pooled cells.
+     * The shape's ID {@code 1–7} maps to {@link TetrominoPalette} colors.
+     *
+     * @param piece   the tetromino shape, or {@code null} to clear the panel
+     * @param version version stamp of the piece; the call is skipped if it
+     *                equals the stamp last drawn
+     */
+    public void render(PieceShape piece, long version) {
+        if (version == drawnVersion && pool != null) return;
+        drawnVersion = version;
+        if (pool == null) createPool();
+
+        int count = piece == null ? 0 : Math.min(piece.getCellCount(), POOL_SIZE);
+        Color color = piece == null ? Color.TRANSPARENT : TetrominoPalette.getColor(piece.getId());
+        for (int i = 0; i < POOL_SIZE; i++) {
+            Rectangle rect = pool[i];
+            boolean used = i < count;
+            if (used) {
+                rect.setFill(color);
+                GridPane.setConstraints(rect, piece.getCellCol(i), piece.getCellRow(i));
+            }
+            rect.setVisible(used);
+            rect.setManaged(used);
+        }
+    }
+
+    /**
+     * Replaces the panel's children with the pooled cells, all hidden.
+     */
+    private void createPool() {
+        pool = new Rectangle[POOL_SIZE];
+        panel.getChildren().clear();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            Rectangle rect = new Rectangle(cellSize, cellSize);
+            rect.setArcWidth(6);
+            rect.setArcHeight(6);
+            rect.setVisible(false);
+            rect.setManaged(false);
+            pool[i] = rect;
+            panel.add(rect, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.comp2042.UI.Renderers;
+
+import java.util.Locale;
+
+/**
+ * The ways the playfield can be drawn.
+ */
+public enum RenderBackend {
+
+    /** One styled {@code Rectangle} node per cell, as {@link BoardRenderer} and {@link BrickRenderer} do. */
+    NODES,
+
+    /** A single {@code Canvas} painted from pre-rendered cell sprites by {@link CanvasPlayfieldRenderer}. */
+    CANVAS;
+
+    /** System property that selects the backend, {@code nodes} or {@code canvas}. */
+    public static final String PROPERTY = "tetris.renderer";
+
+    /**
+     * Returns the backend named by the {@value #PROPERTY} system property.
+     *
+     * @return the named backend, or {@link #CANVAS} if the property is unset or unknown
+     */
+    public static RenderBackend fromSystemProperty() {
+        String name = System.getProperty(PROPERTY, "");
+        return "nodes".equals(name.toLowerCase(Locale.ROOT)) ? NODES : CANVAS;
+    }
+}
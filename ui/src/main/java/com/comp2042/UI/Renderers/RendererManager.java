@@ -0,0 +1,153 @@
+package com.comp2042.UI.Renderers;
+
+import com.comp2042.logic.bricks.PieceShape;
+import com.comp2042.logic.core.BoardView;
+import com.comp2042.logic.core.ViewData;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Coordinates all rendering components of the Tetris UI.
+ *
+ * This manager integrates:
+ * <ul>
+ *     <li>a {@link PlayfieldRenderer} for the locked blocks, falling and ghost
+ *     pieces: by default a {@link CanvasPlayfieldRenderer}, or with the
+ *     {@link RenderBackend#NODES} backend a {@link BoardRenderer} and a
+ *     {@link BrickRenderer}</li>
+ *     <li>{@link PreviewRenderer} for the next and hold piece panels</li>
+ * </ul>
+ * It provides unified methods to initialize and render each component.
+ */
+public class RendererManager {
+
+    /** Renderer for the locked tiles and the falling and ghost bricks. */
+    private final PlayfieldRenderer playfieldRenderer;
+
+    /** Renderer for the next-piece preview panel. */
+    private final PreviewRenderer nextRenderer;
+    /** Renderer for the hold-piece preview panel. */
+    private final PreviewRenderer holdRenderer;
+
+
+    /**
+     * Constructs a renderer manager on the backend selected by the
+     * {@value RenderBackend#PROPERTY} system property.
+     *
+     * @param boardPanel      the GridPane for locked blocks and ghost projection
+     * @param brickPanel      the GridPane for the falling tetromino
+     * @param nextPiecePanel  the GridPane for the next piece preview
+     * @param holdPiecePanel  the GridPane for the hold piece preview
+     * @param brickSize       the size in pixels of each block
+     */
+    public RendererManager(
+            GridPane boardPanel,
+            GridPane brickPanel,
+            GridPane nextPiecePanel,
+            GridPane holdPiecePanel,
+            int brickSize
+    ) {
+        this(boardPanel, brickPanel, nextPiecePanel, holdPiecePanel, brickSize, RenderBackend.fromSystemProperty());
+    }
+
+    /**
+     * Constructs a renderer manager to coordinate all Tetris rendering systems.
+     *
+     * @param boardPanel      the GridPane for locked blocks and ghost projection
+     * @param brickPanel      the GridPane for the falling tetromino
+     * @param nextPiecePanel  the GridPane for the next piece preview
+     * @param holdPiecePanel  the GridPane for the hold piece preview
+     * @param brickSize       the size in pixels of each block
+     * @param backend         how to draw the playfield; the canvas backend
+     *                        draws the falling piece on the board and leaves
+     *                        {@code brickPanel} empty
+     */
+    public RendererManager(
+            GridPane boardPanel,
+            GridPane brickPanel,
+            GridPane nextPiecePanel,
+            GridPane holdPiecePanel,
+            int brickSize,
+            RenderBackend backend
+    ) {
+        this.playfieldRenderer = backend == RenderBackend.CANVAS
+                ? new CanvasPlayfieldRenderer(boardPanel, brickSize)
+                : new NodePlayfieldRenderer(boardPanel, brickPanel, brickSize);
+
+        this.nextRenderer = new PreviewRenderer(nextPiecePanel, 18);
+        this.holdRenderer = new PreviewRenderer(holdPiecePanel, 18);
+    }
+
+
+
+    /**
+     * Initializes the board renderer with the given board.
+     *
+     * @param board read-only view of the board's current state
+     */
+    public void initBoard(BoardView board) {
+        playfieldRenderer.initBoard(board);
+    }
+
+    /**
+     * Refreshes the board rendering from the provided board.
+     *
+     * @param board read-only view of the board's current state
+     */
+    public void renderBoard(BoardView board) {
+        playfieldRenderer.renderBoard(board);
+    }
+
+    /**
+     * Renders the falling brick on the board.
+     *
+     * @param brick the view data for the falling piece
+     */
+    public void renderFalling(ViewData brick) {
+        playfieldRenderer.renderFalling(brick);
+    }
+
+
+
+    /**
+     * Renders the ghost piece based on the current falling brick
+     * and board state.
+     *
+     * @param brick the view data for the falling piece
+     * @param board read-only view of the current board
+     */
+    public void renderGhost(ViewData brick, BoardView board) {
+        playfieldRenderer.renderGhost(brick, board);
+    }
+
+
+    /**
+     * Sets how far the falling piece has progressed towards its next row, so
+     * backends that support it can draw it moving smoothly.
+     *
+     * @param rows fraction of a row, in {@code [0, 1)}
+     */
+    public void renderFallOffset(double rows) {
+        playfieldRenderer.renderFallOffset(rows);
+    }
+
+    /**
+     * Renders the next-piece preview panel, unless the preview queue is
+     * unchanged since the last call.
+     *
+     * @param next the view data for the next piece
+     */
+    public void renderNextPiece(ViewData next) {
+        nextRenderer.render(next.getNextBrickShape(), next.getPreviewVersion());
+    }
+
+    /**
+     * Renders the hold-piece preview panel, unless the held piece is
+     * unchanged since the last call.
+     *
+     * @param held    the shape of the currently held piece, or {@code null}
+     * @param version the hold version stamp, from {@link ViewData#getHoldVersion()}
+     */
+    public void renderHoldPiece(PieceShape held, long version) {
+        holdRenderer.render(held, version);
+    }
+}
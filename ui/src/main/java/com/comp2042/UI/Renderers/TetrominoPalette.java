@@ -0,0 +1,51 @@
+package com.comp2042.UI.Renderers;
+
+import com.comp2042.logic.bricks.TetrominoType;
+import javafx.scene.paint.Color;
+
+/**
+ * Maps tetromino IDs to their display colours.
+ * The engine only knows cells by ID ({@code 1–7}, in {@link TetrominoType}
+ * order); the colours are a presentation concern and live here so that the
+ * core module has no JavaFX dependency.
+ */
+public final class TetrominoPalette {
+
+    /** Display colour for each tetromino, indexed by {@code id - 1}. */
+    private static final Color[] COLORS = {
+            Color.web("#A0F0FF"), // I
+            Color.web("#FFF4A3"), // O
+            Color.web("#D8B0FF"), // T
+            Color.web("#E3C8FF"), // L
+            Color.web("#FFD1A8"), // J
+            Color.web("#B7FFCC"), // S
+            Color.web("#FFB0B0")  // Z
+    };
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private TetrominoPalette() {
+    }
+
+    /**
+     * Returns the colour for a cell ID.
+     *
+     * @param id the tetromino ID (1–7), or {@code 0} for an empty cell
+     * @return the tetromino's colour, or transparent if the cell is empty
+     */
+    public static Color getColor(int id) {
+        if (id == 0) return Color.TRANSPARENT;
+        return COLORS[id - 1];
+    }
+
+    /**
+     * Returns the colour of a tetromino type.
+     *
+     * @param type the tetromino type
+     * @return the colour used to render it
+     */
+    public static Color getColor(TetrominoType type) {
+        return COLORS[type.ordinal()];
+    }
+}
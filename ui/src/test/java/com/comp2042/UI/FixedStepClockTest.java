@@ -0,0 +1,47 @@
+package com.comp2042.UI;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedStepClockTest {
+
+    private static final long STEP = 10_000_000L;
+
+    @Test
+    void testStepsFollowElapsedTimeAndKeepRemainder() {
+        FixedStepClock clock = new FixedStepClock(STEP, 5);
+        assertEquals(0, clock.advance(1_000L));
+        assertEquals(0, clock.advance(1_000L + STEP / 2));
+        assertEquals(0.5, clock.getAlpha(), 1e-9);
+        assertEquals(1, clock.advance(1_000L + STEP));
+        assertEquals(0.0, clock.getAlpha(), 1e-9);
+        assertEquals(2, clock.advance(1_000L + 3 * STEP + STEP / 4));
+        assertEquals(0.25, clock.getAlpha(), 1e-9);
+        assertEquals(3, clock.getSteps());
+        assertEquals(1, clock.getLateFrames());
+        assertEquals(0, clock.getDroppedSteps());
+    }
+
+    @Test
+    void testHitchIsClampedAndCounted() {
+        FixedStepClock clock = new FixedStepClock(STEP, 5);
+        clock.advance(0L);
+        assertEquals(5, clock.advance(12 * STEP + 3));
+        assertEquals(7, clock.getDroppedSteps());
+        assertEquals(1, clock.getLateFrames());
+        assertEquals(1, clock.advance(13 * STEP + 3));
+        assertEquals(6, clock.getSteps());
+    }
+
+    @Test
+    void testResyncSkipsPausedTime() {
+        FixedStepClock clock = new FixedStepClock(STEP, 5);
+        clock.advance(0L);
+        assertEquals(0, clock.advance(STEP / 2));
+        clock.resync();
+        assertEquals(0, clock.advance(100 * STEP));
+        assertEquals(1, clock.advance(100 * STEP + STEP / 2));
+        assertEquals(0, clock.getDroppedSteps());
+    }
+}